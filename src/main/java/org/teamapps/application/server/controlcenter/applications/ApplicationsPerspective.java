@@ -114,6 +114,7 @@ public class ApplicationsPerspective extends AbstractManagedApplicationPerspecti
 		TextField appDescriptionField = new TextField();
 		TemplateField<Boolean> appTypeField = UiUtils.createBooleanTemplateField(ApplicationIcons.ERROR, getLocalized("applications.unmanagedApplication"), ApplicationIcons.OK, getLocalized("applications.managedApplication"));
 		TextField installedAppVersionField = new TextField();
+		DisplayField loadTimingsField = new DisplayField(false, true);
 
 		TagComboBox<ApplicationPerspective> appPerspectivesCombo = new TagComboBox<>(BaseTemplate.LIST_ITEM_SMALL_ICON_SINGLE_LINE);
 		appPerspectivesCombo.setWrappingMode(TagBoxWrappingMode.SINGLE_TAG_PER_LINE);
@@ -161,6 +162,7 @@ public class ApplicationsPerspective extends AbstractManagedApplicationPerspecti
 		formLayout.addLabelAndComponent(null, getLocalized("applications.perspectives"), appPerspectivesCombo);
 		formLayout.addLabelAndComponent(null, getLocalized("applications.installedAsMainApp"), asMainAppCombo);
 		formLayout.addLabelAndComponent(null, getLocalized("applications.usdInApplications"), usedInCombo);
+		formLayout.addLabelAndComponent(null, getLocalized("applications.loadTimings"), loadTimingsField);
 
 
 		FormMetaFields formMetaFields = getApplicationInstanceData().getComponentFactory().createFormMetaFields();
@@ -225,6 +227,9 @@ public class ApplicationsPerspective extends AbstractManagedApplicationPerspecti
 					.filter(Objects::nonNull)
 					.distinct()
 					.collect(Collectors.toList()));
+			loadTimingsField.setValue(userSessionData.getRegistry().getApplicationLoadTimings(app.getName()).entrySet().stream()
+					.map(entry -> entry.getKey() + ": " + entry.getValue() + " ms")
+					.collect(Collectors.joining("<br>")));
 
 			applicationDetailsView.getPanel().setIcon(IconUtils.decodeIcon(app.getIcon()));
 			applicationDetailsView.getPanel().setTitle(userSessionData.getApplicationLocalizationProvider(app).getLocalized(app.getTitleKey()));
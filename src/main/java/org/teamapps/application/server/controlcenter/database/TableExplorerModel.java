@@ -33,26 +33,33 @@ import org.teamapps.universaldb.schema.Table;
 import org.teamapps.ux.component.table.AbstractTableModel;
 import org.teamapps.ux.component.timegraph.Interval;
 
-import java.util.ArrayList;
-import java.util.BitSet;
-import java.util.List;
-import java.util.function.Function;
+import java.util.*;
+import java.util.function.IntToLongFunction;
 import java.util.stream.Collectors;
 
 public class TableExplorerModel extends AbstractTableModel<Integer> {
 
+	private static final long SORT_CACHE_MAX_AGE_MILLIS = 60_000;
+	private static final int SORT_CACHE_MAX_ENTRIES = 32;
+	private static final int DIRECT_SORT_MAX_RECORDS = 10_000;
+	private static final Map<String, SortPermutation> SORT_PERMUTATION_CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SortPermutation> eldest) {
+			return size() > SORT_CACHE_MAX_ENTRIES;
+		}
+	});
+
 	private final TableIndex tableIndex;
 	private final boolean deletedRecords;
 	private final ApplicationInstanceData applicationInstanceData;
 
-	private int recordCount;
-	private List<Integer> resultRecords;
-
+	private int[] resultRecords = new int[0];
+	private BitSet queryRecords;
 
 	private String query;
 	private Sorting currentSorting;
 	private Interval timeLineFilterInterval;
-	private Function<Integer, Long> timeFilterDataFunction;
+	private IntToLongFunction timeFilterDataFunction;
 
 	public TableExplorerModel(TableIndex tableIndex, boolean deletedRecords, ApplicationInstanceData applicationInstanceData) {
 		this.tableIndex = tableIndex;
@@ -91,60 +98,106 @@ public class TableExplorerModel extends AbstractTableModel<Integer> {
 		onAllDataChanged().fire();
 	}
 
-	public Function<Integer, Long> createTimeLineDataFunction(FieldIndex timeLineFilterColumn) {
+	public IntToLongFunction createTimeLineDataFunction(FieldIndex timeLineFilterColumn) {
 		if (timeLineFilterColumn.getType() == IndexType.INT) {
 			IntegerIndex index = (IntegerIndex) timeLineFilterColumn;
-			return (id) -> (index.getValue(id) * 1000L);
+			return id -> index.getValue(id) * 1000L;
 		} else {
 			LongIndex index = (LongIndex) timeLineFilterColumn;
 			return index::getValue;
 		}
 	}
 
+	private BitSet getRecordBitSet() {
+		return deletedRecords ? tableIndex.getDeletedRecords() : tableIndex.getRecords();
+	}
+
 	private void executeQuery() {
-		BitSet recordBitSet = deletedRecords ? tableIndex.getDeletedRecords() : tableIndex.getRecords();
-		List<Integer> result = null;
+		BitSet recordBitSet = getRecordBitSet();
+		boolean filtered = false;
 
 		if (query != null && !query.isBlank()) {
 			Filter fullTextFilter = tableIndex.createFullTextFilter(query);
 			recordBitSet = fullTextFilter.filter(recordBitSet);
+			filtered = true;
 		}
+		queryRecords = filtered ? recordBitSet : null;
 
 		if (timeFilterDataFunction != null && timeLineFilterInterval != null) {
+			IntToLongFunction dataFunction = timeFilterDataFunction;
 			BitSet timeLineRecords = new BitSet();
 			long min = timeLineFilterInterval.getMin();
 			long max = timeLineFilterInterval.getMax();
 			for (int id = recordBitSet.nextSetBit(0); id >= 0; id = recordBitSet.nextSetBit(id + 1)) {
-				long value = timeFilterDataFunction.apply(id);
+				long value = dataFunction.applyAsLong(id);
 				if (value >= min && value <= max) {
 					timeLineRecords.set(id);
 				}
 			}
 			recordBitSet = timeLineRecords;
+			filtered = true;
 		}
 
+		int[] result = null;
 		if (currentSorting != null) {
 			FieldIndex columnIndex = tableIndex.getFieldIndex(currentSorting.getSortFieldName());
 			if (columnIndex != null) {
-				List<SortEntry> sortEntries = SortEntry.createSortEntries(recordBitSet);
-				columnIndex.sortRecords(sortEntries, currentSorting.getSortDirection() == SortDirection.ASCENDING, applicationInstanceData.getUser());
-				result = sortEntries.stream().map(entry -> entry.getId()).collect(Collectors.toList());
+				boolean ascending = currentSorting.getSortDirection() == SortDirection.ASCENDING;
+				if (filtered && recordBitSet.cardinality() <= DIRECT_SORT_MAX_RECORDS) {
+					result = sortRecords(columnIndex, recordBitSet, ascending);
+				} else {
+					int[] permutation = getSortPermutation(columnIndex, ascending);
+					result = filtered ? filterPermutation(permutation, recordBitSet) : permutation;
+				}
 			}
 		}
 
 		if (result == null) {
-			result = new ArrayList<>();
-			for (int id = recordBitSet.nextSetBit(0); id >= 0; id = recordBitSet.nextSetBit(id + 1)) {
-				result.add(id);
-			}
+			result = recordBitSet.stream().toArray();
 		}
 		resultRecords = result;
-		recordCount = resultRecords.size();
+	}
+
+	private int[] getSortPermutation(FieldIndex columnIndex, boolean ascending) {
+		String cacheKey = tableIndex.getDatabaseIndex().getName() + "." + tableIndex.getName() + ":" + columnIndex.getName() + ":" + ascending + ":" + deletedRecords + ":" + applicationInstanceData.getUser().getRankedLanguages();
+		long modificationStamp = tableIndex.getCount() * 31L + tableIndex.getDeletedRecordsCount();
+		SortPermutation permutation = SORT_PERMUTATION_CACHE.get(cacheKey);
+		if (permutation != null && permutation.isValid(modificationStamp)) {
+			return permutation.getRecords();
+		}
+		int[] records = sortRecords(columnIndex, getRecordBitSet(), ascending);
+		SORT_PERMUTATION_CACHE.put(cacheKey, new SortPermutation(records, modificationStamp));
+		return records;
+	}
+
+	private int[] sortRecords(FieldIndex columnIndex, BitSet recordBitSet, boolean ascending) {
+		List<SortEntry> sortEntries = SortEntry.createSortEntries(recordBitSet);
+		columnIndex.sortRecords(sortEntries, ascending, applicationInstanceData.getUser());
+		int[] records = new int[sortEntries.size()];
+		for (int i = 0; i < records.length; i++) {
+			records[i] = sortEntries.get(i).getId();
+		}
+		return records;
+	}
+
+	private static int[] filterPermutation(int[] permutation, BitSet recordBitSet) {
+		int[] result = new int[recordBitSet.cardinality()];
+		int pos = 0;
+		for (int id : permutation) {
+			if (recordBitSet.get(id)) {
+				result[pos++] = id;
+			}
+		}
+		return pos == result.length ? result : Arrays.copyOf(result, pos);
+	}
+
+	public BitSet getQueryRecords() {
+		return queryRecords;
 	}
 
 	@Override
 	public int getCount() {
-		return recordCount;
+		return resultRecords.length;
 	}
 
 	public void setSorting(String fieldName, boolean ascending) {
@@ -158,20 +211,32 @@ public class TableExplorerModel extends AbstractTableModel<Integer> {
 
 	@Override
 	public List<Integer> getRecords(int startIndex, int length) {
-		return resultRecords.stream().skip(startIndex).limit(length).collect(Collectors.toList());
-	}
-
-//	private boolean sortingChanged(Sorting sorting) {
-//		if (currentSorting == null && sorting == null) {
-//			return false;
-//		}
-//		if (currentSorting != null && sorting != null &&
-//				currentSorting.getFieldName() != null &&
-//				currentSorting.getFieldName().equals(sorting.getFieldName()) &&
-//				currentSorting.getSorting() == sorting.getSorting()
-//		) {
-//			return false;
-//		}
-//		return true;
-//	}
+		int[] records = resultRecords;
+		int start = Math.max(0, Math.min(startIndex, records.length));
+		int end = Math.min(records.length, start + Math.max(0, length));
+		List<Integer> result = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			result.add(records[i]);
+		}
+		return result;
+	}
+
+	private static class SortPermutation {
+		private final int[] records;
+		private final long modificationStamp;
+		private final long creationTime = System.currentTimeMillis();
+
+		private SortPermutation(int[] records, long modificationStamp) {
+			this.records = records;
+			this.modificationStamp = modificationStamp;
+		}
+
+		private boolean isValid(long stamp) {
+			return modificationStamp == stamp && System.currentTimeMillis() - creationTime < SORT_CACHE_MAX_AGE_MILLIS;
+		}
+
+		private int[] getRecords() {
+			return records;
+		}
+	}
 }
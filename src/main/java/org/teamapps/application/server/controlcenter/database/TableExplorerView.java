@@ -67,9 +67,6 @@ import org.teamapps.ux.component.table.TableColumn;
 import org.teamapps.ux.component.template.BaseTemplate;
 import org.teamapps.ux.component.timegraph.*;
 import org.teamapps.ux.component.timegraph.graph.LineGraph;
-import org.teamapps.ux.component.timegraph.model.LineGraphModel;
-import org.teamapps.ux.component.timegraph.model.timestamps.PartitioningTimestampsLineGraphModel;
-import org.teamapps.ux.component.timegraph.model.timestamps.StaticTimestampsModel;
 
 import java.io.File;
 import java.time.Instant;
@@ -96,6 +93,10 @@ public class TableExplorerView extends AbstractApplicationView {
 		createUi();
 	}
 
+	private TimelineHistogram getTimelineHistogram(TableExplorerModel model, FieldIndex column) {
+		return TimelineHistogram.getHistogram(tableIndex, column.getName(), deletedRecords, model.createTimeLineDataFunction(column));
+	}
+
 	private void createUi() {
 		TableExplorerModel model = new TableExplorerModel(tableIndex, deletedRecords, getApplicationInstanceData());
 
@@ -139,27 +140,9 @@ public class TableExplorerView extends AbstractApplicationView {
 
 			RgbaColor color = Color.MATERIAL_BLUE_700;
 			TimeGraph timeGraph = new TimeGraph();
-			StaticTimestampsModel timestampsModel = new StaticTimestampsModel() {
-				@Override
-				public Interval getDomainX() {
-					Interval domainX = super.getDomainX();
-					long diff = (domainX.getMax() - domainX.getMin()) / 20;
-					return new Interval(domainX.getMin() - diff, domainX.getMax() + diff);
-				}
-			};
-			timeLineColumn.onChanged().addListener(col -> {
-				Function<Integer, Long> timeLineDataFunction = model.createTimeLineDataFunction(col);
-				BitSet recordBitSet = deletedRecords ? tableIndex.getDeletedRecords() : tableIndex.getRecords();
-				long[] data = new long[recordBitSet.cardinality()];
-				int pos = 0;
-				for (int id = recordBitSet.nextSetBit(0); id >= 0; id = recordBitSet.nextSetBit(id + 1)) {
-					data[pos] = timeLineDataFunction.apply(id);
-					pos++;
-				}
-				timestampsModel.setEventTimestamps(data);
-			});
-			timeLineColumn.set(defaultTimeLineColumn);
-			LineGraphModel lineGraphModel = new PartitioningTimestampsLineGraphModel(timestampsModel);
+			TimelineHistogramGraphModel lineGraphModel = new TimelineHistogramGraphModel(getTimelineHistogram(model, defaultTimeLineColumn));
+			timeLineColumn.onChanged().addListener(col -> lineGraphModel.setHistogram(getTimelineHistogram(model, col)));
+			model.onAllDataChanged().addListener(() -> lineGraphModel.setFilter(model.getQueryRecords()));
 			LineGraph lineGraph = new LineGraph(lineGraphModel, LineChartCurveType.MONOTONE, 0.5f, color, color.withAlpha(0.05f));
 			lineGraph.setAreaColorScaleMin(color.withAlpha(0.05f));
 			lineGraph.setAreaColorScaleMax(color.withAlpha(0.5f));
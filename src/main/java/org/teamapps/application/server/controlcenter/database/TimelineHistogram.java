@@ -0,0 +1,309 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.controlcenter.database;
+
+import org.teamapps.universaldb.index.TableIndex;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntToLongFunction;
+
+public class TimelineHistogram {
+
+	private static final Map<TableIndex, Map<String, TimelineHistogram>> HISTOGRAM_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+	public enum Resolution {
+
+		MINUTE(60_000L),
+		HOUR(3_600_000L),
+		DAY(86_400_000L),
+		MONTH(2_629_746_000L),
+
+		;
+
+		private final long approximateMillis;
+
+		Resolution(long approximateMillis) {
+			this.approximateMillis = approximateMillis;
+		}
+
+		public long getApproximateMillis() {
+			return approximateMillis;
+		}
+
+		public long getBucketStart(long timestamp) {
+			if (this == MONTH) {
+				ZonedDateTime dateTime = Instant.ofEpochMilli(timestamp).atZone(ZoneOffset.UTC);
+				return dateTime.toLocalDate().withDayOfMonth(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+			}
+			return Math.floorDiv(timestamp, approximateMillis) * approximateMillis;
+		}
+
+		public static Resolution getResolution(long partitionMillis, ZoneOffset... zoneOffsets) {
+			Resolution result = MINUTE;
+			for (Resolution resolution : values()) {
+				if (resolution.approximateMillis <= partitionMillis && isAligned(resolution, zoneOffsets)) {
+					result = resolution;
+				}
+			}
+			return result;
+		}
+
+		private static boolean isAligned(Resolution resolution, ZoneOffset... zoneOffsets) {
+			if (resolution == MINUTE) {
+				return true;
+			}
+			for (ZoneOffset zoneOffset : zoneOffsets) {
+				boolean aligned = resolution == HOUR ? zoneOffset.getTotalSeconds() % 3_600 == 0 : zoneOffset.equals(ZoneOffset.UTC);
+				if (!aligned) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private final TableIndex tableIndex;
+	private final boolean deletedRecords;
+	private final IntToLongFunction timestampFunction;
+	private final Map<Resolution, long[]> bucketStartsByResolution = new EnumMap<>(Resolution.class);
+	private final Map<Resolution, int[]> bucketCountsByResolution = new EnumMap<>(Resolution.class);
+	private BitSet indexedRecords = new BitSet();
+	private long[] timestampById = new long[0];
+	private long minTimestamp = Long.MAX_VALUE;
+	private long maxTimestamp = Long.MIN_VALUE;
+
+	private TimelineHistogram(TableIndex tableIndex, boolean deletedRecords, IntToLongFunction timestampFunction) {
+		this.tableIndex = tableIndex;
+		this.deletedRecords = deletedRecords;
+		this.timestampFunction = timestampFunction;
+		clear();
+	}
+
+	public static TimelineHistogram getHistogram(TableIndex tableIndex, String fieldName, boolean deletedRecords, IntToLongFunction timestampFunction) {
+		Map<String, TimelineHistogram> tableHistograms = HISTOGRAM_CACHE.computeIfAbsent(tableIndex, table -> new ConcurrentHashMap<>());
+		TimelineHistogram histogram = tableHistograms.computeIfAbsent(fieldName + ":" + deletedRecords, key -> new TimelineHistogram(tableIndex, deletedRecords, timestampFunction));
+		histogram.update();
+		return histogram;
+	}
+
+	private void clear() {
+		for (Resolution resolution : Resolution.values()) {
+			bucketStartsByResolution.put(resolution, new long[0]);
+			bucketCountsByResolution.put(resolution, new int[0]);
+		}
+		indexedRecords = new BitSet();
+		timestampById = new long[0];
+		minTimestamp = Long.MAX_VALUE;
+		maxTimestamp = Long.MIN_VALUE;
+	}
+
+	public synchronized void update() {
+		BitSet records = deletedRecords ? tableIndex.getDeletedRecords() : tableIndex.getRecords();
+		if (records.length() > timestampById.length) {
+			timestampById = Arrays.copyOf(timestampById, records.length());
+		}
+		long[] removedTimestamps = new long[16];
+		int removedCount = 0;
+		long[] addedTimestamps = new long[16];
+		int addedCount = 0;
+		for (int id = indexedRecords.nextSetBit(0); id >= 0; id = indexedRecords.nextSetBit(id + 1)) {
+			if (!records.get(id)) {
+				removedTimestamps = add(removedTimestamps, removedCount++, timestampById[id]);
+			}
+		}
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (int id = records.nextSetBit(0); id >= 0; id = records.nextSetBit(id + 1)) {
+			long timestamp = timestampFunction.applyAsLong(id);
+			min = Math.min(min, timestamp);
+			max = Math.max(max, timestamp);
+			if (indexedRecords.get(id)) {
+				if (timestampById[id] == timestamp) {
+					continue;
+				}
+				removedTimestamps = add(removedTimestamps, removedCount++, timestampById[id]);
+			}
+			addedTimestamps = add(addedTimestamps, addedCount++, timestamp);
+			timestampById[id] = timestamp;
+		}
+		indexedRecords = (BitSet) records.clone();
+		minTimestamp = min;
+		maxTimestamp = max;
+		if (removedCount == 0 && addedCount == 0) {
+			return;
+		}
+		for (Resolution resolution : Resolution.values()) {
+			if (removedCount > 0) {
+				removeFromBuckets(resolution, removedTimestamps, removedCount);
+			}
+			if (addedCount > 0) {
+				long[] bucketStarts = new long[addedCount];
+				for (int i = 0; i < addedCount; i++) {
+					bucketStarts[i] = resolution.getBucketStart(addedTimestamps[i]);
+				}
+				Arrays.sort(bucketStarts);
+				mergeBuckets(resolution, bucketStarts);
+			}
+		}
+	}
+
+	private static long[] add(long[] values, int index, long value) {
+		if (index == values.length) {
+			values = Arrays.copyOf(values, values.length * 2);
+		}
+		values[index] = value;
+		return values;
+	}
+
+	private void removeFromBuckets(Resolution resolution, long[] timestamps, int count) {
+		long[] starts = bucketStartsByResolution.get(resolution);
+		int[] counts = bucketCountsByResolution.get(resolution);
+		for (int i = 0; i < count; i++) {
+			int bucket = getBucketIndex(starts, timestamps[i]);
+			if (bucket >= 0 && counts[bucket] > 0) {
+				counts[bucket]--;
+			}
+		}
+		int size = 0;
+		for (int i = 0; i < starts.length; i++) {
+			if (counts[i] > 0) {
+				starts[size] = starts[i];
+				counts[size] = counts[i];
+				size++;
+			}
+		}
+		bucketStartsByResolution.put(resolution, Arrays.copyOf(starts, size));
+		bucketCountsByResolution.put(resolution, Arrays.copyOf(counts, size));
+	}
+
+	private void mergeBuckets(Resolution resolution, long[] sortedBucketStarts) {
+		long[] starts = bucketStartsByResolution.get(resolution);
+		int[] counts = bucketCountsByResolution.get(resolution);
+		long[] mergedStarts = new long[starts.length + sortedBucketStarts.length];
+		int[] mergedCounts = new int[mergedStarts.length];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < starts.length || j < sortedBucketStarts.length) {
+			long start;
+			int count;
+			if (j >= sortedBucketStarts.length || (i < starts.length && starts[i] <= sortedBucketStarts[j])) {
+				start = starts[i];
+				count = counts[i++];
+			} else {
+				start = sortedBucketStarts[j++];
+				count = 1;
+			}
+			if (size > 0 && mergedStarts[size - 1] == start) {
+				mergedCounts[size - 1] += count;
+			} else {
+				mergedStarts[size] = start;
+				mergedCounts[size] = count;
+				size++;
+			}
+		}
+		bucketStartsByResolution.put(resolution, Arrays.copyOf(mergedStarts, size));
+		bucketCountsByResolution.put(resolution, Arrays.copyOf(mergedCounts, size));
+	}
+
+	public synchronized Buckets getBuckets(Resolution resolution, long from, long to, BitSet filter) {
+		if (filter == null) {
+			long[] starts = bucketStartsByResolution.get(resolution);
+			int[] counts = bucketCountsByResolution.get(resolution);
+			int startIndex = getInsertionIndex(starts, resolution.getBucketStart(from));
+			int endIndex = getInsertionIndex(starts, to + 1);
+			return new Buckets(Arrays.copyOfRange(starts, startIndex, endIndex), Arrays.copyOfRange(counts, startIndex, endIndex));
+		}
+		long[] starts = bucketStartsByResolution.get(resolution);
+		int startIndex = getInsertionIndex(starts, resolution.getBucketStart(from));
+		int endIndex = getInsertionIndex(starts, to + 1);
+		int[] counts = new int[Math.max(0, endIndex - startIndex)];
+		BitSet records = (BitSet) filter.clone();
+		records.and(indexedRecords);
+		for (int id = records.nextSetBit(0); id >= 0; id = records.nextSetBit(id + 1)) {
+			long timestamp = timestampById[id];
+			if (timestamp >= from && timestamp <= to) {
+				int bucket = getBucketIndex(starts, timestamp);
+				if (bucket >= startIndex && bucket < endIndex) {
+					counts[bucket - startIndex]++;
+				}
+			}
+		}
+		int size = 0;
+		long[] filteredStarts = new long[counts.length];
+		int[] filteredCounts = new int[counts.length];
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0) {
+				filteredStarts[size] = starts[startIndex + i];
+				filteredCounts[size] = counts[i];
+				size++;
+			}
+		}
+		return new Buckets(Arrays.copyOf(filteredStarts, size), Arrays.copyOf(filteredCounts, size));
+	}
+
+	private static int getBucketIndex(long[] bucketStarts, long timestamp) {
+		int index = Arrays.binarySearch(bucketStarts, timestamp);
+		return index >= 0 ? index : -index - 2;
+	}
+
+	private static int getInsertionIndex(long[] sortedValues, long value) {
+		int index = Arrays.binarySearch(sortedValues, value);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	public synchronized boolean isEmpty() {
+		return indexedRecords.isEmpty();
+	}
+
+	public synchronized long getMinTimestamp() {
+		return minTimestamp;
+	}
+
+	public synchronized long getMaxTimestamp() {
+		return maxTimestamp;
+	}
+
+	public static class Buckets {
+		private final long[] bucketStarts;
+		private final int[] counts;
+
+		public Buckets(long[] bucketStarts, int[] counts) {
+			this.bucketStarts = bucketStarts;
+			this.counts = counts;
+		}
+
+		public long[] getBucketStarts() {
+			return bucketStarts;
+		}
+
+		public int[] getCounts() {
+			return counts;
+		}
+
+		public int size() {
+			return bucketStarts.length;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.controlcenter.database;
+
+import org.teamapps.ux.component.timegraph.Interval;
+import org.teamapps.ux.component.timegraph.TimePartitioning;
+import org.teamapps.ux.component.timegraph.datapoints.LineGraphData;
+import org.teamapps.ux.component.timegraph.datapoints.LineGraphDataPoint;
+import org.teamapps.ux.component.timegraph.datapoints.ListLineGraphData;
+import org.teamapps.ux.component.timegraph.model.AbstractLineGraphModel;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeMap;
+
+public class TimelineHistogramGraphModel extends AbstractLineGraphModel {
+
+	private static final int MAX_PARTITIONS = 10_000;
+
+	private TimelineHistogram histogram;
+	private BitSet filter;
+
+	public TimelineHistogramGraphModel(TimelineHistogram histogram) {
+		this.histogram = histogram;
+	}
+
+	public void setHistogram(TimelineHistogram histogram) {
+		this.histogram = histogram;
+		onDataChanged.fire();
+	}
+
+	public void setFilter(BitSet filter) {
+		if (this.filter == filter) {
+			return;
+		}
+		this.filter = filter;
+		onDataChanged.fire();
+	}
+
+	@Override
+	public LineGraphData getData(TimePartitioning zoomLevel, ZoneId zoneId, Interval neededInterval, Interval displayedInterval) {
+		histogram.update();
+		ZoneOffset minOffset = zoneId.getRules().getOffset(Instant.ofEpochMilli(neededInterval.getMin()));
+		ZoneOffset maxOffset = zoneId.getRules().getOffset(Instant.ofEpochMilli(neededInterval.getMax()));
+		TimelineHistogram.Resolution resolution = TimelineHistogram.Resolution.getResolution(zoomLevel.getApproximateMillisecondsPerPartition(), minOffset, maxOffset);
+		TimelineHistogram.Buckets buckets = histogram.getBuckets(resolution, neededInterval.getMin(), neededInterval.getMax(), filter);
+
+		TreeMap<Long, Integer> countByPartition = new TreeMap<>();
+		long[] bucketStarts = buckets.getBucketStarts();
+		int[] counts = buckets.getCounts();
+		for (int i = 0; i < buckets.size(); i++) {
+			countByPartition.merge(getPartitionStart(zoomLevel, zoneId, bucketStarts[i]), counts[i], Integer::sum);
+		}
+
+		List<LineGraphDataPoint> dataPoints = new ArrayList<>();
+		ZonedDateTime partition = zoomLevel.getPartitionStart(ZonedDateTime.ofInstant(Instant.ofEpochMilli(neededInterval.getMin()), zoneId));
+		while (partition.toInstant().toEpochMilli() <= neededInterval.getMax() && dataPoints.size() < MAX_PARTITIONS) {
+			long partitionStart = partition.toInstant().toEpochMilli();
+			dataPoints.add(new LineGraphDataPoint(partitionStart, countByPartition.getOrDefault(partitionStart, 0)));
+			partition = zoomLevel.increment(partition);
+		}
+		return new ListLineGraphData(dataPoints, neededInterval);
+	}
+
+	private static long getPartitionStart(TimePartitioning zoomLevel, ZoneId zoneId, long timestamp) {
+		return zoomLevel.getPartitionStart(ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamp), zoneId)).toInstant().toEpochMilli();
+	}
+
+	@Override
+	public Interval getDomainX() {
+		if (histogram.isEmpty()) {
+			long now = System.currentTimeMillis();
+			return new Interval(now - 86_400_000L, now);
+		}
+		long min = histogram.getMinTimestamp();
+		long max = histogram.getMaxTimestamp();
+		long diff = Math.max(60_000L, (max - min) / 20);
+		return new Interval(min - diff, max + diff);
+	}
+}
@@ -23,6 +23,7 @@ import org.teamapps.application.api.application.ApplicationInstanceData;
 import org.teamapps.application.api.localization.Dictionary;
 import org.teamapps.application.api.theme.ApplicationIcons;
 import org.teamapps.application.server.controlcenter.Privileges;
+import org.teamapps.application.server.system.log.SystemLogFacetIndex;
 import org.teamapps.application.server.system.application.AbstractManagedApplicationPerspective;
 import org.teamapps.application.server.system.session.PerspectiveSessionData;
 import org.teamapps.application.server.system.session.UserSessionData;
@@ -56,7 +57,7 @@ import org.teamapps.ux.component.template.BaseTemplate;
 import org.teamapps.ux.component.timegraph.TimeGraph;
 
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -183,10 +184,13 @@ public class SystemLogPerspective extends AbstractManagedApplicationPerspective
 		masterDetailController.createViews(getPerspective(), verticalLayout, formLayout, false);
 		masterDetailController.setDetailComponent(detailsVerticalLayout);
 
-		Runnable onFilterChange = () -> {
-			Predicate<SystemLog> filter = createFilter(logLeveComboBox.getValue(), userComboBox.getValue(), exceptionClassComboBox.getValue(), applicationComboBox.getValue(), perspectiveComboBox.getValue(), applicationVersionComboBox.getValue());
-			entityModelBuilder.setCustomFilter(filter);
-		};
+		Runnable onFilterChange = () -> entityModelBuilder.setCustomFilter(SystemLogFacetIndex.createFilter(
+				logLeveComboBox.getValue(),
+				userComboBox.getValue() != null ? userComboBox.getValue().getId() : 0,
+				exceptionClassComboBox.getValue(),
+				applicationComboBox.getValue() != null ? applicationComboBox.getValue().getId() : 0,
+				perspectiveComboBox.getValue() != null ? perspectiveComboBox.getValue().getId() : 0,
+				applicationVersionComboBox.getValue() != null ? applicationVersionComboBox.getValue().getId() : 0));
 
 		logLeveComboBox.onValueChanged.addListener(value -> onFilterChange.run());
 		userComboBox.onValueChanged.addListener(value -> onFilterChange.run());
@@ -208,31 +212,6 @@ public class SystemLogPerspective extends AbstractManagedApplicationPerspective
 		});
 	}
 
-	private Predicate<SystemLog> createFilter(LogLevel logLevel, User user, String exceptionClass, ManagedApplication managedApplication, ManagedApplicationPerspective managedApplicationPerspective, ApplicationVersion applicationVersion) {
-		if (logLevel == null && managedApplication == null && managedApplicationPerspective == null && applicationVersion == null && user == null && exceptionClass == null) return null;
-		return systemLog -> {
-			if (logLevel != null && !logLevel.equals(systemLog.getLogLevel())) {
-				return false;
-			}
-			if (user != null && systemLog.getMetaCreatedBy() != user.getId()) {
-				return false;
-			}
-			if (exceptionClass != null && !exceptionClass.equals(systemLog.getExceptionClass())) {
-				return false;
-			}
-			if (managedApplication != null && !managedApplication.equals(systemLog.getManagedApplication())) {
-				return false;
-			}
-			if (managedApplicationPerspective != null && !managedApplicationPerspective.equals(systemLog.getManagedPerspective())) {
-				return false;
-			}
-			if (applicationVersion != null && !applicationVersion.equals(systemLog.getApplicationVersion())) {
-				return false;
-			}
-			return true;
-		};
-	}
-
 //	private Predicate<SystemLog> createFilter(LogLevel logLevel, Application application, User user, String exceptionClass) {
 //		if (logLevel == null && application == null && user == null && exceptionClass == null) return null;
 //		return systemLog -> {
@@ -255,6 +234,10 @@ public class SystemLogPerspective extends AbstractManagedApplicationPerspective
 	private ComboBox<LogLevel> createLogLeveComboBox() {
 		ComboBox<LogLevel> comboBox = ComboBoxUtils.createRecordComboBox(Arrays.asList(LogLevel.values()), createLogLevelPropertyProvider(), BaseTemplate.LIST_ITEM_SMALL_ICON_SINGLE_LINE);
 		comboBox.setDropDownTemplate(BaseTemplate.LIST_ITEM_MEDIUM_ICON_SINGLE_LINE);
+		comboBox.setModel(query -> {
+			Map<LogLevel, Integer> counts = SystemLogFacetIndex.getIndex().getLogLevelCounts();
+			return Arrays.stream(LogLevel.values()).filter(counts::containsKey).collect(Collectors.toList());
+		});
 		return comboBox;
 	}
 
@@ -269,13 +252,28 @@ public class SystemLogPerspective extends AbstractManagedApplicationPerspective
 	}
 
 	private ComboBox<String> createExceptionClassComboBox() {
-		Set<String> exceptionClasses = new HashSet<>();
-		SystemLog.getAll().forEach(log -> {
-			if (log.getExceptionClass() != null) {
-				exceptionClasses.add(log.getExceptionClass());
-			}
+		Map<String, Integer> exceptionClassCounts = new ConcurrentHashMap<>();
+		ComboBox<String> comboBox = new ComboBox<>(BaseTemplate.LIST_ITEM_SMALL_ICON_SINGLE_LINE);
+		comboBox.setPropertyProvider((exceptionClass, propertyNames) -> {
+			Map<String, Object> map = new HashMap<>();
+			Integer count = exceptionClassCounts.get(exceptionClass);
+			map.put(BaseTemplate.PROPERTY_ICON, ApplicationIcons.BUG);
+			map.put(BaseTemplate.PROPERTY_CAPTION, count != null ? exceptionClass + " (" + count + ")" : exceptionClass);
+			return map;
 		});
-		return ComboBoxUtils.createRecordComboBox(new ArrayList<>(exceptionClasses), PropertyProviders.createStringPropertyProvider(ApplicationIcons.BUG), BaseTemplate.LIST_ITEM_SMALL_ICON_SINGLE_LINE);
+		comboBox.setRecordToStringFunction(exceptionClass -> exceptionClass);
+		comboBox.setModel(query -> {
+			Map<String, Integer> counts = SystemLogFacetIndex.getIndex().getExceptionClassCounts();
+			exceptionClassCounts.clear();
+			exceptionClassCounts.putAll(counts);
+			return counts.entrySet().stream()
+					.filter(entry -> query == null || query.isBlank() || entry.getKey().toLowerCase().contains(query.toLowerCase()))
+					.sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+					.map(Map.Entry::getKey)
+					.limit(250)
+					.collect(Collectors.toList());
+		});
+		return comboBox;
 	}
 
 
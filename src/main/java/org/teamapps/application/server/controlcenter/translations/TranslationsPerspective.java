@@ -392,6 +392,7 @@ public class TranslationsPerspective extends AbstractManagedApplicationPerspecti
 					localizationValue.setCurrentDisplayValue(localizationValue.getOriginal()).save();
 				}
 			}
+			userSessionData.getRegistry().updateGlobalLocalizationProvider();
 
 		});
 
@@ -437,6 +438,7 @@ public class TranslationsPerspective extends AbstractManagedApplicationPerspecti
 						.setTranslationState(TranslationState.OK)
 						.setTranslationVerificationState(TranslationVerificationState.VERIFICATION_REQUESTED)
 						.save();
+				userSessionData.getRegistry().getGlobalLocalizationProvider().updateLocalizationValue(value);
 				entityModelBuilder.selectNextRecord();
 				UiUtils.showSaveNotification(true, getApplicationInstanceData());
 			}
@@ -456,6 +458,7 @@ public class TranslationsPerspective extends AbstractManagedApplicationPerspecti
 					value
 							.setCurrentDisplayValue(adminKeyOverrideField.getValue() != null ? adminKeyOverrideField.getValue() : adminLocalOverrideField.getValue())
 							.save();
+					userSessionData.getRegistry().getGlobalLocalizationProvider().updateLocalizationValue(value);
 				}
 				UiUtils.showSaveNotification(true, getApplicationInstanceData());
 			}
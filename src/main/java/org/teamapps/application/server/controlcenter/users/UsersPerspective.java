@@ -291,7 +291,7 @@ public class UsersPerspective extends AbstractManagedApplicationPerspective {
 	}
 
 	private void showUserPrivilegesWindow(User user) {
-		UserPrivileges userPrivileges = new UserPrivileges(user, userSessionData.getRegistry(), null);
+		UserPrivileges userPrivileges = userSessionData.getRegistry().getUserPrivilegesCache().getUserPrivileges(user, null);
 		UserPrivilegesView userPrivilegesView = new UserPrivilegesView(userPrivileges, getApplicationInstanceData());
 		ApplicationWindow window = new ApplicationWindow(ApplicationIcons.LOCK_OPEN, getLocalized(Dictionary.PRIVILEGES), getApplicationInstanceData());
 		window.setContent(userPrivilegesView.getResponsiveForm());
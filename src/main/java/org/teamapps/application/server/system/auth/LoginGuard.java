@@ -0,0 +1,278 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.teamapps.application.server.system.config.AuthenticationConfig;
+import org.teamapps.model.controlcenter.User;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class LoginGuard {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	private static final int MAX_TRACKED_KEYS = 100_000;
+
+	public enum LoginStatus {
+		SUCCESS,
+		FAILED,
+		LOCKED,
+		BUSY,
+	}
+
+	public static class LoginResult {
+		private final LoginStatus status;
+		private final User user;
+
+		private LoginResult(LoginStatus status, User user) {
+			this.status = status;
+			this.user = user;
+		}
+
+		public LoginStatus getStatus() {
+			return status;
+		}
+
+		public User getUser() {
+			return user;
+		}
+	}
+
+	private final Supplier<AuthenticationConfig> configSupplier;
+	private final ThreadPoolExecutor verificationExecutor;
+	private final ScheduledExecutorService delayScheduler;
+	private final Map<String, AttemptWindow> attemptsByLogin = new ConcurrentHashMap<>();
+	private final Map<String, AttemptWindow> attemptsByLoginAndClientIp = new ConcurrentHashMap<>();
+	private final Map<String, AttemptWindow> attemptsByClientIp = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingVerifications = new AtomicInteger();
+	private final AtomicInteger delayedVerifications = new AtomicInteger();
+	private final AtomicLong verificationCount = new AtomicLong();
+	private final AtomicLong rejectedCount = new AtomicLong();
+	private final AtomicLong lockedCount = new AtomicLong();
+
+	public LoginGuard(Supplier<AuthenticationConfig> configSupplier) {
+		this.configSupplier = configSupplier;
+		AuthenticationConfig config = configSupplier.get();
+		int threads = Math.max(1, config.getPasswordVerificationThreads());
+		AtomicInteger threadCounter = new AtomicInteger();
+		this.verificationExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(1, config.getPasswordVerificationQueueSize())), runnable -> {
+			Thread thread = new Thread(runnable, "password-verification-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.AbortPolicy());
+		this.delayScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "login-delay-scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public CompletableFuture<LoginResult> authenticate(String login, String clientIp, Supplier<User> verification) {
+		AuthenticationConfig config = configSupplier.get();
+		long now = System.currentTimeMillis();
+		String ipKey = clientIp != null ? clientIp : "";
+		String loginName = login != null ? login.trim().toLowerCase(Locale.ROOT) : "";
+		String loginKey = loginName + "\n" + ipKey;
+		AttemptWindow userWindow = getWindow(attemptsByLogin, loginName);
+		AttemptWindow loginWindow = getWindow(attemptsByLoginAndClientIp, loginKey);
+		AttemptWindow ipWindow = getWindow(attemptsByClientIp, ipKey);
+		int loginFailures = loginWindow.tryBegin(now, config, config.getMaxFailedLoginsPerUser());
+		if (loginFailures < 0) {
+			lockedCount.incrementAndGet();
+			return CompletableFuture.completedFuture(new LoginResult(LoginStatus.LOCKED, null));
+		}
+		int ipFailures = ipWindow.tryBegin(now, config, config.getMaxFailedLoginsPerClientIp());
+		if (ipFailures < 0) {
+			loginWindow.finish(false, now, config, config.getMaxFailedLoginsPerUser());
+			lockedCount.incrementAndGet();
+			return CompletableFuture.completedFuture(new LoginResult(LoginStatus.LOCKED, null));
+		}
+		int userFailures = userWindow.tryBegin(now, config, 0);
+		ipFailures = ipFailures * Math.max(1, config.getMaxFailedLoginsPerUser()) / Math.max(1, config.getMaxFailedLoginsPerClientIp());
+		long delay = getDelay(Math.max(userFailures, Math.max(loginFailures, ipFailures)), config);
+
+		CompletableFuture<User> verificationFuture = new CompletableFuture<>();
+		Runnable submitVerification = () -> {
+			try {
+				verificationExecutor.execute(() -> {
+					try {
+						verificationFuture.complete(verification.get());
+					} catch (Throwable e) {
+						verificationFuture.completeExceptionally(e);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				verificationFuture.completeExceptionally(e);
+			}
+		};
+		pendingVerifications.incrementAndGet();
+		if (delay <= 0) {
+			submitVerification.run();
+		} else if (delayedVerifications.incrementAndGet() > Math.max(1, config.getPasswordVerificationQueueSize())) {
+			delayedVerifications.decrementAndGet();
+			verificationFuture.completeExceptionally(new RejectedExecutionException("Too many delayed login verifications"));
+		} else {
+			delayScheduler.schedule(() -> {
+				delayedVerifications.decrementAndGet();
+				submitVerification.run();
+			}, delay, TimeUnit.MILLISECONDS);
+		}
+		return verificationFuture.handle((user, throwable) -> {
+			pendingVerifications.decrementAndGet();
+			long time = System.currentTimeMillis();
+			if (throwable instanceof RejectedExecutionException) {
+				userWindow.finish(false, time, config, 0);
+				loginWindow.finish(false, time, config, config.getMaxFailedLoginsPerUser());
+				ipWindow.finish(false, time, config, config.getMaxFailedLoginsPerClientIp());
+				rejectedCount.incrementAndGet();
+				return new LoginResult(LoginStatus.BUSY, null);
+			} else if (throwable != null) {
+				LOGGER.error("Error verifying login", throwable);
+			}
+			verificationCount.incrementAndGet();
+			if (user != null) {
+				userWindow.reset();
+				loginWindow.reset();
+				ipWindow.finish(false, time, config, config.getMaxFailedLoginsPerClientIp());
+				return new LoginResult(LoginStatus.SUCCESS, user);
+			}
+			userWindow.finish(true, time, config, 0);
+			loginWindow.finish(true, time, config, config.getMaxFailedLoginsPerUser());
+			ipWindow.finish(true, time, config, config.getMaxFailedLoginsPerClientIp());
+			return new LoginResult(LoginStatus.FAILED, null);
+		});
+	}
+
+	private static long getDelay(int failures, AuthenticationConfig config) {
+		if (failures <= 0 || config.getLoginBaseDelayMillis() <= 0) {
+			return 0;
+		}
+		long delay = (long) config.getLoginBaseDelayMillis() << Math.min(20, failures - 1);
+		return Math.min(delay, Math.max(config.getLoginBaseDelayMillis(), config.getLoginMaxDelayMillis()));
+	}
+
+	private AttemptWindow getWindow(Map<String, AttemptWindow> windowMap, String key) {
+		if (windowMap.size() > MAX_TRACKED_KEYS) {
+			long now = System.currentTimeMillis();
+			AuthenticationConfig config = configSupplier.get();
+			windowMap.values().removeIf(window -> window.isExpired(now, config));
+		}
+		return windowMap.computeIfAbsent(key, k -> new AttemptWindow());
+	}
+
+	public int getQueueDepth() {
+		return verificationExecutor.getQueue().size();
+	}
+
+	public int getActiveVerifications() {
+		return verificationExecutor.getActiveCount();
+	}
+
+	public int getPendingVerifications() {
+		return pendingVerifications.get();
+	}
+
+	public long getVerificationCount() {
+		return verificationCount.get();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	public long getLockedCount() {
+		return lockedCount.get();
+	}
+
+	public void shutdown() {
+		delayScheduler.shutdownNow();
+		verificationExecutor.shutdownNow();
+	}
+
+	@Override
+	public String toString() {
+		return "LoginGuard{" +
+				"queueDepth=" + getQueueDepth() +
+				", active=" + getActiveVerifications() +
+				", pending=" + getPendingVerifications() +
+				", verifications=" + getVerificationCount() +
+				", rejected=" + getRejectedCount() +
+				", locked=" + getLockedCount() +
+				", trackedLogins=" + attemptsByLogin.size() +
+				", trackedLoginClients=" + attemptsByLoginAndClientIp.size() +
+				", trackedClients=" + attemptsByClientIp.size() +
+				'}';
+	}
+
+	private static class AttemptWindow {
+		private final ArrayDeque<Long> failureTimes = new ArrayDeque<>();
+		private int pendingAttempts;
+		private long lockedUntil;
+
+		private synchronized int tryBegin(long now, AuthenticationConfig config, int maxFailures) {
+			removeExpired(now, config);
+			int attempts = failureTimes.size() + pendingAttempts;
+			if (lockedUntil > now || (maxFailures > 0 && attempts >= maxFailures)) {
+				return -1;
+			}
+			pendingAttempts++;
+			return attempts;
+		}
+
+		private synchronized void finish(boolean failed, long now, AuthenticationConfig config, int maxFailures) {
+			pendingAttempts = Math.max(0, pendingAttempts - 1);
+			if (!failed) {
+				return;
+			}
+			removeExpired(now, config);
+			failureTimes.addLast(now);
+			if (maxFailures > 0 && failureTimes.size() >= maxFailures) {
+				lockedUntil = now + TimeUnit.SECONDS.toMillis(config.getLoginLockoutSeconds());
+				failureTimes.clear();
+			}
+		}
+
+		private synchronized void reset() {
+			failureTimes.clear();
+			pendingAttempts = Math.max(0, pendingAttempts - 1);
+			lockedUntil = 0;
+		}
+
+		private synchronized boolean isExpired(long now, AuthenticationConfig config) {
+			removeExpired(now, config);
+			return failureTimes.isEmpty() && pendingAttempts == 0 && lockedUntil <= now;
+		}
+
+		private void removeExpired(long now, AuthenticationConfig config) {
+			long minTime = now - TimeUnit.SECONDS.toMillis(config.getLoginAttemptWindowSeconds());
+			while (!failureTimes.isEmpty() && failureTimes.peekFirst() < minTime) {
+				failureTimes.removeFirst();
+			}
+		}
+	}
+}
@@ -57,6 +57,7 @@ import org.teamapps.ux.session.SessionContext;
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class LoginHandler {
 	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -185,17 +186,31 @@ public class LoginHandler {
 
 		rootPanel.setContent(elegantPanel);
 
+		AtomicBoolean loginInProgress = new AtomicBoolean();
 		Runnable onLogin = () -> {
-			if (checkFieldIsNotEmpty(loginField) && checkFieldIsNotEmpty(passwordField)) {
-				User user = authenticate(loginField.getValue(), passwordField.getValue());
-				if (user != null) {
-					if (stayLoggedIn.getValue()) {
-						createSecureLoginToken(user);
-					}
-					handleSuccessfulLogin(user, rootPanel, context);
-				} else {
-					errorField.setValue("<span style='font-size:120%;color:#961900'>" + getLocalized(Dictionary.WRONG_USER_NAME_OR_PASSWORD) + "</span>");
-				}
+			if (checkFieldIsNotEmpty(loginField) && checkFieldIsNotEmpty(passwordField) && loginInProgress.compareAndSet(false, true)) {
+				String login = loginField.getValue();
+				String password = passwordField.getValue();
+				boolean storeLoginToken = Boolean.TRUE.equals(stayLoggedIn.getValue());
+				systemRegistry.getLoginGuard().authenticate(login, context.getClientInfo().getIp(), () -> authenticate(login, password))
+						.thenAccept(result -> context.runWithContext(() -> {
+							loginInProgress.set(false);
+							User user = result.getUser();
+							if (result.getStatus() == LoginGuard.LoginStatus.SUCCESS && user != null) {
+								if (storeLoginToken) {
+									createSecureLoginToken(user);
+								}
+								handleSuccessfulLogin(user, rootPanel, context);
+							} else {
+								String message = getLocalized(Dictionary.WRONG_USER_NAME_OR_PASSWORD);
+								if (result.getStatus() != LoginGuard.LoginStatus.FAILED) {
+									LOGGER.warn("Login rejected ({}) for {}: {}", result.getStatus(), context.getClientInfo().getIp(), systemRegistry.getLoginGuard());
+									String key = result.getStatus() == LoginGuard.LoginStatus.BUSY ? "login.serverBusy" : "login.tooManyFailedAttempts";
+									message = systemRegistry.getGlobalLocalizationProvider().getLocalized(key, null, rankedLanguages);
+								}
+								errorField.setValue("<span style='font-size:120%;color:#961900'>" + message + "</span>");
+							}
+						}));
 			}
 		};
 
@@ -287,22 +302,13 @@ public class LoginHandler {
 		if (loginToken == null) {
 			String token = "TOK" + UUID.randomUUID().toString().replace("-", "");
 			context.addClientToken(token);
-			UserAccessToken.create().setUser(user).setSecureToken(token).setUserAgentOnCreation(context.getClientInfo().getUserAgent()).setValid(true).save();
+			UserAccessToken.create().setUser(user).setSecureToken(token).setUserAgentOnCreation(context.getClientInfo().getUserAgent()).setLastUsed(Instant.now()).setValid(true).save();
 		}
 	}
 
 	private List<UserAccessToken> getSecureLoginTokens() {
-		List<UserAccessToken> loginTokens = new ArrayList<>();
 		Set<String> clientTokens = SessionContext.current().getClientInfo().getClientTokens();
-		if (clientTokens != null && !clientTokens.isEmpty()) {
-			for (String clientToken : clientTokens) {
-				UserAccessToken loginToken = UserAccessToken.filter().secureToken(TextFilter.textEqualsFilter(clientToken)).executeExpectSingleton();
-				if (loginToken != null && loginToken.getValid()) {
-					loginTokens.add(loginToken);
-				}
-			}
-		}
-		return loginTokens;
+		return SecureLoginTokenIndex.getIndex().resolveTokens(clientTokens, systemRegistry.getSystemConfig().getAuthenticationConfig().getSecureLoginTokenMaxIdleDays());
 	}
 
 	private boolean checkFieldIsNotEmpty(TextField field) {
@@ -0,0 +1,176 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.teamapps.model.controlcenter.UserAccessToken;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class SecureLoginTokenIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private static volatile SecureLoginTokenIndex currentIndex;
+
+	private final Map<String, TokenEntry> tokenByDigest = new ConcurrentHashMap<>();
+	private final Map<Integer, TokenEntry> tokenById = new ConcurrentHashMap<>();
+
+	private SecureLoginTokenIndex(List<UserAccessToken> tokens) {
+		tokens.forEach(this::addToken);
+	}
+
+	public static SecureLoginTokenIndex getIndex() {
+		SecureLoginTokenIndex index = currentIndex;
+		if (index == null) {
+			synchronized (SecureLoginTokenIndex.class) {
+				if (currentIndex == null) {
+					currentIndex = new SecureLoginTokenIndex(UserAccessToken.getAll());
+				}
+				index = currentIndex;
+			}
+		}
+		return index;
+	}
+
+	public static void handleUpdate(UserAccessToken token) {
+		synchronized (SecureLoginTokenIndex.class) {
+			if (currentIndex != null) {
+				currentIndex.updateToken(token);
+			}
+		}
+	}
+
+	private void updateToken(UserAccessToken token) {
+		TokenEntry previousEntry = tokenById.remove(token.getId());
+		if (previousEntry != null) {
+			tokenByDigest.remove(previousEntry.getDigest(), previousEntry);
+		}
+		if (token.isStored()) {
+			addToken(token);
+		}
+	}
+
+	private void addToken(UserAccessToken token) {
+		String secureToken = token.getSecureToken();
+		if (secureToken == null) {
+			return;
+		}
+		String digest = createDigest(secureToken);
+		int userId = token.getUser() != null ? token.getUser().getId() : 0;
+		long lastUsed = token.getLastUsed() != null ? token.getLastUsed().toEpochMilli() : 0;
+		TokenEntry entry = new TokenEntry(token.getId(), userId, lastUsed, Boolean.TRUE.equals(token.getValid()), digest);
+		tokenByDigest.put(digest, entry);
+		tokenById.put(entry.getTokenId(), entry);
+	}
+
+	public List<UserAccessToken> resolveTokens(Collection<String> clientTokens, int maxIdleDays) {
+		if (clientTokens == null || clientTokens.isEmpty()) {
+			return Collections.emptyList();
+		}
+		long minLastUsed = getMinLastUsed(maxIdleDays);
+		List<UserAccessToken> tokens = new ArrayList<>();
+		Set<Integer> tokenIds = new HashSet<>();
+		for (String clientToken : clientTokens) {
+			TokenEntry entry = clientToken != null ? tokenByDigest.get(createDigest(clientToken)) : null;
+			if (entry != null && entry.isUsable(minLastUsed) && tokenIds.add(entry.getTokenId())) {
+				UserAccessToken token = UserAccessToken.getById(entry.getTokenId());
+				if (token.isStored() && Boolean.TRUE.equals(token.getValid()) && clientToken.equals(token.getSecureToken())) {
+					tokens.add(token);
+				}
+			}
+		}
+		return tokens;
+	}
+
+	public int purgeExpiredTokens(int maxIdleDays) {
+		if (maxIdleDays <= 0) {
+			return 0;
+		}
+		long minLastUsed = getMinLastUsed(maxIdleDays);
+		int purged = 0;
+		for (TokenEntry entry : tokenByDigest.values()) {
+			if (entry.getLastUsed() > 0 && entry.getLastUsed() < minLastUsed) {
+				UserAccessToken token = UserAccessToken.getById(entry.getTokenId());
+				if (token.isStored()) {
+					token.delete();
+					purged++;
+				}
+			}
+		}
+		if (purged > 0) {
+			LOGGER.info("Purged {} expired secure login tokens", purged);
+		}
+		return purged;
+	}
+
+	private static long getMinLastUsed(int maxIdleDays) {
+		return maxIdleDays > 0 ? Instant.now().toEpochMilli() - TimeUnit.DAYS.toMillis(maxIdleDays) : 0;
+	}
+
+	private static String createDigest(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static class TokenEntry {
+		private final int tokenId;
+		private final int userId;
+		private final long lastUsed;
+		private final boolean valid;
+		private final String digest;
+
+		private TokenEntry(int tokenId, int userId, long lastUsed, boolean valid, String digest) {
+			this.tokenId = tokenId;
+			this.userId = userId;
+			this.lastUsed = lastUsed;
+			this.valid = valid;
+			this.digest = digest;
+		}
+
+		private boolean isUsable(long minLastUsed) {
+			return valid && userId > 0 && (minLastUsed <= 0 || lastUsed <= 0 || lastUsed >= minLastUsed);
+		}
+
+		private int getTokenId() {
+			return tokenId;
+		}
+
+		private long getLastUsed() {
+			return lastUsed;
+		}
+
+		private String getDigest() {
+			return digest;
+		}
+	}
+}
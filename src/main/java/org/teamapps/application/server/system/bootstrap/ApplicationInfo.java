@@ -26,8 +26,7 @@ import org.teamapps.model.controlcenter.ApplicationVersion;
 import org.teamapps.universaldb.index.text.TextFilter;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 public class ApplicationInfo {
 
@@ -47,6 +46,7 @@ public class ApplicationInfo {
 	private ApplicationInfoDataElement privilegeData;
 	private ApplicationInfoDataElement perspectiveData;
 	private boolean checked;
+	private final Map<String, Long> phaseTimings = Collections.synchronizedMap(new LinkedHashMap<>());
 
 	private Application application;
 	private ApplicationVersion applicationVersion;
@@ -71,6 +71,16 @@ public class ApplicationInfo {
 		errors.add(error);
 	}
 
+	public void addPhaseTiming(String phase, long millis) {
+		phaseTimings.merge(phase, millis, Long::sum);
+	}
+
+	public Map<String, Long> getPhaseTimings() {
+		synchronized (phaseTimings) {
+			return new LinkedHashMap<>(phaseTimings);
+		}
+	}
+
 	public Application getApplication() {
 		if (application == null && getName() != null) {
 			application = Application.filter()
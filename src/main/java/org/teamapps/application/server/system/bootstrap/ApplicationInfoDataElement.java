@@ -23,12 +23,15 @@ import org.teamapps.model.controlcenter.ApplicationVersionData;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class ApplicationInfoDataElement {
 
 	private String data;
 	private List<String> dataAdded = new ArrayList<>();
 	private List<String> dataRemoved = new ArrayList<>();
+	private boolean unchanged;
+	private Consumer<ApplicationInfoDataElement> diffBuilder;
 
 	public static String getChangeString(ApplicationVersionData versionData) {
 		return versionData != null ? "+ " + versionData.getDataAddedRows() + " | - " + versionData.getDataRemovedRows() : null;
@@ -52,10 +55,12 @@ public class ApplicationInfoDataElement {
 	}
 
 	public String getChangeString() {
+		buildDiff();
 		return "+ " + dataAdded.size() + " | - " + dataRemoved.size();
 	}
 
 	public String getMultiLineChangeHtml(String addedTitle, String removedTitle) {
+		buildDiff();
 		StringBuilder sb = new StringBuilder();
 		sb.append("<b>").append(addedTitle).append("</b>:<br>");
 		dataAdded.forEach(v -> sb.append(v).append("<br>"));
@@ -80,7 +85,29 @@ public class ApplicationInfoDataElement {
 		this.data = data;
 	}
 
+	public boolean checkUnchanged(ApplicationVersionData installedVersionData) {
+		unchanged = data != null && installedVersionData != null && data.equals(installedVersionData.getData());
+		return unchanged;
+	}
+
+	public boolean isUnchanged() {
+		return unchanged;
+	}
+
+	public void setDiffBuilder(Consumer<ApplicationInfoDataElement> diffBuilder) {
+		this.diffBuilder = diffBuilder;
+	}
+
+	private synchronized void buildDiff() {
+		if (diffBuilder != null) {
+			Consumer<ApplicationInfoDataElement> builder = diffBuilder;
+			diffBuilder = null;
+			builder.accept(this);
+		}
+	}
+
 	public List<String> getDataAdded() {
+		buildDiff();
 		return dataAdded;
 	}
 
@@ -89,6 +116,7 @@ public class ApplicationInfoDataElement {
 	}
 
 	public List<String> getDataRemoved() {
+		buildDiff();
 		return dataRemoved;
 	}
 
@@ -98,6 +126,7 @@ public class ApplicationInfoDataElement {
 
 	@Override
 	public String toString() {
+		buildDiff();
 		return "ApplicationInfoDataElement{" +
 				"data='" + data + '\'' +
 				", dataAdded=" + dataAdded +
@@ -0,0 +1,159 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.bootstrap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ApplicationStartupScheduler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private final int threads;
+	private final Map<String, StartupTask> taskByName = new LinkedHashMap<>();
+	private final Map<String, Long> durationByTask = Collections.synchronizedMap(new LinkedHashMap<>());
+	private final Set<String> failedTasks = Collections.synchronizedSet(new LinkedHashSet<>());
+
+	public ApplicationStartupScheduler() {
+		this(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())));
+	}
+
+	public ApplicationStartupScheduler(int threads) {
+		this.threads = threads;
+	}
+
+	public ApplicationStartupScheduler addTask(String name, Collection<String> dependencies, StartupAction action) {
+		if (taskByName.containsKey(name)) {
+			throw new IllegalArgumentException("Duplicate startup task: " + name);
+		}
+		taskByName.put(name, new StartupTask(name, new LinkedHashSet<>(dependencies), action));
+		return this;
+	}
+
+	public void run() throws InterruptedException {
+		if (taskByName.isEmpty()) {
+			return;
+		}
+		for (StartupTask task : taskByName.values()) {
+			task.dependencies.retainAll(taskByName.keySet());
+			for (String dependency : task.dependencies) {
+				taskByName.get(dependency).dependents.add(task);
+			}
+			task.remainingDependencies.set(task.dependencies.size());
+		}
+		checkDependencies();
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "application-startup-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		AtomicInteger remainingTasks = new AtomicInteger(taskByName.size());
+		Object monitor = new Object();
+		long start = System.currentTimeMillis();
+		try {
+			taskByName.values().stream()
+					.filter(task -> task.remainingDependencies.get() == 0)
+					.forEach(task -> submit(executor, task, remainingTasks, monitor));
+			synchronized (monitor) {
+				while (remainingTasks.get() > 0) {
+					monitor.wait(1_000);
+				}
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+		LOGGER.info("Application startup finished in " + (System.currentTimeMillis() - start) + "ms, tasks: " + taskByName.size() + ", failed: " + failedTasks + ", durations: " + durationByTask);
+	}
+
+	private void checkDependencies() {
+		Map<StartupTask, Integer> remainingDependencies = new HashMap<>();
+		Deque<StartupTask> readyTasks = new ArrayDeque<>();
+		for (StartupTask task : taskByName.values()) {
+			remainingDependencies.put(task, task.dependencies.size());
+			if (task.dependencies.isEmpty()) {
+				readyTasks.add(task);
+			}
+		}
+		int sortedTasks = 0;
+		while (!readyTasks.isEmpty()) {
+			StartupTask task = readyTasks.poll();
+			sortedTasks++;
+			for (StartupTask dependent : task.dependents) {
+				if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+					readyTasks.add(dependent);
+				}
+			}
+		}
+		if (sortedTasks != taskByName.size()) {
+			throw new IllegalStateException("Cyclic startup task dependencies: " + taskByName.keySet());
+		}
+	}
+
+	private void submit(ExecutorService executor, StartupTask task, AtomicInteger remainingTasks, Object monitor) {
+		executor.submit(() -> {
+			long start = System.currentTimeMillis();
+			try {
+				task.action.run();
+			} catch (Throwable e) {
+				failedTasks.add(task.name);
+				LOGGER.error("Error in startup task: " + task.name, e);
+			} finally {
+				durationByTask.put(task.name, System.currentTimeMillis() - start);
+				for (StartupTask dependent : task.dependents) {
+					if (dependent.remainingDependencies.decrementAndGet() == 0) {
+						submit(executor, dependent, remainingTasks, monitor);
+					}
+				}
+				if (remainingTasks.decrementAndGet() == 0) {
+					synchronized (monitor) {
+						monitor.notifyAll();
+					}
+				}
+			}
+		});
+	}
+
+	public interface StartupAction {
+		void run() throws Exception;
+	}
+
+	private static class StartupTask {
+		private final String name;
+		private final Set<String> dependencies;
+		private final StartupAction action;
+		private final List<StartupTask> dependents = new ArrayList<>();
+		private final AtomicInteger remainingDependencies = new AtomicInteger();
+
+		private StartupTask(String name, Set<String> dependencies, StartupAction action) {
+			this.name = name;
+			this.dependencies = dependencies;
+			this.action = action;
+		}
+	}
+}
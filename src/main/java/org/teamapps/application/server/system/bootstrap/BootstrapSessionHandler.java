@@ -52,6 +52,7 @@ import org.teamapps.ux.session.SessionContext;
 import java.io.File;
 import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -109,31 +110,50 @@ public class BootstrapSessionHandler implements SessionHandler, LogoutHandler {
 				.build();
 		systemRegistry = new SystemRegistry(this, serverRegistry, sessionManager, applicationConfig);
 		systemRegistry.setSessionRegistryHandler(sessionRegistryHandler);
-		systemRegistry.installAndLoadApplication(controlCenterApp);
-
-		for (Map.Entry<String, Supplier<InputStream>> entry : getEmbeddedUpdatableApps().entrySet()) {
-			String applicationName = entry.getKey();
-			if (Application.getAll().stream().noneMatch(app -> applicationName.equals(app.getName()))) {
-				LOGGER.info("Install embedded updatable app: {}", applicationName);
-				File jarFile = File.createTempFile("temp", ".jar");
-				FileUtils.copyToFile(entry.getValue().get(), jarFile);
-				ApplicationInstaller jarInstaller = systemRegistry.createJarInstaller(jarFile);
-				systemRegistry.installAndLoadApplication(jarInstaller);
-			} else {
-				LOGGER.info("Load installed embedded app: {}", applicationName);
-				Application application = Application.getAll().stream().filter(app -> applicationName.equals(app.getName())).findFirst().orElse(null);
-				loadInstalledJarApplication(application);
+		systemRegistry.startLocalizationBatchUpdate();
+		try {
+			systemRegistry.installAndLoadApplication(controlCenterApp);
+
+			ApplicationStartupScheduler scheduler = new ApplicationStartupScheduler();
+			List<String> sharedApplicationTasks = new ArrayList<>();
+			for (Map.Entry<String, Supplier<InputStream>> entry : getEmbeddedUpdatableApps().entrySet()) {
+				String applicationName = entry.getKey();
+				String taskName = "embedded:" + applicationName;
+				sharedApplicationTasks.add(taskName);
+				scheduler.addTask(taskName, Collections.emptyList(), () -> {
+					if (Application.getAll().stream().noneMatch(app -> applicationName.equals(app.getName()))) {
+						LOGGER.info("Install embedded updatable app: {}", applicationName);
+						File jarFile = File.createTempFile("temp", ".jar");
+						FileUtils.copyToFile(entry.getValue().get(), jarFile);
+						ApplicationInstaller jarInstaller = systemRegistry.createJarInstaller(jarFile);
+						systemRegistry.installAndLoadApplication(jarInstaller);
+					} else {
+						LOGGER.info("Load installed embedded app: {}", applicationName);
+						Application application = Application.getAll().stream().filter(app -> applicationName.equals(app.getName())).findFirst().orElse(null);
+						loadInstalledJarApplication(application);
+					}
+				});
 			}
-		}
 
-		getSystemApplications().forEach(app -> systemRegistry.installAndLoadApplication(app));
+			for (ApplicationBuilder systemApplication : getSystemApplications()) {
+				String taskName = "system:" + systemApplication.getClass().getName();
+				sharedApplicationTasks.add(taskName);
+				scheduler.addTask(taskName, Collections.emptyList(), () -> systemRegistry.installAndLoadApplication(systemApplication));
+			}
 
-		if (User.getCount() == 0) {
-			createInitialUser();
-		}
+			String initialUserTask = "initial-user";
+			scheduler.addTask(initialUserTask, sharedApplicationTasks, () -> {
+				if (User.getCount() == 0) {
+					createInitialUser();
+				}
+			});
 
-		for (Application application : Application.getAll()) {
-			loadInstalledJarApplication(application);
+			for (Application application : Application.getAll()) {
+				scheduler.addTask("app:" + application.getId(), Collections.singletonList(initialUserTask), () -> loadInstalledJarApplication(application, systemRegistry.isLazyApplicationLoading()));
+			}
+			scheduler.run();
+		} finally {
+			systemRegistry.finishLocalizationBatchUpdate();
 		}
 
 		handleSystemStarted();
@@ -141,6 +161,10 @@ public class BootstrapSessionHandler implements SessionHandler, LogoutHandler {
 	}
 
 	private void loadInstalledJarApplication(Application application) {
+		loadInstalledJarApplication(application, false);
+	}
+
+	private void loadInstalledJarApplication(Application application, boolean lazy) {
 		if (application.isUninstalled()) {
 			LOGGER.info("Skipping uninstalled app: {}", application.getName());
 			return;
@@ -161,7 +185,11 @@ public class BootstrapSessionHandler implements SessionHandler, LogoutHandler {
 			ApplicationInstaller jarInstaller = systemRegistry.createJarInstaller(jarFile);
 			try {
 				if (jarInstaller.isInstalled()) {
-					systemRegistry.loadApplication(jarInstaller);
+					if (lazy) {
+						systemRegistry.registerLazyApplication(application, jarInstaller);
+					} else {
+						systemRegistry.loadApplication(jarInstaller);
+					}
 				}
 			} catch (Throwable e) {
 				LOGGER.warn("Error while loading application:", e);
@@ -241,7 +269,9 @@ public class BootstrapSessionHandler implements SessionHandler, LogoutHandler {
 
 	@Override
 	public void shutDown() {
-
+		if (systemRegistry != null) {
+			systemRegistry.shutdown();
+		}
 	}
 
 	@Override
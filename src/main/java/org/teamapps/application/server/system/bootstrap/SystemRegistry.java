@@ -21,8 +21,10 @@ package org.teamapps.application.server.system.bootstrap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.teamapps.application.api.application.ApplicationBuilder;
 import org.teamapps.application.api.application.BaseApplicationBuilder;
 import org.teamapps.application.api.application.entity.EntityUpdate;
+import org.teamapps.application.api.application.perspective.PerspectiveBuilder;
 import org.teamapps.application.api.config.ApplicationConfig;
 import org.teamapps.application.api.localization.Dictionary;
 import org.teamapps.application.api.notification.SystemAppNotificationHandler;
@@ -34,28 +36,49 @@ import org.teamapps.application.server.EntityUpdateEventHandler;
 import org.teamapps.application.server.ServerRegistry;
 import org.teamapps.application.server.SessionManager;
 import org.teamapps.application.server.system.auth.AuthenticationHandler;
+import org.teamapps.application.server.system.auth.LoginGuard;
+import org.teamapps.application.server.system.auth.SecureLoginTokenIndex;
 import org.teamapps.application.server.system.auth.UrlAuthenticationHandler;
 import org.teamapps.application.server.system.bootstrap.installer.ApplicationInstaller;
+import org.teamapps.application.server.system.bootstrap.installer.ApplicationScanCache;
 import org.teamapps.application.server.system.config.DocumentConversionConfig;
 import org.teamapps.application.server.system.config.MachineTranslationConfig;
 import org.teamapps.application.server.system.config.SystemConfig;
+import org.teamapps.application.server.system.config.SystemLogConfig;
+import org.teamapps.application.server.system.launcher.LauncherModelCache;
 import org.teamapps.application.server.system.localization.DictionaryLocalizationProvider;
 import org.teamapps.application.server.system.localization.GlobalLocalizationProvider;
 import org.teamapps.application.server.system.localization.LocalizationUtil;
 import org.teamapps.application.server.system.localization.SystemLocalizationProvider;
+import org.teamapps.application.server.system.log.SystemLogFacetIndex;
+import org.teamapps.application.server.system.log.SystemLogRetentionEngine;
+import org.teamapps.application.server.system.log.SystemLogWriter;
 import org.teamapps.application.server.system.machinetranslation.MachineTranslation;
 import org.teamapps.application.server.system.machinetranslation.TranslationService;
+import org.teamapps.application.server.system.machinetranslation.TranslationMemory;
+import org.teamapps.application.server.system.organization.OrganizationTreeIndex;
+import org.teamapps.application.server.system.privilege.ApplicationScopePrivilegeProvider;
+import org.teamapps.application.server.system.privilege.UserPrivilegesCache;
 import org.teamapps.application.server.system.server.SessionRegistryHandler;
+import org.teamapps.application.server.system.session.ActiveSessionRegistry;
 import org.teamapps.application.server.system.session.SessionUiComponentFactory;
 import org.teamapps.application.server.system.session.SessionUiComponentFactoryBuilder;
 import org.teamapps.application.server.system.session.UserSessionData;
+import org.teamapps.application.server.system.utils.RoleGraphIndex;
+import org.teamapps.application.server.system.utils.UserRoleAssignmentIndex;
 import org.teamapps.application.ux.IconUtils;
 import org.teamapps.cluster.core.Cluster;
 import org.teamapps.icons.Icon;
 import org.teamapps.model.controlcenter.Application;
+import org.teamapps.model.controlcenter.LocalizationValue;
 import org.teamapps.model.controlcenter.ManagedApplication;
 import org.teamapps.model.controlcenter.ManagedApplicationGroup;
+import org.teamapps.model.controlcenter.OrganizationUnit;
+import org.teamapps.model.controlcenter.Role;
+import org.teamapps.model.controlcenter.SystemLog;
 import org.teamapps.model.controlcenter.User;
+import org.teamapps.model.controlcenter.UserAccessToken;
+import org.teamapps.model.controlcenter.UserRoleAssignment;
 import org.teamapps.reporting.convert.DocumentConverter;
 import org.teamapps.universaldb.DatabaseManager;
 import org.teamapps.universaldb.UniversalDbBuilder;
@@ -68,6 +91,10 @@ import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -82,10 +109,25 @@ public class SystemRegistry {
 	private final BootstrapSessionHandler bootstrapSessionHandler;
 	private final ApplicationConfig<SystemConfig> applicationConfig;
 	private TranslationService translationService;
+	private volatile TranslationMemory translationMemory;
+	private ApplicationScanCache applicationScanCache;
+	private final SystemLogWriter systemLogWriter;
+	private final SystemLogRetentionEngine systemLogRetentionEngine;
+	private LoginGuard loginGuard;
+	private final ScheduledExecutorService maintenanceScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "system-maintenance");
+		thread.setDaemon(true);
+		return thread;
+	});
 	private final DictionaryLocalizationProvider dictionary;
 	private final SystemLocalizationProvider systemDictionary;
 	private final GlobalLocalizationProvider globalLocalizationProvider;
-	private final Map<Application, LoadedApplication> loadedApplicationMap = new HashMap<>();
+	private final UserPrivilegesCache userPrivilegesCache;
+	private final LauncherModelCache launcherModelCache;
+	private final Map<Application, LoadedApplication> loadedApplicationMap = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, Long>> applicationLoadTimingsMap = new ConcurrentHashMap<>();
+	private final Map<Application, LazyApplication> lazyApplicationMap = new ConcurrentHashMap<>();
+	private final Object applicationInstallationLock = new Object();
 	private final ManagedApplicationGroup unspecifiedApplicationGroup;
 	private final BaseResourceLinkProvider baseResourceLinkProvider;
 	private SessionRegistryHandler sessionRegistryHandler;
@@ -94,7 +136,7 @@ public class SystemRegistry {
 	private Cluster cluster;
 	private ServerRegistry serverRegistry;
 	private final SessionManager sessionManager;
-	private final WeakHashMap<UserSessionData, Long> activeUsersMap = new WeakHashMap<>();
+	private final ActiveSessionRegistry activeSessionRegistry = new ActiveSessionRegistry();
 	private Map<String, MultiStateHandler> stateHandlerMap = new HashMap<>();
 	private SessionUiComponentFactoryBuilder sessionUiComponentFactoryBuilder = SessionUiComponentFactory::new;
 	private SystemAppNotificationHandler systemAppNotificationHandler;
@@ -111,6 +153,20 @@ public class SystemRegistry {
 		this.globalLocalizationProvider = new GlobalLocalizationProvider(this);
 		this.baseResourceLinkProvider = new BaseResourceLinkProvider();
 		this.unspecifiedApplicationGroup = getOrCreateUnspecifiedApplicationGroup();
+		this.systemLogWriter = new SystemLogWriter(entry -> serverRegistry.getSystemLogMessageStore().save(entry), getSystemLogConfig(systemConfig));
+		this.systemLogRetentionEngine = new SystemLogRetentionEngine(createPath(serverRegistry.getServerConfig().getIndexPath(), "system-log-archive"), () -> getSystemLogConfig(applicationConfig.getConfig()));
+		maintenanceScheduler.scheduleWithFixedDelay(this::purgeExpiredLoginTokens, 10, 60, TimeUnit.MINUTES);
+		Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "system-registry-shutdown"));
+		registerEntity(OrganizationUnit.getBuilder(), 0, update -> OrganizationTreeIndex.invalidate());
+		registerEntity(Role.getBuilder(), 0, update -> RoleGraphIndex.invalidate());
+		registerEntity(UserRoleAssignment.getBuilder(), 0, update -> UserRoleAssignmentIndex.invalidate());
+		registerEntity(SystemLog.getBuilder(), 0, update -> SystemLogFacetIndex.handleUpdate(update.getEntity()));
+		registerEntity(UserAccessToken.getBuilder(), 0, update -> SecureLoginTokenIndex.handleUpdate(update.getEntity()));
+		registerEntity(LocalizationValue.getBuilder(), 0, update -> handleLocalizationValueUpdate(update.getEntity()));
+		this.userPrivilegesCache = new UserPrivilegesCache(this);
+		userPrivilegesCache.registerEntityListeners();
+		this.launcherModelCache = new LauncherModelCache(this);
+		launcherModelCache.registerEntityListeners();
 
 		authenticationHandlers.add(new UrlAuthenticationHandler(() -> applicationConfig.getConfig().getAuthenticationConfig()));
 		applicationConfig.onConfigUpdate.addListener(this::handleConfigUpdate);
@@ -126,6 +182,7 @@ public class SystemRegistry {
 		MachineTranslationConfig machineTranslationConfig = config.getMachineTranslationConfig();
 		if (machineTranslationConfig.isActive()) {
 			MachineTranslation machineTranslation = new MachineTranslation();
+			machineTranslation.setTranslationMemory(getTranslationMemory());
 			machineTranslation.setGoogleTranslationKey(machineTranslationConfig.getGoogleKey());
 			machineTranslation.setDeepLKey(machineTranslationConfig.getDeepLKey(), machineTranslationConfig.isDeepLFreeApi());
 			if (translationService == null) {
@@ -133,11 +190,83 @@ public class SystemRegistry {
 			}
 			this.translationService = machineTranslation;
 		}
+		systemLogWriter.updateConfig(getSystemLogConfig(config));
+		systemLogRetentionEngine.updateSchedule();
+	}
+
+	private static SystemLogConfig getSystemLogConfig(SystemConfig config) {
+		return config.getSystemLogConfig() != null ? config.getSystemLogConfig() : new SystemLogConfig();
+	}
+
+	public SystemLogWriter getSystemLogWriter() {
+		return systemLogWriter;
+	}
+
+	public SystemLogRetentionEngine getSystemLogRetentionEngine() {
+		return systemLogRetentionEngine;
+	}
+
+	public synchronized LoginGuard getLoginGuard() {
+		if (loginGuard == null) {
+			loginGuard = new LoginGuard(() -> applicationConfig.getConfig().getAuthenticationConfig());
+		}
+		return loginGuard;
+	}
+
+	private void purgeExpiredLoginTokens() {
+		try {
+			SecureLoginTokenIndex.getIndex().purgeExpiredTokens(getSystemConfig().getAuthenticationConfig().getSecureLoginTokenMaxIdleDays());
+		} catch (Exception e) {
+			LOGGER.error("Error purging expired login tokens", e);
+		}
+	}
+
+	public void shutdown() {
+		maintenanceScheduler.shutdownNow();
+		systemLogRetentionEngine.shutdown();
+		if (loginGuard != null) {
+			loginGuard.shutdown();
+		}
+		systemLogWriter.close(10_000);
+	}
+
+	public synchronized TranslationMemory getTranslationMemory() {
+		if (translationMemory == null) {
+			File path = createPath(serverRegistry.getServerConfig().getIndexPath(), "translation-memory");
+			TranslationMemory memory = new TranslationMemory(new File(path, "translation-memory.tsv"));
+			translationMemory = memory;
+			maintenanceScheduler.execute(() -> seedTranslationMemory(memory));
+		}
+		return translationMemory;
+	}
+
+	private void seedTranslationMemory(TranslationMemory memory) {
+		try {
+			int seeded = LocalizationUtil.seedTranslationMemory(memory, getSystemConfig().getLocalizationConfig());
+			LOGGER.info("Translation memory: " + memory + ", verified translations: " + seeded);
+		} catch (Exception e) {
+			LOGGER.error("Error seeding translation memory", e);
+		}
+	}
+
+	private void handleLocalizationValueUpdate(LocalizationValue value) {
+		globalLocalizationProvider.handleLocalizationValueUpdate(value);
+		TranslationMemory memory = translationMemory;
+		if (memory != null && value != null && value.isStored()) {
+			LocalizationUtil.updateTranslationMemory(memory, value, getSystemConfig().getLocalizationConfig());
+		}
 	}
 
 	public void updateGlobalLocalizationProvider() {
-		globalLocalizationProvider.updateLocalizationData();
-		systemDictionary.update();
+		globalLocalizationProvider.requestFullUpdate();
+	}
+
+	public void startLocalizationBatchUpdate() {
+		globalLocalizationProvider.startBatchUpdate();
+	}
+
+	public void finishLocalizationBatchUpdate() {
+		globalLocalizationProvider.finishBatchUpdate();
 	}
 
 	public void machineTranslateMissingEntries() {
@@ -146,35 +275,39 @@ public class SystemRegistry {
 		}
 	}
 
-	public synchronized void addActiveUser(UserSessionData userSessionData) {
-		activeUsersMap.put(userSessionData, System.currentTimeMillis());
+	public void addActiveUser(UserSessionData userSessionData) {
+		activeSessionRegistry.add(userSessionData);
 	}
 
-	public synchronized void removeActiveUser(UserSessionData userSessionData) {
-		activeUsersMap.remove(userSessionData);
+	public void removeActiveUser(UserSessionData userSessionData) {
+		activeSessionRegistry.remove(userSessionData);
 	}
 
-	public synchronized List<User> getOnlineUsers() {
-		return activeUsersMap.keySet().stream()
+	public ActiveSessionRegistry getActiveSessionRegistry() {
+		return activeSessionRegistry;
+	}
+
+	public List<User> getOnlineUsers() {
+		return activeSessionRegistry.getSessions().stream()
 				.filter(sessionData -> sessionData.getContext().isActive())
 				.map(UserSessionData::getUser)
 				.collect(Collectors.toList());
 	}
 
-	public synchronized List<UserSessionData> getSessionData() {
-		return new ArrayList<>(activeUsersMap.keySet());
+	public List<UserSessionData> getSessionData() {
+		return activeSessionRegistry.getSessions();
 	}
 
-	public synchronized List<BaseTemplateRecord<Long>> getActiveUsers() {
+	public List<BaseTemplateRecord<Long>> getActiveUsers() {
 		List<BaseTemplateRecord<Long>> activeUserData = new ArrayList<>();
-		for (Map.Entry<UserSessionData, Long> entry : activeUsersMap.entrySet()) {
+		for (Map.Entry<UserSessionData, ActiveSessionRegistry.SessionEntry> entry : activeSessionRegistry.getSessionEntries().entrySet()) {
 			UserSessionData userSessionData = entry.getKey();
-			if (userSessionData != null && !userSessionData.getContext().isDestroyed()) {
+			if (!userSessionData.getContext().isDestroyed()) {
 				User user = userSessionData.getUser();
 				String caption = user.getFirstName() + " " + user.getLastName() + " (" + user.getLogin() + ")";
 				String description = user.getOrganizationUnit() != null ? user.getOrganizationUnit().getName().getText() : null;
 				Icon icon = userSessionData.getUserPrivileges() != null ? ApplicationIcons.USER : ApplicationIcons.SIGN_FORBIDDEN;
-				BaseTemplateRecord<Long> record = new BaseTemplateRecord<>(icon, caption, description, entry.getValue());
+				BaseTemplateRecord<Long> record = new BaseTemplateRecord<>(icon, caption, description, entry.getValue().getLoginTime());
 				activeUserData.add(record);
 			}
 		}
@@ -194,6 +327,8 @@ public class SystemRegistry {
 			//managedApplication.setHidden(true);
 		}
 		loadedApplicationMap.remove(application);
+		lazyApplicationMap.remove(application);
+		userPrivilegesCache.invalidate("uninstalled application " + application.getName());
 	}
 
 	public Function<String, UniversalDbBuilder> createDbBuilderFunction() {
@@ -221,8 +356,18 @@ public class SystemRegistry {
 		return path;
 	}
 
+	public synchronized ApplicationScanCache getApplicationScanCache() {
+		if (applicationScanCache == null) {
+			File path = createPath(serverRegistry.getServerConfig().getIndexPath(), "application-scan-cache");
+			applicationScanCache = new ApplicationScanCache(new File(path, "application-scan-cache.properties"));
+			int invalidEntries = applicationScanCache.verify();
+			LOGGER.info("Application scan cache entries: " + applicationScanCache.getSize() + ", invalid entries: " + invalidEntries);
+		}
+		return applicationScanCache;
+	}
+
 	public ApplicationInstaller createJarInstaller(File jarFile) {
-		return ApplicationInstaller.createJarInstaller(jarFile, serverRegistry.getDatabaseManager(), createDbBuilderFunction(), translationService, getSystemConfig().getLocalizationConfig());
+		return ApplicationInstaller.createJarInstaller(jarFile, serverRegistry.getDatabaseManager(), createDbBuilderFunction(), translationService, getSystemConfig().getLocalizationConfig(), getApplicationScanCache());
 	}
 
 	public boolean installAndLoadApplication(BaseApplicationBuilder baseApplicationBuilder) {
@@ -232,7 +377,10 @@ public class SystemRegistry {
 
 	public boolean installAndLoadApplication(ApplicationInstaller applicationInstaller) {
 		if (!applicationInstaller.isInstalled()) {
-			boolean success = applicationInstaller.installApplication();
+			boolean success;
+			synchronized (applicationInstallationLock) {
+				success = applicationInstaller.installApplication();
+			}
 			if (!success) {
 				LOGGER.error("Error installing " + applicationInstaller.getApplicationInfo().getName() + ": " + applicationInstaller.getApplicationInfo().getErrorMessage() + "\n" + "Warnings:" + applicationInstaller.getApplicationInfo().getWarningMessage());
 				return false;
@@ -243,12 +391,29 @@ public class SystemRegistry {
 	}
 
 	public void loadApplication(ApplicationInstaller applicationInstaller) {
+		loadApplication(applicationInstaller, true);
+	}
+
+	private void loadApplication(ApplicationInstaller applicationInstaller, boolean invalidateCaches) {
 		try {
-			LoadedApplication loadedApplication = applicationInstaller.loadApplication(serverRegistry.getAppsBasePath(), this);
-			updateGlobalLocalizationProvider();
-			LOGGER.info("Loaded app:" + applicationInstaller.getApplicationInfo().getName());
+			long start = System.currentTimeMillis();
+			LoadedApplication loadedApplication;
+			synchronized (applicationInstallationLock) {
+				loadedApplication = applicationInstaller.loadApplication(serverRegistry.getAppsBasePath(), this);
+			}
+			globalLocalizationProvider.updateApplicationLocalizationData(applicationInstaller.getApplicationInfo().getApplication());
+			Map<String, Long> timings = applicationInstaller.getApplicationInfo().getPhaseTimings();
+			timings.put("total", System.currentTimeMillis() - start);
+			if (applicationInstaller.getApplicationInfo().getName() != null) {
+				applicationLoadTimingsMap.put(applicationInstaller.getApplicationInfo().getName(), timings);
+			}
+			LOGGER.info("Loaded app:" + applicationInstaller.getApplicationInfo().getName() + ", timings: " + timings);
 			if (applicationInstaller.getApplicationInfo().getErrors().isEmpty()) {
-				addLoadedApplication(loadedApplication);
+				if (invalidateCaches) {
+					addLoadedApplication(loadedApplication);
+				} else {
+					loadedApplicationMap.put(loadedApplication.getApplication(), loadedApplication);
+				}
 			}
 		} catch (Throwable e) {
 			LOGGER.error("Error loading application: " + applicationInstaller.getApplicationInfo(), e);
@@ -257,16 +422,106 @@ public class SystemRegistry {
 
 	public void addLoadedApplication(LoadedApplication loadedApplication) {
 		loadedApplicationMap.put(loadedApplication.getApplication(), loadedApplication);
+		userPrivilegesCache.invalidate("loaded application " + loadedApplication.getApplication().getName());
+		launcherModelCache.invalidate("loaded application " + loadedApplication.getApplication().getName());
+	}
+
+	public Map<String, Long> getApplicationLoadTimings(String applicationName) {
+		return applicationLoadTimingsMap.getOrDefault(applicationName, Collections.emptyMap());
+	}
+
+	public void registerLazyApplication(Application application, ApplicationInstaller applicationInstaller) {
+		if (application == null || loadedApplicationMap.containsKey(application)) {
+			return;
+		}
+		lazyApplicationMap.put(application, new LazyApplication(applicationInstaller));
+		LOGGER.info("Registered app for lazy loading:" + application.getName());
+	}
+
+	public boolean isLazyApplicationLoading() {
+		return getSystemConfig().isLazyApplicationLoading();
+	}
+
+	public boolean isApplicationAvailable(Application application) {
+		return application != null && (loadedApplicationMap.containsKey(application) || lazyApplicationMap.containsKey(application));
+	}
+
+	public BaseApplicationBuilder getApplicationBuilder(Application application) {
+		if (application == null) {
+			return null;
+		}
+		LoadedApplication loadedApplication = loadedApplicationMap.get(application);
+		if (loadedApplication != null) {
+			return loadedApplication.getBaseApplicationBuilder();
+		}
+		LazyApplication lazyApplication = lazyApplicationMap.get(application);
+		return lazyApplication != null ? lazyApplication.getApplicationBuilder() : null;
+	}
+
+	public ApplicationScopePrivilegeProvider getApplicationPrivilegeProvider(Application application) {
+		if (application == null) {
+			return null;
+		}
+		LoadedApplication loadedApplication = loadedApplicationMap.get(application);
+		if (loadedApplication != null) {
+			return loadedApplication.getAppPrivilegeProvider();
+		}
+		LazyApplication lazyApplication = lazyApplicationMap.get(application);
+		return lazyApplication != null ? lazyApplication.getPrivilegeProvider() : null;
+	}
+
+	public PerspectiveBuilder getPerspectiveBuilder(Application application, String perspectiveName) {
+		if (application == null) {
+			return null;
+		}
+		LoadedApplication loadedApplication = loadedApplicationMap.get(application);
+		if (loadedApplication != null) {
+			return loadedApplication.getPerspectiveBuilder(perspectiveName);
+		}
+		LazyApplication lazyApplication = lazyApplicationMap.get(application);
+		return lazyApplication != null ? lazyApplication.getPerspectiveBuilder(perspectiveName) : null;
 	}
 
 	public LoadedApplication getLoadedApplication(Application application) {
-		return loadedApplicationMap.get(application);
+		if (application == null) {
+			return null;
+		}
+		LoadedApplication loadedApplication = loadedApplicationMap.get(application);
+		if (loadedApplication == null) {
+			LazyApplication lazyApplication = lazyApplicationMap.get(application);
+			if (lazyApplication != null) {
+				loadedApplication = loadLazyApplication(application, lazyApplication);
+			}
+		}
+		return loadedApplication;
+	}
+
+	private LoadedApplication loadLazyApplication(Application application, LazyApplication lazyApplication) {
+		synchronized (lazyApplication) {
+			LoadedApplication loadedApplication = loadedApplicationMap.get(application);
+			if (loadedApplication == null && lazyApplicationMap.containsKey(application)) {
+				LOGGER.info("Loading lazy app on first use:" + application.getName());
+				loadApplication(lazyApplication.getApplicationInstaller(), false);
+				loadedApplication = loadedApplicationMap.get(application);
+				lazyApplicationMap.remove(application);
+			}
+			return loadedApplication;
+		}
 	}
 
 	public List<LoadedApplication> getLoadedApplications() {
+		new ArrayList<>(lazyApplicationMap.keySet()).forEach(this::getLoadedApplication);
 		return new ArrayList<>(loadedApplicationMap.values());
 	}
 
+	public UserPrivilegesCache getUserPrivilegesCache() {
+		return userPrivilegesCache;
+	}
+
+	public LauncherModelCache getLauncherModelCache() {
+		return launcherModelCache;
+	}
+
 	public DictionaryLocalizationProvider getDictionary() {
 		return dictionary;
 	}
@@ -394,4 +649,36 @@ public class SystemRegistry {
 			throw new RuntimeException(e);
 		}
 	}
+
+	private static class LazyApplication {
+		private final ApplicationInstaller applicationInstaller;
+		private final ApplicationScopePrivilegeProvider privilegeProvider;
+
+		private LazyApplication(ApplicationInstaller applicationInstaller) {
+			this.applicationInstaller = applicationInstaller;
+			this.privilegeProvider = new ApplicationScopePrivilegeProvider(getApplicationBuilder());
+		}
+
+		public ApplicationInstaller getApplicationInstaller() {
+			return applicationInstaller;
+		}
+
+		public BaseApplicationBuilder getApplicationBuilder() {
+			return applicationInstaller.getApplicationInfo().getBaseApplicationBuilder();
+		}
+
+		public ApplicationScopePrivilegeProvider getPrivilegeProvider() {
+			return privilegeProvider;
+		}
+
+		public PerspectiveBuilder getPerspectiveBuilder(String name) {
+			if (applicationInstaller.getApplicationInfo().isUnmanagedPerspectives()) {
+				return null;
+			}
+			return ((ApplicationBuilder) getApplicationBuilder()).getPerspectiveBuilders().stream()
+					.filter(perspective -> perspective.getName().equals(name))
+					.findFirst()
+					.orElse(null);
+		}
+	}
 }
@@ -38,6 +38,7 @@ import org.teamapps.universaldb.UniversalDbBuilder;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class ApplicationInstaller {
@@ -50,19 +51,23 @@ public class ApplicationInstaller {
 
 
 	public static ApplicationInstaller createJarInstaller(File applicationJar, DatabaseManager databaseManager, Function<String, UniversalDbBuilder> dbBuilderFunction, TranslationService translationService, LocalizationConfig localizationConfig) {
-		return new ApplicationInstaller(new ApplicationInfo(applicationJar), databaseManager, dbBuilderFunction, translationService, localizationConfig);
+		return createJarInstaller(applicationJar, databaseManager, dbBuilderFunction, translationService, localizationConfig, null);
+	}
+
+	public static ApplicationInstaller createJarInstaller(File applicationJar, DatabaseManager databaseManager, Function<String, UniversalDbBuilder> dbBuilderFunction, TranslationService translationService, LocalizationConfig localizationConfig, ApplicationScanCache scanCache) {
+		return new ApplicationInstaller(new ApplicationInfo(applicationJar), databaseManager, dbBuilderFunction, translationService, localizationConfig, scanCache);
 	}
 
 	public static ApplicationInstaller createClassInstaller(BaseApplicationBuilder baseApplicationBuilder, DatabaseManager databaseManager, Function<String, UniversalDbBuilder> dbBuilderFunction, TranslationService translationService, LocalizationConfig localizationConfig) {
-		return new ApplicationInstaller(new ApplicationInfo(baseApplicationBuilder), databaseManager, dbBuilderFunction, translationService, localizationConfig);
+		return new ApplicationInstaller(new ApplicationInfo(baseApplicationBuilder), databaseManager, dbBuilderFunction, translationService, localizationConfig, null);
 	}
 
-	private ApplicationInstaller(ApplicationInfo applicationInfo, DatabaseManager databaseManager, Function<String, UniversalDbBuilder> dbBuilderFunction, TranslationService translationService, LocalizationConfig localizationConfig) {
+	private ApplicationInstaller(ApplicationInfo applicationInfo, DatabaseManager databaseManager, Function<String, UniversalDbBuilder> dbBuilderFunction, TranslationService translationService, LocalizationConfig localizationConfig, ApplicationScanCache scanCache) {
 		this.applicationInfo = applicationInfo;
 		this.translationService = translationService;
 		this.localizationConfig = localizationConfig;
 		applicationInstallationPhases = Arrays.asList(
-				new ApplicationJarInstallationPhase(),
+				new ApplicationJarInstallationPhase(scanCache),
 				new ApplicationArtifactInstallationPhase(),
 				new DataModelInstallationPhase(databaseManager, dbBuilderFunction),
 				new LocalizationDataInstallationPhase(localizationConfig),
@@ -85,7 +90,7 @@ public class ApplicationInstaller {
 	}
 
 	public ApplicationInfo checkApplication() {
-		applicationInstallationPhases.forEach(phase -> phase.checkApplication(applicationInfo));
+		applicationInstallationPhases.forEach(phase -> runPhase(phase, "check", p -> p.checkApplication(applicationInfo)));
 		applicationInfo.setChecked(true);
 		return applicationInfo;
 	}
@@ -93,7 +98,7 @@ public class ApplicationInstaller {
 	public boolean installApplication() {
 		try {
 			if (applicationInfo.isChecked() && applicationInfo.getErrors().isEmpty()) {
-				applicationInstallationPhases.forEach(phase -> phase.installApplication(applicationInfo));
+				applicationInstallationPhases.forEach(phase -> runPhase(phase, "install", p -> p.installApplication(applicationInfo)));
 				applicationInfo.getApplication().setInstalledVersion(applicationInfo.getApplicationVersion()).save();
 				LocalizationUtil.translateAllApplicationValues(translationService, applicationInfo.getApplication(), localizationConfig);
 				applicationInfo.getBaseApplicationBuilder().getOnApplicationInstalled().fire();
@@ -111,7 +116,7 @@ public class ApplicationInstaller {
 	public LoadedApplication loadApplication(File basePath, SystemRegistry systemRegistry) {
 		if (applicationInfo.isChecked() && applicationInfo.getErrors().isEmpty()) {
 			applicationInfo.createLoadedApplication(basePath);
-			applicationInstallationPhases.forEach(phase -> phase.loadApplication(applicationInfo));
+			applicationInstallationPhases.forEach(phase -> runPhase(phase, "load", p -> p.loadApplication(applicationInfo)));
 			ClassLoader classLoader = applicationInfo.getApplicationClassLoader();
 			if (classLoader == null) {
 				classLoader = this.getClass().getClassLoader();
@@ -145,6 +150,15 @@ public class ApplicationInstaller {
 		return null;
 	}
 
+	private void runPhase(ApplicationInstallationPhase phase, String step, Consumer<ApplicationInstallationPhase> action) {
+		long start = System.currentTimeMillis();
+		try {
+			action.accept(phase);
+		} finally {
+			applicationInfo.addPhaseTiming(phase.getClass().getSimpleName().replace("InstallationPhase", "") + "." + step, System.currentTimeMillis() - start);
+		}
+	}
+
 	public ApplicationInfo getApplicationInfo() {
 		return applicationInfo;
 	}
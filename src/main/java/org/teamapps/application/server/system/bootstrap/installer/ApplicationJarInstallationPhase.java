@@ -40,40 +40,62 @@ import java.util.stream.Collectors;
 public class ApplicationJarInstallationPhase implements ApplicationInstallationPhase {
 	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+	private final ApplicationScanCache scanCache;
+
+	public ApplicationJarInstallationPhase() {
+		this(null);
+	}
+
+	public ApplicationJarInstallationPhase(ApplicationScanCache scanCache) {
+		this.scanCache = scanCache;
+	}
+
 	@Override
 	public void checkApplication(ApplicationInfo applicationInfo) {
 		try {
 			if (applicationInfo.getApplicationJar() == null) {
 				return;
 			}
-			boolean unmanagedApplication = false;
-			BaseApplicationBuilder baseApplicationBuilder = null;
 			String fileHash = FileUtil.createFileHash(applicationInfo.getApplicationJar());
-			URLClassLoader classLoader = new URLClassLoader(new URL[]{applicationInfo.getApplicationJar().toURI().toURL()});
-
-
-			ScanResult scanResult = new ClassGraph()
-					.overrideClassLoaders(classLoader)
-					.enableAllInfo()
-					.scan();
-
-
-			ClassInfoList classes = scanResult.getClassesWithAnnotation("org.teamapps.application.api.annotation.TeamAppsBootableClass");
-
-			if (classes.isEmpty()) {
-				classes = scanResult.getClassesImplementing(ApplicationBuilder.class.getName()).getStandardClasses();
+			long jarLength = applicationInfo.getApplicationJar().length();
+			ApplicationScanCache.ScanEntry scanEntry = scanCache != null ? scanCache.get(fileHash, applicationInfo.getApplicationJar()) : null;
+			if (scanEntry != null) {
+				URLClassLoader classLoader = new URLClassLoader(new URL[]{applicationInfo.getApplicationJar().toURI().toURL()}, ApplicationJarInstallationPhase.class.getClassLoader());
+				try {
+					setApplicationBuilder(applicationInfo, scanEntry.getBuilderClassName(), scanEntry.isUnmanagedApplication(), fileHash, classLoader);
+					return;
+				} catch (Exception e) {
+					LOGGER.warn("Invalid application scan cache entry for " + applicationInfo.getApplicationJar() + ": " + e.getMessage());
+					scanCache.remove(fileHash);
+					classLoader.close();
+				}
 			}
 
-			if (classes.isEmpty()) {
-				classes = scanResult.getSubclasses(AbstractApplicationBuilder.class.getName()).getStandardClasses();
-			}
-			if (classes.isEmpty()) {
-				classes = scanResult.getClassesImplementing(AbstractApplicationBuilder.class.getName()).getStandardClasses();
-				unmanagedApplication = true;
-			}
-			if (classes.isEmpty()) {
-				classes = scanResult.getSubclasses(AbstractBaseApplicationBuilder.class.getName()).getStandardClasses();
-				unmanagedApplication = true;
+			boolean unmanagedApplication = false;
+			ClassInfoList classes;
+			try (URLClassLoader scanClassLoader = new URLClassLoader(new URL[]{applicationInfo.getApplicationJar().toURI().toURL()});
+				 ScanResult scanResult = new ClassGraph()
+						 .overrideClassLoaders(scanClassLoader)
+						 .enableAllInfo()
+						 .scan()) {
+
+				classes = scanResult.getClassesWithAnnotation("org.teamapps.application.api.annotation.TeamAppsBootableClass");
+
+				if (classes.isEmpty()) {
+					classes = scanResult.getClassesImplementing(ApplicationBuilder.class.getName()).getStandardClasses();
+				}
+
+				if (classes.isEmpty()) {
+					classes = scanResult.getSubclasses(AbstractApplicationBuilder.class.getName()).getStandardClasses();
+				}
+				if (classes.isEmpty()) {
+					classes = scanResult.getClassesImplementing(AbstractApplicationBuilder.class.getName()).getStandardClasses();
+					unmanagedApplication = true;
+				}
+				if (classes.isEmpty()) {
+					classes = scanResult.getSubclasses(AbstractBaseApplicationBuilder.class.getName()).getStandardClasses();
+					unmanagedApplication = true;
+				}
 			}
 
 			if (classes.isEmpty()) {
@@ -85,25 +107,27 @@ public class ApplicationJarInstallationPhase implements ApplicationInstallationP
 				return;
 			}
 
-			classLoader = new URLClassLoader(new URL[]{applicationInfo.getApplicationJar().toURI().toURL()}, ApplicationJarInstallationPhase.class.getClassLoader());
-			Class<?> builderClass = Class.forName(classes.get(0).getName(), true, classLoader);
-//			Class<?> builderClass = classes.get(0).loadClass();
-			scanResult.close();
-			if (unmanagedApplication) {
-				baseApplicationBuilder = (ApplicationBuilder) builderClass.getDeclaredConstructor().newInstance();
-			} else {
-				baseApplicationBuilder = (ApplicationBuilder) builderClass.getDeclaredConstructor().newInstance();
+			String builderClassName = classes.get(0).getName();
+			URLClassLoader classLoader = new URLClassLoader(new URL[]{applicationInfo.getApplicationJar().toURI().toURL()}, ApplicationJarInstallationPhase.class.getClassLoader());
+			setApplicationBuilder(applicationInfo, builderClassName, unmanagedApplication, fileHash, classLoader);
+			if (scanCache != null) {
+				scanCache.put(fileHash, jarLength, builderClassName, unmanagedApplication);
 			}
-			applicationInfo.setBaseApplicationBuilder(baseApplicationBuilder);
-			applicationInfo.setUnmanagedPerspectives(unmanagedApplication);
-			applicationInfo.setBinaryHash(fileHash);
-			applicationInfo.setApplicationClassLoader(classLoader);
 		} catch (Exception e) {
 			applicationInfo.addError("Error checking jar file for app " + applicationInfo.getApplication() + e.getMessage());
 			LOGGER.error("Error checking jar file:", e);
 		}
 	}
 
+	private void setApplicationBuilder(ApplicationInfo applicationInfo, String builderClassName, boolean unmanagedApplication, String fileHash, ClassLoader classLoader) throws Exception {
+		Class<?> builderClass = Class.forName(builderClassName, true, classLoader);
+		BaseApplicationBuilder baseApplicationBuilder = (ApplicationBuilder) builderClass.getDeclaredConstructor().newInstance();
+		applicationInfo.setBaseApplicationBuilder(baseApplicationBuilder);
+		applicationInfo.setUnmanagedPerspectives(unmanagedApplication);
+		applicationInfo.setBinaryHash(fileHash);
+		applicationInfo.setApplicationClassLoader(classLoader);
+	}
+
 	@Override
 	public void installApplication(ApplicationInfo applicationInfo) {
 
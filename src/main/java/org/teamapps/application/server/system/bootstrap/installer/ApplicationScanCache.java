@@ -0,0 +1,228 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.bootstrap.installer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+public class ApplicationScanCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private final File cacheFile;
+	private final int maxEntries;
+	private final long maxAgeMillis;
+	private final Map<String, ScanEntry> entryByHash = new HashMap<>();
+
+	public ApplicationScanCache(File cacheFile) {
+		this(cacheFile, 500, Duration.ofDays(365));
+	}
+
+	public ApplicationScanCache(File cacheFile, int maxEntries, Duration maxAge) {
+		this.cacheFile = cacheFile;
+		this.maxEntries = maxEntries;
+		this.maxAgeMillis = maxAge.toMillis();
+		load();
+	}
+
+	public synchronized ScanEntry get(String jarHash, File jarFile) {
+		ScanEntry entry = entryByHash.get(jarHash);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.getJarLength() != jarFile.length() || isExpired(entry) || !containsClass(jarFile, entry.getBuilderClassName())) {
+			remove(jarHash);
+			return null;
+		}
+		return entry;
+	}
+
+	private static boolean containsClass(File jarFile, String className) {
+		try (JarFile jar = new JarFile(jarFile)) {
+			return jar.getEntry(className.replace('.', '/') + ".class") != null;
+		} catch (IOException e) {
+			LOGGER.warn("Error reading application jar: " + jarFile + ", " + e.getMessage());
+			return false;
+		}
+	}
+
+	public synchronized void put(String jarHash, long jarLength, String builderClassName, boolean unmanagedApplication) {
+		entryByHash.put(jarHash, new ScanEntry(jarHash, jarLength, builderClassName, unmanagedApplication, System.currentTimeMillis()));
+		evict();
+		store();
+	}
+
+	public synchronized void remove(String jarHash) {
+		if (entryByHash.remove(jarHash) != null) {
+			store();
+		}
+	}
+
+	public synchronized int verify() {
+		int invalidEntries = 0;
+		Iterator<ScanEntry> iterator = entryByHash.values().iterator();
+		while (iterator.hasNext()) {
+			ScanEntry entry = iterator.next();
+			if (!entry.isValid() || isExpired(entry)) {
+				iterator.remove();
+				invalidEntries++;
+			}
+		}
+		if (invalidEntries > 0) {
+			store();
+		}
+		return invalidEntries;
+	}
+
+	public synchronized int getSize() {
+		return entryByHash.size();
+	}
+
+	private boolean isExpired(ScanEntry entry) {
+		return System.currentTimeMillis() - entry.getCreated() > maxAgeMillis;
+	}
+
+	private void evict() {
+		entryByHash.values().removeIf(this::isExpired);
+		if (entryByHash.size() > maxEntries) {
+			entryByHash.values().stream()
+					.sorted(Comparator.comparingLong(ScanEntry::getCreated))
+					.limit(entryByHash.size() - maxEntries)
+					.map(ScanEntry::getJarHash)
+					.collect(Collectors.toList())
+					.forEach(entryByHash::remove);
+		}
+	}
+
+	private void load() {
+		if (cacheFile == null || !cacheFile.exists()) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (Reader reader = new InputStreamReader(new FileInputStream(cacheFile), StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		} catch (IOException e) {
+			LOGGER.warn("Error loading application scan cache: " + cacheFile + ", " + e.getMessage());
+			return;
+		}
+		for (String name : properties.stringPropertyNames()) {
+			String[] parts = properties.getProperty(name).split("\\|", -1);
+			if (parts.length != 5) {
+				continue;
+			}
+			try {
+				ScanEntry entry = new ScanEntry(name, Long.parseLong(parts[0]), parts[1], Boolean.parseBoolean(parts[2]), Long.parseLong(parts[3]));
+				if (entry.getChecksum() == Long.parseLong(parts[4])) {
+					entryByHash.put(name, entry);
+				}
+			} catch (NumberFormatException ignore) {
+			}
+		}
+		int invalidEntries = properties.size() - entryByHash.size();
+		if (invalidEntries > 0) {
+			LOGGER.warn("Dropped invalid application scan cache entries: " + invalidEntries);
+		}
+	}
+
+	private void store() {
+		if (cacheFile == null) {
+			return;
+		}
+		Properties properties = new Properties();
+		for (ScanEntry entry : entryByHash.values()) {
+			properties.setProperty(entry.getJarHash(), entry.getJarLength() + "|" + entry.getBuilderClassName() + "|" + entry.isUnmanagedApplication() + "|" + entry.getCreated() + "|" + entry.getChecksum());
+		}
+		File tempFile = new File(cacheFile.getParentFile(), cacheFile.getName() + ".tmp");
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8)) {
+			properties.store(writer, "application scan cache");
+		} catch (IOException e) {
+			LOGGER.warn("Error writing application scan cache: " + cacheFile + ", " + e.getMessage());
+			return;
+		}
+		try {
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			LOGGER.warn("Error writing application scan cache: " + cacheFile + ", " + e.getMessage());
+		}
+	}
+
+	public static class ScanEntry {
+		private final String jarHash;
+		private final long jarLength;
+		private final String builderClassName;
+		private final boolean unmanagedApplication;
+		private final long created;
+		private final long checksum;
+
+		private ScanEntry(String jarHash, long jarLength, String builderClassName, boolean unmanagedApplication, long created) {
+			this.jarHash = jarHash;
+			this.jarLength = jarLength;
+			this.builderClassName = builderClassName;
+			this.unmanagedApplication = unmanagedApplication;
+			this.created = created;
+			this.checksum = calculateChecksum();
+		}
+
+		private long calculateChecksum() {
+			CRC32 crc = new CRC32();
+			crc.update((jarHash + "|" + jarLength + "|" + builderClassName + "|" + unmanagedApplication + "|" + created).getBytes(StandardCharsets.UTF_8));
+			return crc.getValue();
+		}
+
+		public boolean isValid() {
+			return builderClassName != null && !builderClassName.isBlank();
+		}
+
+		public String getJarHash() {
+			return jarHash;
+		}
+
+		public long getJarLength() {
+			return jarLength;
+		}
+
+		public String getBuilderClassName() {
+			return builderClassName;
+		}
+
+		public boolean isUnmanagedApplication() {
+			return unmanagedApplication;
+		}
+
+		public long getCreated() {
+			return created;
+		}
+
+		public long getChecksum() {
+			return checksum;
+		}
+	}
+}
@@ -25,6 +25,7 @@ import org.teamapps.application.server.system.bootstrap.ApplicationInfo;
 import org.teamapps.application.server.system.bootstrap.ApplicationInfoDataElement;
 import org.teamapps.commons.util.collections.ByKeyComparisonResult;
 import org.teamapps.commons.util.collections.CollectionUtil;
+import org.teamapps.model.controlcenter.ApplicationVersion;
 import org.teamapps.universaldb.DatabaseManager;
 import org.teamapps.universaldb.UniversalDB;
 import org.teamapps.universaldb.UniversalDbBuilder;
@@ -94,15 +95,23 @@ public class DataModelInstallationPhase implements ApplicationInstallationPhase
 
 			ApplicationInfoDataElement modelInfo = new ApplicationInfoDataElement();
 			modelInfo.setData(model.toString());
-			List<String> newList = model.getTables().stream().flatMap(t -> t.getFields().stream()).map(f -> f.getTableModel().getName() + "." + f.getName() + " (" + f.getFieldType() + ")").toList();
-			if (installedModel == null) {
-				newList.forEach(modelInfo::added);
-			} else {
-				List<String> existingList = installedModel.getTables().stream().flatMap(t -> t.getFields().stream()).map(f -> f.getTableModel().getName() + "." + f.getName() + " (" + f.getFieldType() + ")").toList();
-				ByKeyComparisonResult<String, String, String> comparisonResult = CollectionUtil.compareByKey(existingList, newList, s -> s, s -> s);
-				comparisonResult.getBEntriesNotInA().forEach(modelInfo::added);
-				comparisonResult.getAEntriesNotInB().forEach(modelInfo::removed);
+			ApplicationVersion installedVersion = applicationInfo.getApplication() != null ? applicationInfo.getApplication().getInstalledVersion() : null;
+			if (installedModel != null && installedVersion != null && modelInfo.checkUnchanged(installedVersion.getDataModelData())) {
+				applicationInfo.setDataModelData(modelInfo);
+				return;
 			}
+			DatabaseModel existingModel = installedModel;
+			modelInfo.setDiffBuilder(info -> {
+				List<String> newList = model.getTables().stream().flatMap(t -> t.getFields().stream()).map(f -> f.getTableModel().getName() + "." + f.getName() + " (" + f.getFieldType() + ")").toList();
+				if (existingModel == null) {
+					newList.forEach(info::added);
+				} else {
+					List<String> existingList = existingModel.getTables().stream().flatMap(t -> t.getFields().stream()).map(f -> f.getTableModel().getName() + "." + f.getName() + " (" + f.getFieldType() + ")").toList();
+					ByKeyComparisonResult<String, String, String> comparisonResult = CollectionUtil.compareByKey(existingList, newList, s -> s, s -> s);
+					comparisonResult.getBEntriesNotInA().forEach(info::added);
+					comparisonResult.getAEntriesNotInB().forEach(info::removed);
+				}
+			});
 			applicationInfo.setDataModelData(modelInfo);
 		} catch (Exception e) {
 			applicationInfo.addError("Error checking data model:" + e.getMessage());
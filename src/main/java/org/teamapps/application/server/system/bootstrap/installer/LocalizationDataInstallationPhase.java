@@ -34,6 +34,7 @@ import org.teamapps.model.controlcenter.Application;
 import org.teamapps.model.controlcenter.LocalizationKey;
 import org.teamapps.model.controlcenter.LocalizationKeyType;
 import org.teamapps.model.controlcenter.LocalizationValue;
+import org.teamapps.model.controlcenter.ApplicationVersion;
 import org.teamapps.universaldb.index.numeric.NumericFilter;
 
 import java.lang.invoke.MethodHandles;
@@ -74,37 +75,44 @@ public class LocalizationDataInstallationPhase implements ApplicationInstallatio
 			ApplicationInfoDataElement dataInfo = new ApplicationInfoDataElement();
 			dataInfo.setData(String.join("\n", getAllEntries(localizationEntrySets)));
 			Application application = applicationInfo.getApplication();
+			ApplicationVersion installedVersion = application != null ? application.getInstalledVersion() : null;
+			if (installedVersion != null && dataInfo.checkUnchanged(installedVersion.getLocalizationData())) {
+				applicationInfo.setLocalizationData(dataInfo);
+				return;
+			}
 
-			Map<String, Map<String, String>> localizationMapByKey = localizationData.createLocalizationMapByKey();
-			List<LocalizationKey> localizationKeys = application == null ? Collections.emptyList() : LocalizationKey.filter().application(NumericFilter.equalsFilter(application.getId())).execute();
-			KeyCompare<String, LocalizationKey> keyCompare = new KeyCompare<>(localizationMapByKey.keySet(), localizationKeys, s -> s, LocalizationKey::getKey);
-			List<String> newKeys = keyCompare.getAEntriesNotInB();
-			for (String key : newKeys) {
-				Map<String, String> translations = localizationMapByKey.get(key);
-				for (Map.Entry<String, String> entry : translations.entrySet()) {
-					String language = entry.getKey();
-					String original = entry.getValue();
-					dataInfo.added(key + " -> " + language + ":" + original);
+			dataInfo.setDiffBuilder(info -> {
+				Map<String, Map<String, String>> localizationMapByKey = localizationData.createLocalizationMapByKey();
+				List<LocalizationKey> localizationKeys = application == null ? Collections.emptyList() : LocalizationKey.filter().application(NumericFilter.equalsFilter(application.getId())).execute();
+				KeyCompare<String, LocalizationKey> keyCompare = new KeyCompare<>(localizationMapByKey.keySet(), localizationKeys, s -> s, LocalizationKey::getKey);
+				List<String> newKeys = keyCompare.getAEntriesNotInB();
+				for (String key : newKeys) {
+					Map<String, String> translations = localizationMapByKey.get(key);
+					for (Map.Entry<String, String> entry : translations.entrySet()) {
+						String language = entry.getKey();
+						String original = entry.getValue();
+						info.added(key + " -> " + language + ":" + original);
+					}
 				}
-			}
 
-			List<LocalizationKey> removedKeys = keyCompare.getBEntriesNotInA();
-			removedKeys.stream().flatMap(key -> key.getLocalizationValues().stream()).forEach(value -> {
-				dataInfo.removed(value.getLocalizationKey().getKey() + " -> " + value.getLanguage() + ":" + value.getOriginal());
-			});
-			List<String> existingKeys = keyCompare.getAEntriesInB();
-			for (String key : existingKeys) {
-				Map<String, String> translations = localizationMapByKey.get(key);
-				LocalizationKey localizationKey = keyCompare.getB(key);
-				KeyCompare<String, LocalizationValue> languageCompare = new KeyCompare<>(translations.keySet(), localizationKey.getLocalizationValues(), s -> s, LocalizationValue::getLanguage);
-				if (languageCompare.isDifferent()) {
-					List<String> newLanguages = languageCompare.getAEntriesNotInB();
-					newLanguages.forEach(language -> dataInfo.added(key + " -> " + language + ":" + translations.get(language)));
-					List<LocalizationValue> removedLanguages = languageCompare.getBEntriesNotInA();
-					removedLanguages.forEach(value -> dataInfo.removed(key + " -> " + value.getLanguage() + ":" + value.getOriginal()));
-					//todo changed originals
+				List<LocalizationKey> removedKeys = keyCompare.getBEntriesNotInA();
+				removedKeys.stream().flatMap(key -> key.getLocalizationValues().stream()).forEach(value -> {
+					info.removed(value.getLocalizationKey().getKey() + " -> " + value.getLanguage() + ":" + value.getOriginal());
+				});
+				List<String> existingKeys = keyCompare.getAEntriesInB();
+				for (String key : existingKeys) {
+					Map<String, String> translations = localizationMapByKey.get(key);
+					LocalizationKey localizationKey = keyCompare.getB(key);
+					KeyCompare<String, LocalizationValue> languageCompare = new KeyCompare<>(translations.keySet(), localizationKey.getLocalizationValues(), s -> s, LocalizationValue::getLanguage);
+					if (languageCompare.isDifferent()) {
+						List<String> newLanguages = languageCompare.getAEntriesNotInB();
+						newLanguages.forEach(language -> info.added(key + " -> " + language + ":" + translations.get(language)));
+						List<LocalizationValue> removedLanguages = languageCompare.getBEntriesNotInA();
+						removedLanguages.forEach(value -> info.removed(key + " -> " + value.getLanguage() + ":" + value.getOriginal()));
+						//todo changed originals
+					}
 				}
-			}
+			});
 			applicationInfo.setLocalizationData(dataInfo);
 		} catch (Exception e) {
 			applicationInfo.addError("Error checking localization data:" + e.getMessage());
@@ -119,6 +127,11 @@ public class LocalizationDataInstallationPhase implements ApplicationInstallatio
 			return;
 		}
 		Application application = applicationInfo.getApplication();
+		if (applicationInfo.getLocalizationData() != null && applicationInfo.getLocalizationData().isUnchanged()) {
+			LOGGER.info("Localization data unchanged, updating key state only: {}", applicationInfo.getName());
+			LocalizationUtil.synchronizeLocalizationKeyState(localizationData, application, localizationConfig);
+			return;
+		}
 		LocalizationKeyType localizationKeyType = LocalizationKeyType.APPLICATION_RESOURCE_KEY;
 		LocalizationUtil.synchronizeLocalizationData(localizationData, application, localizationKeyType, localizationConfig);
 	}
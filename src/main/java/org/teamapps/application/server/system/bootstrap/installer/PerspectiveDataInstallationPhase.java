@@ -76,16 +76,22 @@ public class PerspectiveDataInstallationPhase implements ApplicationInstallation
 			}
 			ApplicationInfoDataElement dataInfo = new ApplicationInfoDataElement();
 			Application application = applicationInfo.getApplication();
-			List<ApplicationPerspective> applicationPerspectives = application == null ? Collections.emptyList() : ApplicationPerspective.filter()
-					.application(NumericFilter.equalsFilter(application.getId()))
-					.execute();
-
 			dataInfo.setData(perspectives.stream().map(PerspectiveBuilder::getName).collect(Collectors.joining("\n")));
-			KeyCompare<PerspectiveBuilder, ApplicationPerspective> keyCompare = new KeyCompare<>(perspectives, applicationPerspectives, PerspectiveBuilder::getName, ApplicationPerspective::getName);
-			List<PerspectiveBuilder> newPerspectives = keyCompare.getAEntriesNotInB();
-			dataInfo.setDataAdded(newPerspectives.stream().map(PerspectiveBuilder::getName).collect(Collectors.toList()));
-			List<ApplicationPerspective> removedPerspectives = keyCompare.getBEntriesNotInA();
-			dataInfo.setDataRemoved(removedPerspectives.stream().map(ApplicationPerspective::getName).collect(Collectors.toList()));
+			ApplicationVersion installedVersion = application != null ? application.getInstalledVersion() : null;
+			if (installedVersion != null && dataInfo.checkUnchanged(installedVersion.getPerspectiveData())) {
+				applicationInfo.setPerspectiveData(dataInfo);
+				return;
+			}
+			dataInfo.setDiffBuilder(info -> {
+				List<ApplicationPerspective> applicationPerspectives = application == null ? Collections.emptyList() : ApplicationPerspective.filter()
+						.application(NumericFilter.equalsFilter(application.getId()))
+						.execute();
+				KeyCompare<PerspectiveBuilder, ApplicationPerspective> keyCompare = new KeyCompare<>(perspectives, applicationPerspectives, PerspectiveBuilder::getName, ApplicationPerspective::getName);
+				List<PerspectiveBuilder> newPerspectives = keyCompare.getAEntriesNotInB();
+				info.setDataAdded(newPerspectives.stream().map(PerspectiveBuilder::getName).collect(Collectors.toList()));
+				List<ApplicationPerspective> removedPerspectives = keyCompare.getBEntriesNotInA();
+				info.setDataRemoved(removedPerspectives.stream().map(ApplicationPerspective::getName).collect(Collectors.toList()));
+			});
 			applicationInfo.setPerspectiveData(dataInfo);
 		} catch (Exception e) {
 			applicationInfo.addError("Error checking perspectives:" + e.getMessage());
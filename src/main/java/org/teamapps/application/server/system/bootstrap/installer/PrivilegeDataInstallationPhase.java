@@ -36,6 +36,7 @@ import org.teamapps.model.controlcenter.Application;
 import org.teamapps.model.controlcenter.ApplicationPrivilege;
 import org.teamapps.model.controlcenter.ApplicationPrivilegeGroup;
 import org.teamapps.model.controlcenter.ApplicationPrivilegeGroupType;
+import org.teamapps.model.controlcenter.ApplicationVersion;
 import org.teamapps.universaldb.index.numeric.NumericFilter;
 import org.teamapps.universaldb.pojo.Entity;
 
@@ -81,19 +82,20 @@ public class PrivilegeDataInstallationPhase implements ApplicationInstallationPh
 			if (application == null) {
 				dataInfo.setDataAdded(privilegeGroupInfoData);
 			} else {
-				List<ApplicationPrivilegeGroup> applicationPrivilegeGroups = getApplicationPrivilegeGroups(application);
-				KeyCompare<PrivilegeGroup, ApplicationPrivilegeGroup> keyCompare = new KeyCompare<>(privilegeGroups, applicationPrivilegeGroups, PrivilegeGroup::getName, ApplicationPrivilegeGroup::getName);
-				List<PrivilegeGroup> newPrivilegeGroups = keyCompare.getAEntriesNotInB();
-				dataInfo.setDataAdded(getPrivilegeGroupInfoData(newPrivilegeGroups));
-
-				List<ApplicationPrivilegeGroup> removedPrivilegeGroups = keyCompare.getBEntriesNotInA();
-				dataInfo.setDataRemoved(getApplicationPrivilegeGroupInfoData(removedPrivilegeGroups));
-
-				List<PrivilegeGroup> existingGroups = keyCompare.getAEntriesInB();
-				for (PrivilegeGroup privilegeGroup : existingGroups) {
-					KeyCompare<Privilege, ApplicationPrivilege> privilegeCompare = new KeyCompare<>(privilegeGroup.getPrivileges(), keyCompare.getB(privilegeGroup).getPrivileges(), Privilege::getName, ApplicationPrivilege::getName);
-					//privilege diff
+				ApplicationVersion installedVersion = application.getInstalledVersion();
+				if (installedVersion != null && dataInfo.checkUnchanged(installedVersion.getPrivilegeData())) {
+					applicationInfo.setPrivilegeData(dataInfo);
+					return;
 				}
+				dataInfo.setDiffBuilder(info -> {
+					List<ApplicationPrivilegeGroup> applicationPrivilegeGroups = getApplicationPrivilegeGroups(application);
+					KeyCompare<PrivilegeGroup, ApplicationPrivilegeGroup> keyCompare = new KeyCompare<>(privilegeGroups, applicationPrivilegeGroups, PrivilegeGroup::getName, ApplicationPrivilegeGroup::getName);
+					List<PrivilegeGroup> newPrivilegeGroups = keyCompare.getAEntriesNotInB();
+					info.setDataAdded(getPrivilegeGroupInfoData(newPrivilegeGroups));
+
+					List<ApplicationPrivilegeGroup> removedPrivilegeGroups = keyCompare.getBEntriesNotInA();
+					info.setDataRemoved(getApplicationPrivilegeGroupInfoData(removedPrivilegeGroups));
+				});
 			}
 			applicationInfo.setPrivilegeData(dataInfo);
 		} catch (Exception e) {
@@ -37,6 +37,16 @@ public class AuthenticationConfig {
 	private String autoLoginSecret = "the-secret";
 	private int autoLoginUrlValidityInSeconds = 30;
 
+	private int loginAttemptWindowSeconds = 900;
+	private int maxFailedLoginsPerUser = 5;
+	private int maxFailedLoginsPerClientIp = 50;
+	private int loginLockoutSeconds = 900;
+	private int loginBaseDelayMillis = 250;
+	private int loginMaxDelayMillis = 8_000;
+	private int passwordVerificationThreads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+	private int passwordVerificationQueueSize = 256;
+	private int secureLoginTokenMaxIdleDays = 0;
+
 	public boolean isAllowStoringSecurityTokensOnClient() {
 		return allowStoringSecurityTokensOnClient;
 	}
@@ -132,4 +142,76 @@ public class AuthenticationConfig {
 	public void setAutoLoginUrlValidityInSeconds(int autoLoginUrlValidityInSeconds) {
 		this.autoLoginUrlValidityInSeconds = autoLoginUrlValidityInSeconds;
 	}
+
+	public int getLoginAttemptWindowSeconds() {
+		return loginAttemptWindowSeconds;
+	}
+
+	public void setLoginAttemptWindowSeconds(int loginAttemptWindowSeconds) {
+		this.loginAttemptWindowSeconds = loginAttemptWindowSeconds;
+	}
+
+	public int getMaxFailedLoginsPerUser() {
+		return maxFailedLoginsPerUser;
+	}
+
+	public void setMaxFailedLoginsPerUser(int maxFailedLoginsPerUser) {
+		this.maxFailedLoginsPerUser = maxFailedLoginsPerUser;
+	}
+
+	public int getMaxFailedLoginsPerClientIp() {
+		return maxFailedLoginsPerClientIp;
+	}
+
+	public void setMaxFailedLoginsPerClientIp(int maxFailedLoginsPerClientIp) {
+		this.maxFailedLoginsPerClientIp = maxFailedLoginsPerClientIp;
+	}
+
+	public int getLoginLockoutSeconds() {
+		return loginLockoutSeconds;
+	}
+
+	public void setLoginLockoutSeconds(int loginLockoutSeconds) {
+		this.loginLockoutSeconds = loginLockoutSeconds;
+	}
+
+	public int getLoginBaseDelayMillis() {
+		return loginBaseDelayMillis;
+	}
+
+	public void setLoginBaseDelayMillis(int loginBaseDelayMillis) {
+		this.loginBaseDelayMillis = loginBaseDelayMillis;
+	}
+
+	public int getLoginMaxDelayMillis() {
+		return loginMaxDelayMillis;
+	}
+
+	public void setLoginMaxDelayMillis(int loginMaxDelayMillis) {
+		this.loginMaxDelayMillis = loginMaxDelayMillis;
+	}
+
+	public int getPasswordVerificationThreads() {
+		return passwordVerificationThreads;
+	}
+
+	public void setPasswordVerificationThreads(int passwordVerificationThreads) {
+		this.passwordVerificationThreads = passwordVerificationThreads;
+	}
+
+	public int getPasswordVerificationQueueSize() {
+		return passwordVerificationQueueSize;
+	}
+
+	public void setPasswordVerificationQueueSize(int passwordVerificationQueueSize) {
+		this.passwordVerificationQueueSize = passwordVerificationQueueSize;
+	}
+
+	public int getSecureLoginTokenMaxIdleDays() {
+		return secureLoginTokenMaxIdleDays;
+	}
+
+	public void setSecureLoginTokenMaxIdleDays(int secureLoginTokenMaxIdleDays) {
+		this.secureLoginTokenMaxIdleDays = secureLoginTokenMaxIdleDays;
+	}
 }
@@ -30,6 +30,8 @@ public class SystemConfig {
 	private DocumentConversionConfig documentConversionConfig = new DocumentConversionConfig();
 	private MonitoringDashboardConfig monitoringDashboardConfig = new MonitoringDashboardConfig();
 	private MailConfig mailConfig = new MailConfig();
+	private SystemLogConfig systemLogConfig = new SystemLogConfig();
+	private boolean lazyApplicationLoading;
 
 	public LocalizationConfig getLocalizationConfig() {
 		return localizationConfig;
@@ -102,4 +104,20 @@ public class SystemConfig {
 	public void setMailConfig(MailConfig mailConfig) {
 		this.mailConfig = mailConfig;
 	}
+
+	public SystemLogConfig getSystemLogConfig() {
+		return systemLogConfig;
+	}
+
+	public void setSystemLogConfig(SystemLogConfig systemLogConfig) {
+		this.systemLogConfig = systemLogConfig;
+	}
+
+	public boolean isLazyApplicationLoading() {
+		return lazyApplicationLoading;
+	}
+
+	public void setLazyApplicationLoading(boolean lazyApplicationLoading) {
+		this.lazyApplicationLoading = lazyApplicationLoading;
+	}
 }
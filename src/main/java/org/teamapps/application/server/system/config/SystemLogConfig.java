@@ -0,0 +1,158 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SystemLogConfig {
+	private int bufferSize = 10_000;
+	private int batchSize = 250;
+	private int flushIntervalMillis = 1_000;
+	private SystemLogOverflowPolicy overflowPolicy = SystemLogOverflowPolicy.DROP_OLDEST;
+	private int sampleRate = 10;
+	private boolean retentionActive;
+	private int retentionIntervalMinutes = 60;
+	private int retentionChunkSize = 10_000;
+	private int defaultMaxAgeDays = 180;
+	private int defaultMaxRows = 1_000_000;
+	private boolean archiveDeletedEntries = true;
+	private boolean aggregateRepeatedExceptions = true;
+	private int archiveMaxAgeDays = 730;
+	private List<SystemLogRetentionPolicy> retentionPolicies = new ArrayList<>(List.of(
+			new SystemLogRetentionPolicy("DEBUG", null, 7, 100_000),
+			new SystemLogRetentionPolicy("INFO", null, 30, 250_000)
+	));
+
+	public SystemLogConfig() {
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public int getFlushIntervalMillis() {
+		return flushIntervalMillis;
+	}
+
+	public void setFlushIntervalMillis(int flushIntervalMillis) {
+		this.flushIntervalMillis = flushIntervalMillis;
+	}
+
+	public SystemLogOverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	public void setOverflowPolicy(SystemLogOverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+	public void setSampleRate(int sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	public boolean isRetentionActive() {
+		return retentionActive;
+	}
+
+	public void setRetentionActive(boolean retentionActive) {
+		this.retentionActive = retentionActive;
+	}
+
+	public int getRetentionIntervalMinutes() {
+		return retentionIntervalMinutes;
+	}
+
+	public void setRetentionIntervalMinutes(int retentionIntervalMinutes) {
+		this.retentionIntervalMinutes = retentionIntervalMinutes;
+	}
+
+	public int getRetentionChunkSize() {
+		return retentionChunkSize;
+	}
+
+	public void setRetentionChunkSize(int retentionChunkSize) {
+		this.retentionChunkSize = retentionChunkSize;
+	}
+
+	public int getDefaultMaxAgeDays() {
+		return defaultMaxAgeDays;
+	}
+
+	public void setDefaultMaxAgeDays(int defaultMaxAgeDays) {
+		this.defaultMaxAgeDays = defaultMaxAgeDays;
+	}
+
+	public int getDefaultMaxRows() {
+		return defaultMaxRows;
+	}
+
+	public void setDefaultMaxRows(int defaultMaxRows) {
+		this.defaultMaxRows = defaultMaxRows;
+	}
+
+	public boolean isArchiveDeletedEntries() {
+		return archiveDeletedEntries;
+	}
+
+	public void setArchiveDeletedEntries(boolean archiveDeletedEntries) {
+		this.archiveDeletedEntries = archiveDeletedEntries;
+	}
+
+	public boolean isAggregateRepeatedExceptions() {
+		return aggregateRepeatedExceptions;
+	}
+
+	public void setAggregateRepeatedExceptions(boolean aggregateRepeatedExceptions) {
+		this.aggregateRepeatedExceptions = aggregateRepeatedExceptions;
+	}
+
+	public int getArchiveMaxAgeDays() {
+		return archiveMaxAgeDays;
+	}
+
+	public void setArchiveMaxAgeDays(int archiveMaxAgeDays) {
+		this.archiveMaxAgeDays = archiveMaxAgeDays;
+	}
+
+	public List<SystemLogRetentionPolicy> getRetentionPolicies() {
+		return retentionPolicies;
+	}
+
+	public void setRetentionPolicies(List<SystemLogRetentionPolicy> retentionPolicies) {
+		this.retentionPolicies = retentionPolicies;
+	}
+}
@@ -0,0 +1,69 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.config;
+
+public class SystemLogRetentionPolicy {
+	private String logLevel;
+	private String applicationName;
+	private int maxAgeDays = 90;
+	private int maxRows = 100_000;
+
+	public SystemLogRetentionPolicy() {
+	}
+
+	public SystemLogRetentionPolicy(String logLevel, String applicationName, int maxAgeDays, int maxRows) {
+		this.logLevel = logLevel;
+		this.applicationName = applicationName;
+		this.maxAgeDays = maxAgeDays;
+		this.maxRows = maxRows;
+	}
+
+	public String getLogLevel() {
+		return logLevel;
+	}
+
+	public void setLogLevel(String logLevel) {
+		this.logLevel = logLevel;
+	}
+
+	public String getApplicationName() {
+		return applicationName;
+	}
+
+	public void setApplicationName(String applicationName) {
+		this.applicationName = applicationName;
+	}
+
+	public int getMaxAgeDays() {
+		return maxAgeDays;
+	}
+
+	public void setMaxAgeDays(int maxAgeDays) {
+		this.maxAgeDays = maxAgeDays;
+	}
+
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	public void setMaxRows(int maxRows) {
+		this.maxRows = maxRows;
+	}
+}
@@ -22,12 +22,10 @@ package org.teamapps.application.server.system.launcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.teamapps.application.api.application.perspective.PerspectiveBuilder;
-import org.teamapps.application.api.localization.ApplicationLocalizationProvider;
 import org.teamapps.application.server.system.bootstrap.LoadedApplication;
 import org.teamapps.application.server.system.organization.OrganizationUtils;
 import org.teamapps.application.server.system.session.ManagedApplicationSessionData;
 import org.teamapps.application.server.system.session.UserSessionData;
-import org.teamapps.application.ux.IconUtils;
 import org.teamapps.icons.Icon;
 import org.teamapps.model.controlcenter.Application;
 import org.teamapps.model.controlcenter.ManagedApplication;
@@ -44,24 +42,24 @@ public class ApplicationData {
 	private final String title;
 	private final String description;
 	private final int applicationPosition;
+	private final UserSessionData userSessionData;
 	private LoadedApplication loadedApplication;
 	private ManagedApplicationSessionData applicationSessionData;
 	private String applicationBadgeCount = null;
 
-	public ApplicationData(ManagedApplication managedApplication, LoadedApplication loadedApplication, ManagedApplicationSessionData applicationSessionData) {
-		this.managedApplication = managedApplication;
-		this.loadedApplication = loadedApplication;
-		this.applicationSessionData = applicationSessionData;
-		this.icon = managedApplication.getIcon() != null ? IconUtils.decodeIcon(managedApplication.getIcon()) : loadedApplication.getBaseApplicationBuilder().getApplicationIcon();
-		ApplicationLocalizationProvider localizationProvider = applicationSessionData.getMainApplicationLocalizationProvider();
-		this.title = managedApplication.getTitleKey() != null ? localizationProvider.getLocalized(managedApplication.getTitleKey()) : localizationProvider.getLocalized(loadedApplication.getBaseApplicationBuilder().getApplicationTitleKey());
-		this.description = managedApplication.getDescriptionKey() != null ? localizationProvider.getLocalized(managedApplication.getDescriptionKey()) : localizationProvider.getLocalized(loadedApplication.getBaseApplicationBuilder().getApplicationDescriptionKey());
-		this.applicationPosition = managedApplication.getListingPosition();
+	public ApplicationData(LauncherModel.ApplicationEntry applicationEntry, UserSessionData userSessionData) {
+		this.managedApplication = applicationEntry.getManagedApplication();
+		this.userSessionData = userSessionData;
+		this.loadedApplication = userSessionData.getRegistry().getLoadedApplication(managedApplication.getMainApplication());
+		this.icon = applicationEntry.getIcon();
+		this.title = applicationEntry.getTitle();
+		this.description = applicationEntry.getDescription();
+		this.applicationPosition = applicationEntry.getPosition();
 		init();
 	}
 
 	private void init() {
-		int userId = applicationSessionData.getUserSessionData().getUser().getId();
+		int userId = userSessionData.getUser().getId();
 		int count = 0;
 		for (ManagedApplicationPerspective managedApplicationPerspective : managedApplication.getPerspectives()) {
 			OrganizationField organizationField = managedApplicationPerspective.getManagedApplication().getOrganizationField();
@@ -69,7 +67,7 @@ public class ApplicationData {
 				LOGGER.warn("ERROR missing application perspective for app:{}, managed-perspective:{}", loadedApplication.getApplication().getName(), managedApplicationPerspective.getId());
 				continue;
 			}
-			LoadedApplication application = applicationSessionData.getUserSessionData().getRegistry().getLoadedApplication(managedApplicationPerspective.getApplicationPerspective().getApplication());
+			LoadedApplication application = userSessionData.getRegistry().getLoadedApplication(managedApplicationPerspective.getApplicationPerspective().getApplication());
 			if (application != null) {
 				PerspectiveBuilder perspectiveBuilder = application.getPerspectiveBuilder(managedApplicationPerspective.getApplicationPerspective().getName());
 				if (perspectiveBuilder != null) {
@@ -97,6 +95,9 @@ public class ApplicationData {
 	}
 
 	public ManagedApplicationSessionData getApplicationSessionData() {
+		if (applicationSessionData == null) {
+			applicationSessionData = userSessionData.createManageApplicationSessionData(managedApplication, new MobileApplicationNavigation());
+		}
 		return applicationSessionData;
 	}
 
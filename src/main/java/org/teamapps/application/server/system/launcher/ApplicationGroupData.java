@@ -19,16 +19,14 @@
  */
 package org.teamapps.application.server.system.launcher;
 
-import org.teamapps.application.server.system.session.UserSessionData;
-import org.teamapps.application.ux.IconUtils;
 import org.teamapps.icons.Icon;
 import org.teamapps.model.controlcenter.ManagedApplication;
-import org.teamapps.model.controlcenter.ManagedApplicationGroup;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class ApplicationGroupData {
@@ -38,10 +36,11 @@ public class ApplicationGroupData {
 	private final int groupPosition;
 	private final List<ApplicationData> applications = new ArrayList<>();
 
-	public ApplicationGroupData(ManagedApplicationGroup applicationGroup, UserSessionData userSessionData) {
-		this.icon = applicationGroup.getIcon() != null ? IconUtils.decodeIcon(applicationGroup.getIcon()) : null;
-		this.title = userSessionData.getLocalizationProvider().getLocalized(applicationGroup.getTitleKey());
-		this.groupPosition = applicationGroup.getListingPosition();
+	public ApplicationGroupData(LauncherModel.GroupEntry groupEntry, Function<LauncherModel.ApplicationEntry, ApplicationData> applicationDataFunction) {
+		this(groupEntry.getIcon(), groupEntry.getTitle(), groupEntry.getPosition());
+		for (LauncherModel.ApplicationEntry applicationEntry : groupEntry.getApplications()) {
+			applications.add(applicationDataFunction.apply(applicationEntry));
+		}
 	}
 
 	public ApplicationGroupData(Icon icon, String title, int groupPosition) {
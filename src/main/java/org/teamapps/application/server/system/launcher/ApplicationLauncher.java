@@ -33,7 +33,6 @@ import org.teamapps.application.api.desktop.ApplicationDesktop;
 import org.teamapps.application.api.localization.ApplicationLocalizationProvider;
 import org.teamapps.application.api.localization.Dictionary;
 import org.teamapps.application.api.localization.Language;
-import org.teamapps.application.api.privilege.ApplicationPrivilegeProvider;
 import org.teamapps.application.api.theme.ApplicationIcons;
 import org.teamapps.application.server.DatabaseLogAppender;
 import org.teamapps.application.server.PublicLinkResourceProvider;
@@ -42,8 +41,6 @@ import org.teamapps.application.server.system.bootstrap.LoadedApplication;
 import org.teamapps.application.server.system.bootstrap.LogoutHandler;
 import org.teamapps.application.server.system.bootstrap.SystemRegistry;
 import org.teamapps.application.server.system.config.ThemingConfig;
-import org.teamapps.application.server.system.privilege.PrivilegeApplicationKey;
-import org.teamapps.application.server.system.session.ManagedApplicationSessionData;
 import org.teamapps.application.server.system.session.UserSessionData;
 import org.teamapps.application.server.system.template.PropertyProviders;
 import org.teamapps.application.ux.UiUtils;
@@ -82,6 +79,7 @@ import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class ApplicationLauncher {
@@ -92,7 +90,10 @@ public class ApplicationLauncher {
 	private final LogoutHandler logoutHandler;
 	private final SystemRegistry registry;
 	private final boolean mobileView;
-	private final Map<String, String> registeredPublicBackgroundImageMap = new ConcurrentHashMap<>();
+	private static final Map<String, String> PUBLIC_BACKGROUND_IMAGE_LINK_MAP = new ConcurrentHashMap<>();
+
+	private final Set<String> registeredBackgroundImageKeys = ConcurrentHashMap.newKeySet();
+	private LauncherModel launcherModel;
 	private List<ApplicationGroupData> sortedApplicationGroups;
 	private Component applicationLauncher;
 	private Set<ApplicationData> openedApplications = new HashSet<>();
@@ -107,6 +108,7 @@ public class ApplicationLauncher {
 	private Tab applicationLauncherTab;
 	private ApplicationData userProfileApp;
 	private View launcherView;
+	private SimpleItemView<ApplicationData> launcherItemView;
 
 	public ApplicationLauncher(UserSessionData userSessionData, LogoutHandler logoutHandler) {
 		this.userSessionData = userSessionData;
@@ -243,6 +245,7 @@ public class ApplicationLauncher {
 		DatabaseLogAppender.THREAD_LOCAL_MANAGED_APPLICATION.set(application.getId());
 		DatabaseLogAppender.THREAD_LOCAL_APPLICATION_VERSION.set(getCurrentApplicationVersion(application));
 		DatabaseLogAppender.THREAD_LOCAL_MANAGED_PERSPECTIVE.set(null);
+		userSessionData.getRegistry().getActiveSessionRegistry().addApplication(userSessionData, application.getId());
 		setApplicationTheme(application);
 	}
 
@@ -278,12 +281,10 @@ public class ApplicationLauncher {
 
 	private void registerBackgroundImage(String applicationName, byte[] bytes, boolean darkTheme) {
 		String key = applicationName + "-" + (darkTheme ? "dark" : "bright");
-		String link = registeredPublicBackgroundImageMap.get(key);
-		if (link == null) {
-			link = PublicLinkResourceProvider.getInstance().createStaticResource(key + "-" + bytes.length, new ByteArrayResource(bytes, key + ".jpg"));
-			registeredPublicBackgroundImageMap.put(key, link);
+		String link = PUBLIC_BACKGROUND_IMAGE_LINK_MAP.computeIfAbsent(key + "-" + bytes.length, resourceKey -> PublicLinkResourceProvider.getInstance().createStaticResource(resourceKey, new ByteArrayResource(bytes, key + ".jpg")));
+		if (registeredBackgroundImageKeys.add(key)) {
+			userSessionData.getContext().registerBackgroundImage(key, link, link);
 		}
-		userSessionData.getContext().registerBackgroundImage(key, link, link);
 	}
 
 	private void setApplicationTheme(ManagedApplication application) {
@@ -298,7 +299,7 @@ public class ApplicationLauncher {
 		LoadedApplication loadedApplication = registry.getLoadedApplication(application.getMainApplication());
 		String applicationName = loadedApplication.getApplication().getName();
 		String key = applicationName + "-" + (darkTheme ? "dark" : "bright");
-		if (registeredPublicBackgroundImageMap.containsKey(key)) {
+		if (registeredBackgroundImageKeys.contains(key)) {
 			userSessionData.getContext().setBackgroundImage(key, 1_000);
 		} else {
 			userSessionData.getContext().setBackgroundImage(darkTheme ? "defaultDarkBackground" : "defaultBackground", 500);
@@ -325,49 +326,30 @@ public class ApplicationLauncher {
 	}
 
 	private void initApplicationData() {
+		initApplicationData(applicationEntry -> new ApplicationData(applicationEntry, userSessionData));
+	}
+
+	private void initApplicationData(Function<LauncherModel.ApplicationEntry, ApplicationData> applicationDataFunction) {
+		launcherModel = registry.getLauncherModelCache().getLauncherModel(userSessionData);
+		userProfileApp = null;
 		List<ApplicationGroupData> applicationGroups = new ArrayList<>();
-		for (ManagedApplicationGroup applicationGroup : ManagedApplicationGroup.getAll()) {
-			ApplicationGroupData applicationGroupData = new ApplicationGroupData(applicationGroup, userSessionData);
+		for (LauncherModel.GroupEntry groupEntry : launcherModel.getGroups()) {
+			ApplicationGroupData applicationGroupData = new ApplicationGroupData(groupEntry, applicationDataFunction);
 			applicationGroups.add(applicationGroupData);
-			for (ManagedApplication managedApplication : applicationGroup.getApplications()) {
-				if (isApplicationAccessible(managedApplication)) {
-					LoadedApplication loadedApplication = registry.getLoadedApplication(managedApplication.getMainApplication());
-					ManagedApplicationSessionData applicationSessionData = userSessionData.createManageApplicationSessionData(managedApplication, new MobileApplicationNavigation());
-					ApplicationData applicationData = new ApplicationData(managedApplication, loadedApplication, applicationSessionData);
-					applicationGroupData.addApplicationData(applicationData);
-					if (applicationData.getLoadedApplication().getBaseApplicationBuilder() instanceof UserProfileApplicationBuilder) {
-						userProfileApp = applicationData;
-					}
+			for (ApplicationData applicationData : applicationGroupData.getSortedApplications()) {
+				if (applicationData.getLoadedApplication().getBaseApplicationBuilder() instanceof UserProfileApplicationBuilder) {
+					userProfileApp = applicationData;
 				}
 			}
 		}
-		sortedApplicationGroups = ApplicationGroupData.getSortedGroups(applicationGroups.stream().filter(group -> !group.getSortedApplications().isEmpty()).collect(Collectors.toList()));
+		sortedApplicationGroups = applicationGroups;
 	}
 
-	private boolean isApplicationAccessible(ManagedApplication managedApplication) {
-		if (managedApplication.isHidden() || registry.getLoadedApplication(managedApplication.getMainApplication()) == null) {
-			return false;
-		}
-		for (ManagedApplicationPerspective managedApplicationPerspective : managedApplication.getPerspectives()) {
-			if (managedApplicationPerspective.getApplicationPerspective() != null) {
-				Application application = managedApplicationPerspective.getApplicationPerspective().getApplication();
-				LoadedApplication loadedApplication = registry.getLoadedApplication(application);
-				if (loadedApplication != null) {
-					PerspectiveBuilder perspectiveBuilder = loadedApplication.getPerspectiveBuilder(managedApplicationPerspective.getApplicationPerspective().getName());
-					if (perspectiveBuilder != null) {
-						ApplicationPrivilegeProvider applicationPrivilegeProvider = userSessionData.getUserPrivileges().getApplicationPrivilegeProvider(PrivilegeApplicationKey.create(managedApplicationPerspective));
-						boolean accessible = perspectiveBuilder.isPerspectiveAccessible(applicationPrivilegeProvider);
-						if (accessible) {
-							return true;
-						}
-					}
-				}
-			}
-		}
-		return false;
+	private void createApplicationLauncher() {
+		createLauncherView(createLauncherItemView(), mobileView);
 	}
 
-	private void createApplicationLauncher() {
+	private SimpleItemView<ApplicationData> createLauncherItemView() {
 		SimpleItemView<ApplicationData> itemView = new SimpleItemView<>();
 		for (ApplicationGroupData applicationGroup : sortedApplicationGroups) {
 			SimpleItemGroup<ApplicationData> itemGroup = new SimpleItemGroup<>(applicationGroup.getIcon(), applicationGroup.getTitle(), BaseTemplate.LIST_ITEM_EXTRA_VERY_LARGE_ICON_TWO_LINES);
@@ -386,16 +368,72 @@ public class ApplicationLauncher {
 			SimpleItem<ApplicationData> item = itemGroup.addItem(ApplicationIcons.LOG_OUT, getLocalized(Dictionary.LOGOUT), getLocalized(Dictionary.LOGOUT));
 			item.onClick.addListener(this::logout);
 		}
-		createLauncherView(itemView, mobileView);
+		return itemView;
 	}
 
-	public void reloadUserPrivileges() {
-		openedApplications.clear();
-		tabByApplicationData.clear();
-		applicationDataByTab.clear();
-		initApplicationData();
-		createApplicationLauncher();
-		createMainView();
+	public void reloadUserPrivileges(Set<Application> changedApplications) {
+		Map<ManagedApplication, ApplicationData> previousApplicationMap = new HashMap<>();
+		getAllApplications().forEach(applicationData -> previousApplicationMap.put(applicationData.getManagedApplication(), applicationData));
+		initApplicationData(applicationEntry -> {
+			ApplicationData applicationData = previousApplicationMap.get(applicationEntry.getManagedApplication());
+			return applicationData != null ? applicationData : new ApplicationData(applicationEntry, userSessionData);
+		});
+		Set<ApplicationData> visibleApplications = new HashSet<>(getAllApplications());
+		if (changedApplications != null && changedApplications.isEmpty() && visibleApplications.equals(new HashSet<>(previousApplicationMap.values()))) {
+			return;
+		}
+
+		Tab selectedTab = mobileView ? null : applicationsTabPanel.getSelectedTab();
+		ApplicationData selectedApplicationData = selectedTab != null ? applicationDataByTab.get(selectedTab) : null;
+		List<ApplicationData> reopenApplications = new ArrayList<>();
+		for (ApplicationData applicationData : previousApplicationMap.values()) {
+			boolean visible = visibleApplications.contains(applicationData);
+			if (openedApplications.contains(applicationData) && (!visible || isAffected(applicationData, changedApplications))) {
+				discardApplication(applicationData);
+				if (visible && !mobileView) {
+					reopenApplications.add(applicationData);
+				}
+			}
+		}
+
+		for (Application application : launcherModel.getApplications()) {
+			registerApplicationTheme(registry.getLoadedApplication(application));
+		}
+		launcherItemView = createLauncherItemView();
+		launcherView.getPanel().setContent(launcherItemView);
+
+		reopenApplications.forEach(this::openApplication);
+		if (selectedApplicationData != null && tabByApplicationData.containsKey(selectedApplicationData)) {
+			tabByApplicationData.get(selectedApplicationData).select();
+		} else if (selectedApplicationData != null) {
+			applicationLauncherTab.select();
+		} else if (selectedTab != null) {
+			selectedTab.select();
+		}
+	}
+
+	private boolean isAffected(ApplicationData applicationData, Set<Application> changedApplications) {
+		if (changedApplications == null) {
+			return true;
+		}
+		ManagedApplication managedApplication = applicationData.getManagedApplication();
+		return changedApplications.contains(managedApplication.getMainApplication()) || managedApplication.getPerspectives().stream()
+				.anyMatch(perspective -> perspective.getApplicationPerspective() != null && changedApplications.contains(perspective.getApplicationPerspective().getApplication()));
+	}
+
+	private void discardApplication(ApplicationData applicationData) {
+		if (mobileView) {
+			Component component = mobilAppByApplicationData.remove(applicationData);
+			openedApplications.remove(applicationData);
+			userSessionData.getRegistry().getActiveSessionRegistry().removeApplication(userSessionData, applicationData.getManagedApplication().getId());
+			applicationData.reloadApplicationData(userSessionData);
+			if (component != null && component.equals(userSessionData.getRootPanel().getContent())) {
+				userSessionData.setRootComponent(applicationLauncher);
+			}
+		} else {
+			closeApplication(applicationData.getManagedApplication());
+		}
+		openedApplicationInstanceByApplicationData.remove(applicationData);
 	}
 
 	private void logout() {
@@ -413,8 +451,8 @@ public class ApplicationLauncher {
 		ThemingConfig themingConfig = registry.getSystemConfig().getThemingConfig();
 		setLauncherTheme();
 
-		for (LoadedApplication loadedApplication : registry.getLoadedApplications()) {
-			registerApplicationTheme(loadedApplication);
+		for (Application application : launcherModel.getApplications()) {
+			registerApplicationTheme(registry.getLoadedApplication(application));
 		}
 		if (themingConfig.getBaseStyles() != null) {
 			userSessionData.getRootPanel().setBaseStyles(themingConfig.getBaseStyles());
@@ -527,6 +565,7 @@ public class ApplicationLauncher {
 					applicationsTabPanel.removeTab(tab);
 					tabByApplicationData.remove(runningApplication);
 					openedApplications.remove(runningApplication);
+					userSessionData.getRegistry().getActiveSessionRegistry().removeApplication(userSessionData, managedApplication.getId());
 					runningApplication.reloadApplicationData(userSessionData);
 					applicationDataByTab.remove(tab);
 				}
@@ -645,12 +684,13 @@ public class ApplicationLauncher {
 	}
 
 	private void createLauncherView(SimpleItemView<ApplicationData> launcherItemView, boolean mobileView) {
+		this.launcherItemView = launcherItemView;
 		launcherView = View.createView(StandardLayout.CENTER, ApplicationIcons.HOME, getLocalized(Dictionary.APPLICATIONS), launcherItemView);
 		Panel panel = launcherView.getPanel();
 		TextField applicationsSearchField = new TextField();
 		applicationsSearchField.setShowClearButton(true);
 		applicationsSearchField.setEmptyText(getLocalized(Dictionary.SEARCH___));
-		applicationsSearchField.onTextInput().addListener(launcherItemView::setFilter);
+		applicationsSearchField.onTextInput().addListener(text -> this.launcherItemView.setFilter(text));
 		panel.setRightHeaderField(applicationsSearchField);
 		panel.setContent(launcherItemView);
 		panel.setBodyBackgroundColor(userSessionData.isDarkTheme() ? Color.fromRgba(30, 30, 30, .7f) : Color.WHITE.withAlpha(0.7f));
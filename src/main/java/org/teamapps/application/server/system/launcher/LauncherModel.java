@@ -0,0 +1,166 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.launcher;
+
+import org.teamapps.application.api.application.BaseApplicationBuilder;
+import org.teamapps.application.api.application.perspective.PerspectiveBuilder;
+import org.teamapps.application.api.localization.ApplicationLocalizationProvider;
+import org.teamapps.application.api.privilege.ApplicationPrivilegeProvider;
+import org.teamapps.application.server.system.bootstrap.SystemRegistry;
+import org.teamapps.application.server.system.privilege.PrivilegeApplicationKey;
+import org.teamapps.application.server.system.session.UserSessionData;
+import org.teamapps.application.ux.IconUtils;
+import org.teamapps.icons.Icon;
+import org.teamapps.model.controlcenter.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class LauncherModel {
+
+	private final List<GroupEntry> groups;
+	private final List<Application> applications;
+
+	private LauncherModel(List<GroupEntry> groups) {
+		this.groups = Collections.unmodifiableList(groups);
+		this.applications = Collections.unmodifiableList(groups.stream()
+				.flatMap(group -> group.getApplications().stream())
+				.map(entry -> entry.getManagedApplication().getMainApplication())
+				.distinct()
+				.collect(Collectors.toList()));
+	}
+
+	public static LauncherModel create(UserSessionData userSessionData) {
+		SystemRegistry registry = userSessionData.getRegistry();
+		List<GroupEntry> groups = new ArrayList<>();
+		for (ManagedApplicationGroup applicationGroup : ManagedApplicationGroup.getAll()) {
+			List<ApplicationEntry> applications = new ArrayList<>();
+			for (ManagedApplication managedApplication : applicationGroup.getApplications()) {
+				if (isApplicationAccessible(managedApplication, userSessionData)) {
+					BaseApplicationBuilder applicationBuilder = registry.getApplicationBuilder(managedApplication.getMainApplication());
+					applications.add(new ApplicationEntry(managedApplication, applicationBuilder, userSessionData.getApplicationLocalizationProvider(managedApplication.getMainApplication())));
+				}
+			}
+			if (!applications.isEmpty()) {
+				applications.sort(Comparator.comparing(ApplicationEntry::getPosition));
+				Icon icon = applicationGroup.getIcon() != null ? IconUtils.decodeIcon(applicationGroup.getIcon()) : null;
+				String title = userSessionData.getLocalizationProvider().getLocalized(applicationGroup.getTitleKey());
+				groups.add(new GroupEntry(icon, title, applicationGroup.getListingPosition(), applications));
+			}
+		}
+		groups.sort(Comparator.comparing(GroupEntry::getPosition));
+		return new LauncherModel(groups);
+	}
+
+	private static boolean isApplicationAccessible(ManagedApplication managedApplication, UserSessionData userSessionData) {
+		SystemRegistry registry = userSessionData.getRegistry();
+		if (managedApplication.isHidden() || !registry.isApplicationAvailable(managedApplication.getMainApplication())) {
+			return false;
+		}
+		for (ManagedApplicationPerspective managedApplicationPerspective : managedApplication.getPerspectives()) {
+			if (managedApplicationPerspective.getApplicationPerspective() != null) {
+				Application application = managedApplicationPerspective.getApplicationPerspective().getApplication();
+				PerspectiveBuilder perspectiveBuilder = registry.getPerspectiveBuilder(application, managedApplicationPerspective.getApplicationPerspective().getName());
+				if (perspectiveBuilder != null) {
+					ApplicationPrivilegeProvider applicationPrivilegeProvider = userSessionData.getUserPrivileges().getApplicationPrivilegeProvider(PrivilegeApplicationKey.create(managedApplicationPerspective));
+					boolean accessible = perspectiveBuilder.isPerspectiveAccessible(applicationPrivilegeProvider);
+					if (accessible) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	public List<GroupEntry> getGroups() {
+		return groups;
+	}
+
+	public List<Application> getApplications() {
+		return applications;
+	}
+
+	public static class GroupEntry {
+		private final Icon icon;
+		private final String title;
+		private final int position;
+		private final List<ApplicationEntry> applications;
+
+		private GroupEntry(Icon icon, String title, int position, List<ApplicationEntry> applications) {
+			this.icon = icon;
+			this.title = title;
+			this.position = position;
+			this.applications = Collections.unmodifiableList(applications);
+		}
+
+		public Icon getIcon() {
+			return icon;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public int getPosition() {
+			return position;
+		}
+
+		public List<ApplicationEntry> getApplications() {
+			return applications;
+		}
+	}
+
+	public static class ApplicationEntry {
+		private final ManagedApplication managedApplication;
+		private final Icon icon;
+		private final String title;
+		private final String description;
+		private final int position;
+
+		private ApplicationEntry(ManagedApplication managedApplication, BaseApplicationBuilder applicationBuilder, ApplicationLocalizationProvider localizationProvider) {
+			this.managedApplication = managedApplication;
+			this.icon = managedApplication.getIcon() != null ? IconUtils.decodeIcon(managedApplication.getIcon()) : applicationBuilder.getApplicationIcon();
+			this.title = managedApplication.getTitleKey() != null ? localizationProvider.getLocalized(managedApplication.getTitleKey()) : localizationProvider.getLocalized(applicationBuilder.getApplicationTitleKey());
+			this.description = managedApplication.getDescriptionKey() != null ? localizationProvider.getLocalized(managedApplication.getDescriptionKey()) : localizationProvider.getLocalized(applicationBuilder.getApplicationDescriptionKey());
+			this.position = managedApplication.getListingPosition();
+		}
+
+		public ManagedApplication getManagedApplication() {
+			return managedApplication;
+		}
+
+		public Icon getIcon() {
+			return icon;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public int getPosition() {
+			return position;
+		}
+	}
+}
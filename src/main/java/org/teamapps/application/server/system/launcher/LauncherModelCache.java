@@ -0,0 +1,74 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.launcher;
+
+import org.teamapps.application.server.system.bootstrap.SystemRegistry;
+import org.teamapps.application.server.system.privilege.UserPrivilegesCache;
+import org.teamapps.application.server.system.session.UserSessionData;
+import org.teamapps.application.server.system.utils.GenerationCache;
+import org.teamapps.model.controlcenter.*;
+
+public class LauncherModelCache {
+	private static final int MAX_ENTRIES = 5_000;
+
+	private final SystemRegistry systemRegistry;
+	private final GenerationCache<LauncherModel> modelsByKey = new GenerationCache<>("launcher models", MAX_ENTRIES);
+
+	public LauncherModelCache(SystemRegistry systemRegistry) {
+		this.systemRegistry = systemRegistry;
+	}
+
+	public void registerEntityListeners() {
+		systemRegistry.registerEntity(ManagedApplication.getBuilder(), 0, update -> invalidate("managed application"));
+		systemRegistry.registerEntity(ManagedApplicationGroup.getBuilder(), 0, update -> invalidate("managed application group"));
+		systemRegistry.registerEntity(ManagedApplicationPerspective.getBuilder(), 0, update -> invalidate("managed application perspective"));
+		systemRegistry.registerEntity(Role.getBuilder(), 0, update -> invalidate("role"));
+		systemRegistry.registerEntity(RolePrivilegeAssignment.getBuilder(), 0, update -> invalidate("role privilege assignment"));
+		systemRegistry.registerEntity(RoleApplicationRoleAssignment.getBuilder(), 0, update -> invalidate("role application role assignment"));
+		systemRegistry.registerEntity(OrganizationUnit.getBuilder(), 0, update -> invalidate("organization unit"));
+		systemRegistry.registerEntity(LocalizationValue.getBuilder(), 0, update -> invalidate("localization value"));
+	}
+
+	public LauncherModel getLauncherModel(UserSessionData userSessionData) {
+		if (userSessionData.getUserPrivileges().hasDynamicPrivilegeObjects()) {
+			return LauncherModel.create(userSessionData);
+		}
+		String key = createKey(userSessionData);
+		LauncherModel launcherModel = modelsByKey.get(key);
+		if (launcherModel != null) {
+			return launcherModel;
+		}
+		long generation = modelsByKey.getGeneration();
+		launcherModel = LauncherModel.create(userSessionData);
+		modelsByKey.put(key, launcherModel, generation);
+		return launcherModel;
+	}
+
+	public void invalidate(String reason) {
+		modelsByKey.invalidate(reason);
+	}
+
+	private static String createKey(UserSessionData userSessionData) {
+		User user = userSessionData.getUser();
+		return UserPrivilegesCache.createSignature(user, userSessionData.getAuthenticatedUserRole(), false)
+				+ (user.getUserAccountStatus() == UserAccountStatus.SUPER_ADMIN ? "|sa" : "")
+				+ "|" + String.join(",", userSessionData.getLocalizationRankedLanguages());
+	}
+}
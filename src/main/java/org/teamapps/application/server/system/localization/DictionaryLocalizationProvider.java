@@ -28,14 +28,13 @@ import org.teamapps.application.server.system.machinetranslation.TranslationServ
 import org.teamapps.universaldb.index.enumeration.EnumFilterType;
 import org.teamapps.universaldb.index.numeric.NumericFilter;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class DictionaryLocalizationProvider implements LocalizationProvider {
 
 	private final LocalizationConfig localizationConfig;
-	private Map<String, Map<String, LocalizationValue>> localizationLanguageValueMapByKey;
+	private final AtomicReference<LocalizationTable> localizationTable = new AtomicReference<>(LocalizationTable.EMPTY);
 
 	public DictionaryLocalizationProvider(LocalizationConfig localizationConfig) {
 		this.localizationConfig = localizationConfig;
@@ -52,28 +51,32 @@ public class DictionaryLocalizationProvider implements LocalizationProvider {
 	}
 
 	private void loadDictionary() {
-		localizationLanguageValueMapByKey = new HashMap<>();
+		LocalizationTable.Builder builder = LocalizationTable.builder();
 		LocalizationKey.filter()
 				.application(NumericFilter.equalsFilter(0))
 				.localizationKeyType(EnumFilterType.EQUALS, LocalizationKeyType.DICTIONARY_KEY)
 				.execute()
 				.stream()
-				.flatMap(key -> key.getLocalizationValues().stream()).forEach(value -> {
-			localizationLanguageValueMapByKey.computeIfAbsent(value.getLocalizationKey().getKey(), k -> new HashMap<>()).put(value.getLanguage(), value);
-		});
+				.flatMap(key -> key.getLocalizationValues().stream())
+				.forEach(builder::add);
+		localizationTable.set(builder.build());
+	}
+
+	public void reload() {
+		loadDictionary();
+	}
+
+	public void updateLocalizationValue(LocalizationValue value) {
+		localizationTable.updateAndGet(table -> table.withValue(value));
+	}
+
+	public LocalizationTable getLocalizationTable() {
+		return localizationTable.get();
 	}
 
 	public String getLocalizationValue(String key, List<String> languagePriorityOrder) {
-		Map<String, LocalizationValue> languageValueMap = localizationLanguageValueMapByKey.get(key);
-		if (languageValueMap != null) {
-			for (String language : languagePriorityOrder) {
-				LocalizationValue value = languageValueMap.get(language);
-				if (value != null && value.getCurrentDisplayValue() != null) {
-					return value.getCurrentDisplayValue();
-				}
-			}
-		}
-		return key;
+		String value = localizationTable.get().getValue(key, languagePriorityOrder, false);
+		return value != null ? value : key;
 	}
 
 
@@ -19,25 +19,29 @@
  */
 package org.teamapps.application.server.system.localization;
 
-import com.ibm.icu.text.MessageFormat;
 import org.teamapps.application.api.localization.LocalizationData;
 import org.teamapps.application.server.system.bootstrap.SystemRegistry;
 import org.teamapps.model.controlcenter.Application;
 import org.teamapps.model.controlcenter.LocalizationKey;
 import org.teamapps.model.controlcenter.LocalizationValue;
+import org.teamapps.universaldb.index.numeric.NumericFilter;
 import org.teamapps.universaldb.index.translation.TranslatableText;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 public class GlobalLocalizationProvider implements  LocalizationProvider{
 
 	private final DictionaryLocalizationProvider dictionary;
 	private final SystemLocalizationProvider systemDictionary;
-	private Map<String, Map<String, LocalizationValue>> allKeysMap;
-	private Map<Application, Map<String, Map<String, LocalizationValue>>> applicationLocalizationMap;
-	
+	private final MessageFormatCache messageFormatCache = new MessageFormatCache();
+	private final AtomicReference<LocalizationTables> localizationTables = new AtomicReference<>(new LocalizationTables(LocalizationTable.EMPTY, Collections.emptyMap()));
+	private final Set<Integer> pendingApplicationIds = new HashSet<>();
+	private boolean batchUpdate;
+	private boolean batchUpdateRequired;
+
 	public GlobalLocalizationProvider(SystemRegistry registry) {
 		this.dictionary = registry.getDictionary();
 		this.systemDictionary = registry.getSystemDictionary();
@@ -45,25 +49,146 @@ public class GlobalLocalizationProvider implements  LocalizationProvider{
 	}
 
 	public void updateLocalizationData() {
+		synchronized (localizationTables) {
+			rebuildLocalizationData();
+		}
+	}
+
+	private void rebuildLocalizationData() {
 		try {
-			Map<String, Map<String, LocalizationValue>> allKeysMap = new HashMap<>();
-			Map<Application, Map<String, Map<String, LocalizationValue>>> applicationLocalizationMap = new HashMap<>();
+			LocalizationTable.Builder allKeysBuilder = LocalizationTable.builder();
+			Map<Integer, LocalizationTable.Builder> applicationBuilderMap = new HashMap<>();
 			LocalizationKey.filter()
 					.execute()
 					.stream()
 					.flatMap(key -> key.getLocalizationValues().stream()).forEach(value -> {
-				allKeysMap.computeIfAbsent(value.getLocalizationKey().getKey(), k -> new HashMap<>()).put(value.getLanguage(), value);
-				applicationLocalizationMap
-						.computeIfAbsent(value.getLocalizationKey().getApplication(), k -> new HashMap<>())
-						.computeIfAbsent(value.getLocalizationKey().getKey(), k -> new HashMap<>()).put(value.getLanguage(), value);
+				allKeysBuilder.add(value);
+				applicationBuilderMap.computeIfAbsent(getApplicationId(value.getLocalizationKey().getApplication()), k -> LocalizationTable.builder()).add(value);
 			});
-			this.allKeysMap = allKeysMap;
-			this.applicationLocalizationMap = applicationLocalizationMap;
+			Map<Integer, LocalizationTable> applicationTableMap = new HashMap<>();
+			applicationBuilderMap.forEach((applicationId, builder) -> applicationTableMap.put(applicationId, builder.build()));
+			LocalizationTables tables = new LocalizationTables(allKeysBuilder.build(), applicationTableMap);
+			updateTables(previousTables -> tables);
+			messageFormatCache.clear();
 		} catch (Throwable e) {
 			e.printStackTrace();
 		}
 	}
 
+	public synchronized void startBatchUpdate() {
+		batchUpdate = true;
+	}
+
+	public void finishBatchUpdate() {
+		synchronized (this) {
+			batchUpdate = false;
+			if (!batchUpdateRequired && pendingApplicationIds.isEmpty()) {
+				return;
+			}
+			batchUpdateRequired = false;
+			pendingApplicationIds.clear();
+		}
+		updateAllLocalizationData();
+	}
+
+	public void requestFullUpdate() {
+		synchronized (this) {
+			if (batchUpdate) {
+				batchUpdateRequired = true;
+				return;
+			}
+		}
+		updateAllLocalizationData();
+	}
+
+	private void updateAllLocalizationData() {
+		dictionary.reload();
+		systemDictionary.update();
+		updateLocalizationData();
+	}
+
+	public void updateApplicationLocalizationData(Application application) {
+		if (application == null) {
+			return;
+		}
+		synchronized (this) {
+			if (batchUpdate) {
+				pendingApplicationIds.add(application.getId());
+				return;
+			}
+		}
+		synchronized (localizationTables) {
+			updateApplicationTable(application);
+		}
+	}
+
+	private void updateApplicationTable(Application application) {
+		try {
+			List<LocalizationValue> values = LocalizationKey.filter()
+					.application(NumericFilter.equalsFilter(application.getId()))
+					.execute()
+					.stream()
+					.flatMap(key -> key.getLocalizationValues().stream())
+					.collect(Collectors.toList());
+			LocalizationTable applicationTable = LocalizationTable.create(values);
+			updateTables(tables -> {
+				LocalizationTable.Builder allKeysBuilder = LocalizationTable.builder().addAll(tables.getAllKeysTable());
+				values.forEach(allKeysBuilder::add);
+				Map<Integer, LocalizationTable> applicationTableMap = new HashMap<>(tables.applicationTableMap);
+				applicationTableMap.put(application.getId(), applicationTable);
+				return new LocalizationTables(allKeysBuilder.build(), applicationTableMap);
+			});
+		} catch (Throwable e) {
+			e.printStackTrace();
+		}
+	}
+
+	public void handleLocalizationValueUpdate(LocalizationValue value) {
+		if (value == null) {
+			return;
+		}
+		synchronized (this) {
+			if (batchUpdate) {
+				batchUpdateRequired = true;
+				return;
+			}
+		}
+		if (!value.isStored()) {
+			requestFullUpdate();
+			return;
+		}
+		updateLocalizationValue(value);
+	}
+
+	public void updateLocalizationValue(LocalizationValue value) {
+		if (value == null || value.getLocalizationKey() == null || value.getLocalizationKey().getKey() == null) {
+			return;
+		}
+		String key = value.getLocalizationKey().getKey();
+		if (key.startsWith(LocalizationData.DICTIONARY_PREFIX)) {
+			dictionary.updateLocalizationValue(value);
+		} else if (key.startsWith(SystemLocalizationProvider.SYSTEM_KEY_PREFIX)) {
+			systemDictionary.updateLocalizationValue(value);
+		}
+		int applicationId = getApplicationId(value.getLocalizationKey().getApplication());
+		updateTables(tables -> {
+			Map<Integer, LocalizationTable> applicationTableMap = new HashMap<>(tables.applicationTableMap);
+			applicationTableMap.put(applicationId, tables.getApplicationTable(applicationId).withValue(value));
+			return new LocalizationTables(tables.getAllKeysTable().withValue(value), applicationTableMap);
+		});
+	}
+
+	private void updateTables(UnaryOperator<LocalizationTables> update) {
+		synchronized (localizationTables) {
+			localizationTables.updateAndGet(update);
+		}
+	}
+
+	public LocalizationTable getLocalizationTable(Application application) {
+		LocalizationTables tables = localizationTables.get();
+		return application == null ? tables.getAllKeysTable() : tables.getApplicationTable(application.getId());
+	}
+
 	public String getLocalized(String key, Application application, List<String> rankedLanguages) {
 		if (key == null || key.isEmpty()) {
 			return key;
@@ -73,39 +198,27 @@ public class GlobalLocalizationProvider implements  LocalizationProvider{
 		} else if (key.startsWith(SystemLocalizationProvider.SYSTEM_KEY_PREFIX)) {
 			return systemDictionary.getLocalizationValue(key, rankedLanguages);
 		} else {
+			LocalizationTables tables = localizationTables.get();
+			String result = null;
 			if (application != null) {
-				String result = getLocalizationValue(key, applicationLocalizationMap.get(application), rankedLanguages);
-				return !key.equals(result) ? result : getLocalizationValue(key, allKeysMap, rankedLanguages);
-			} else {
-				return getLocalizationValue(key, allKeysMap, rankedLanguages);
+				result = tables.getApplicationTable(application.getId()).getValue(key, rankedLanguages, true);
 			}
+			if (result == null) {
+				result = tables.getAllKeysTable().getValue(key, rankedLanguages, true);
+			}
+			return result != null ? result : key;
 		}
 	}
 
-	private String getLocalizationValue(String key, Map<String, Map<String, LocalizationValue>> localizationMap, List<String> rankedLanguages) {
-		if (localizationMap == null) {
-			return key;
-		}
-		Map<String, LocalizationValue> languageValueMap = localizationMap.get(key);
-		if (languageValueMap != null) {
-			for (String language : rankedLanguages) {
-				LocalizationValue value = languageValueMap.get(language);
-				if (value != null && value.getCurrentDisplayValue() != null) {
-					return value.getCurrentDisplayValue();
-				}
-			}
-			if (!languageValueMap.isEmpty()) {
-				return languageValueMap.entrySet().iterator().next().getValue().getCurrentDisplayValue();
-			}
-		}
-		return key;
+	private static int getApplicationId(Application application) {
+		return application != null ? application.getId() : 0;
 	}
 
 	public String getLocalized(String key, Application application, List<String> rankedLanguage, Object... parameters) {
 		String localizationValue = getLocalized(key, application, rankedLanguage);
 		if (parameters != null && parameters.length > 0) {
 			try {
-				return MessageFormat.format(localizationValue, parameters);
+				return messageFormatCache.format(localizationValue, parameters);
 			} catch (Exception e) {
 				e.printStackTrace();
 				return localizationValue;
@@ -134,4 +247,22 @@ public class GlobalLocalizationProvider implements  LocalizationProvider{
 	public String getLocalizationValue(String key, List<String> languagePriorityOrder) {
 		return getLocalized(key, null, languagePriorityOrder);
 	}
+
+	private static class LocalizationTables {
+		private final LocalizationTable allKeysTable;
+		private final Map<Integer, LocalizationTable> applicationTableMap;
+
+		private LocalizationTables(LocalizationTable allKeysTable, Map<Integer, LocalizationTable> applicationTableMap) {
+			this.allKeysTable = allKeysTable;
+			this.applicationTableMap = applicationTableMap;
+		}
+
+		public LocalizationTable getAllKeysTable() {
+			return allKeysTable;
+		}
+
+		public LocalizationTable getApplicationTable(int applicationId) {
+			return applicationTableMap.getOrDefault(applicationId, LocalizationTable.EMPTY);
+		}
+	}
 }
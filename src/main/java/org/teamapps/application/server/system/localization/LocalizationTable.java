@@ -0,0 +1,209 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.localization;
+
+import org.teamapps.model.controlcenter.LocalizationValue;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LocalizationTable {
+
+	public static final LocalizationTable EMPTY = builder().build();
+	private static final int MAX_LANGUAGE_CHAINS = 1_000;
+
+	private final Map<String, Integer> keyIdByKey;
+	private final String[] keys;
+	private final Map<String, Integer> languageIdByLanguage;
+	private final String[][] valuesByLanguage;
+	private final String[] fallbackValues;
+	private final Map<List<String>, int[]> languageChainMap;
+
+	private LocalizationTable(Map<String, Integer> keyIdByKey, String[] keys, Map<String, Integer> languageIdByLanguage, String[][] valuesByLanguage, String[] fallbackValues, Map<List<String>, int[]> languageChainMap) {
+		this.keyIdByKey = keyIdByKey;
+		this.keys = keys;
+		this.languageIdByLanguage = languageIdByLanguage;
+		this.valuesByLanguage = valuesByLanguage;
+		this.fallbackValues = fallbackValues;
+		this.languageChainMap = languageChainMap;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static LocalizationTable create(Collection<LocalizationValue> localizationValues) {
+		Builder builder = builder();
+		localizationValues.forEach(builder::add);
+		return builder.build();
+	}
+
+	public int getKeyId(String key) {
+		Integer keyId = keyIdByKey.get(key);
+		return keyId != null ? keyId : -1;
+	}
+
+	public String getKey(int keyId) {
+		return keys[keyId];
+	}
+
+	public int getSize() {
+		return keys.length;
+	}
+
+	public Set<String> getKeys() {
+		return keyIdByKey.keySet();
+	}
+
+	public boolean containsKey(String key) {
+		return keyIdByKey.containsKey(key);
+	}
+
+	public int[] getLanguageChain(List<String> rankedLanguages) {
+		int[] chain = languageChainMap.get(rankedLanguages);
+		if (chain == null) {
+			chain = rankedLanguages.stream()
+					.map(languageIdByLanguage::get)
+					.filter(Objects::nonNull)
+					.mapToInt(Integer::intValue)
+					.distinct()
+					.toArray();
+			if (languageChainMap.size() < MAX_LANGUAGE_CHAINS) {
+				languageChainMap.put(List.copyOf(rankedLanguages), chain);
+			}
+		}
+		return chain;
+	}
+
+	public String getValue(int keyId, int[] languageChain, boolean anyLanguageFallback) {
+		if (keyId < 0) {
+			return null;
+		}
+		for (int languageId : languageChain) {
+			String value = valuesByLanguage[languageId][keyId];
+			if (value != null) {
+				return value;
+			}
+		}
+		return anyLanguageFallback ? fallbackValues[keyId] : null;
+	}
+
+	public String getValue(String key, List<String> rankedLanguages, boolean anyLanguageFallback) {
+		int keyId = getKeyId(key);
+		return keyId < 0 ? null : getValue(keyId, getLanguageChain(rankedLanguages), anyLanguageFallback);
+	}
+
+	public LocalizationTable withValue(LocalizationValue value) {
+		if (value.getLocalizationKey() == null) {
+			return this;
+		}
+		return withValue(value.getLocalizationKey().getKey(), value.getLanguage(), value.getCurrentDisplayValue());
+	}
+
+	public LocalizationTable withValue(String key, String language, String value) {
+		Integer keyId = keyIdByKey.get(key);
+		Integer languageId = languageIdByLanguage.get(language);
+		if (keyId == null || languageId == null) {
+			return builder().addAll(this).add(key, language, value).build();
+		}
+		if (Objects.equals(valuesByLanguage[languageId][keyId], value)) {
+			return this;
+		}
+		String[][] values = valuesByLanguage.clone();
+		values[languageId] = values[languageId].clone();
+		values[languageId][keyId] = value;
+		String[] fallbacks = fallbackValues.clone();
+		fallbacks[keyId] = null;
+		for (String[] languageValues : values) {
+			if (languageValues[keyId] != null) {
+				fallbacks[keyId] = languageValues[keyId];
+				break;
+			}
+		}
+		return new LocalizationTable(keyIdByKey, keys, languageIdByLanguage, values, fallbacks, languageChainMap);
+	}
+
+	public static class Builder {
+		private final Map<String, Integer> keyIdByKey = new HashMap<>();
+		private final List<String> keys = new ArrayList<>();
+		private final Map<String, Integer> languageIdByLanguage = new HashMap<>();
+		private final List<Map<Integer, String>> valuesByLanguage = new ArrayList<>();
+
+		public Builder add(LocalizationValue value) {
+			if (value.getLocalizationKey() == null) {
+				return this;
+			}
+			return add(value.getLocalizationKey().getKey(), value.getLanguage(), value.getCurrentDisplayValue());
+		}
+
+		public Builder add(String key, String language, String value) {
+			if (key == null || language == null) {
+				return this;
+			}
+			int keyId = keyIdByKey.computeIfAbsent(key.intern(), k -> {
+				keys.add(k);
+				return keys.size() - 1;
+			});
+			int languageId = languageIdByLanguage.computeIfAbsent(language, l -> {
+				valuesByLanguage.add(new HashMap<>());
+				return valuesByLanguage.size() - 1;
+			});
+			if (value != null) {
+				valuesByLanguage.get(languageId).put(keyId, value);
+			} else {
+				valuesByLanguage.get(languageId).remove(keyId);
+			}
+			return this;
+		}
+
+		public Builder addAll(LocalizationTable table) {
+			for (Map.Entry<String, Integer> languageEntry : table.languageIdByLanguage.entrySet()) {
+				String[] values = table.valuesByLanguage[languageEntry.getValue()];
+				for (int keyId = 0; keyId < values.length; keyId++) {
+					if (values[keyId] != null) {
+						add(table.keys[keyId], languageEntry.getKey(), values[keyId]);
+					}
+				}
+			}
+			for (String key : table.keys) {
+				keyIdByKey.computeIfAbsent(key, k -> {
+					keys.add(k);
+					return keys.size() - 1;
+				});
+			}
+			return this;
+		}
+
+		public LocalizationTable build() {
+			int keyCount = keys.size();
+			String[][] values = new String[valuesByLanguage.size()][keyCount];
+			String[] fallbackValues = new String[keyCount];
+			for (int languageId = 0; languageId < valuesByLanguage.size(); languageId++) {
+				for (Map.Entry<Integer, String> entry : valuesByLanguage.get(languageId).entrySet()) {
+					values[languageId][entry.getKey()] = entry.getValue();
+					if (fallbackValues[entry.getKey()] == null) {
+						fallbackValues[entry.getKey()] = entry.getValue();
+					}
+				}
+			}
+			return new LocalizationTable(Map.copyOf(keyIdByKey), keys.toArray(new String[0]), Map.copyOf(languageIdByLanguage), values, fallbackValues, new ConcurrentHashMap<>());
+		}
+	}
+}
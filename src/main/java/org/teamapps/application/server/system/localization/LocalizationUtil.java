@@ -35,6 +35,10 @@ import org.teamapps.application.api.localization.Language;
 import org.teamapps.application.api.localization.LocalizationData;
 import org.teamapps.application.api.theme.ApplicationIcons;
 import org.teamapps.application.server.system.config.LocalizationConfig;
+import org.teamapps.application.server.system.machinetranslation.TranslationMemory;
+import org.teamapps.application.server.system.machinetranslation.TranslationPipeline;
+import org.teamapps.application.server.system.machinetranslation.TranslationProgress;
+import org.teamapps.application.server.system.machinetranslation.TranslationRequest;
 import org.teamapps.application.server.system.machinetranslation.TranslationService;
 import org.teamapps.application.tools.ChangeCounter;
 import org.teamapps.application.tools.KeyCompare;
@@ -48,8 +52,6 @@ import java.io.*;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
@@ -198,6 +200,18 @@ public class LocalizationUtil {
 		createRequiredLanguageValues(localizationKeys, localizationConfig);
 	}
 
+	public static void synchronizeLocalizationKeyState(LocalizationData localizationData, Application application, LocalizationConfig localizationConfig) {
+		Set<String> keys = localizationData.createLocalizationMapByKey().keySet();
+		List<LocalizationKey> localizationKeys = LocalizationKey.filter().application(NumericFilter.equalsFilter(application != null ? application.getId() : 0)).execute();
+		for (LocalizationKey localizationKey : localizationKeys) {
+			boolean used = keys.contains(localizationKey.getKey());
+			if (localizationKey.isUsed() != used) {
+				localizationKey.setUsed(used).save();
+			}
+		}
+		createRequiredLanguageValues(localizationKeys, localizationConfig);
+	}
+
 	public static int createRequiredLanguageValues(List<LocalizationKey> localizationKeys, LocalizationConfig localizationConfig) {
 		//create translation requests
 		List<String> requiredLanguages = localizationConfig.getRequiredLanguages();
@@ -234,9 +248,7 @@ public class LocalizationUtil {
 				.filter(value -> value.getLocalizationKey().getApplication() != null && value.getLocalizationKey().getApplication().equals(application))
 				.collect(Collectors.toList());
 		LOGGER.info("Application translation requests:" + translationRequests.size() + ", app:" + application.getName());
-		ExecutorService executor = Executors.newFixedThreadPool(10);
-		translationRequests.forEach(localizationValue -> executor.submit(() -> translateLocalizationValue(localizationValue, translationService, allowedSourceTranslationLanguages)));
-		executor.shutdown();
+		submitTranslationRequests(translationRequests, translationService, allowedSourceTranslationLanguages);
 	}
 
 	public static void translateAllDictionaryValues(TranslationService translationService, LocalizationConfig localizationConfig) {
@@ -252,9 +264,7 @@ public class LocalizationUtil {
 				.execute().stream()
 				.filter(value -> value.getLocalizationKey().getLocalizationKeyType() == LocalizationKeyType.DICTIONARY_KEY)
 				.collect(Collectors.toList());
-		ExecutorService executor = Executors.newFixedThreadPool(10);
-		translationRequests.forEach(localizationValue -> executor.submit(() -> translateLocalizationValue(localizationValue, translationService, allowedSourceTranslationLanguages)));
-		executor.shutdown();
+		submitTranslationRequests(translationRequests, translationService, allowedSourceTranslationLanguages);
 	}
 
 	public static int translateAllValues(TranslationService translationService, LocalizationConfig localizationConfig) {
@@ -267,32 +277,77 @@ public class LocalizationUtil {
 				.original(TextFilter.emptyFilter())
 				.machineTranslation(TextFilter.emptyFilter())
 				.execute();
-		ExecutorService executor = Executors.newFixedThreadPool(10);
-		translationRequests.forEach(localizationValue -> executor.submit(() -> translateLocalizationValue(localizationValue, translationService, allowedSourceTranslationLanguages)));
-		executor.shutdown();
+		submitTranslationRequests(translationRequests, translationService, allowedSourceTranslationLanguages);
 		return translationRequests.size();
 	}
 
+	public static int seedTranslationMemory(TranslationMemory translationMemory, LocalizationConfig localizationConfig) {
+		if (translationMemory == null || localizationConfig == null) {
+			return 0;
+		}
+		Set<String> allowedSourceTranslationLanguages = new HashSet<>(localizationConfig.getAllowedSourceLanguages());
+		int count = 0;
+		for (LocalizationValue verifiedValue : LocalizationValue.filter()
+				.translationVerificationState(EnumFilterType.EQUALS, TranslationVerificationState.OK)
+				.execute()) {
+			count += addVerifiedTranslation(translationMemory, verifiedValue, allowedSourceTranslationLanguages);
+		}
+		return count;
+	}
+
+	public static int updateTranslationMemory(TranslationMemory translationMemory, LocalizationValue localizationValue, LocalizationConfig localizationConfig) {
+		if (translationMemory == null || localizationValue == null || localizationValue.getLocalizationKey() == null || localizationConfig == null) {
+			return 0;
+		}
+		Set<String> allowedSourceTranslationLanguages = new HashSet<>(localizationConfig.getAllowedSourceLanguages());
+		int count = 0;
+		for (LocalizationValue value : localizationValue.getLocalizationKey().getLocalizationValues()) {
+			if (value.getTranslationVerificationState() == TranslationVerificationState.OK) {
+				count += addVerifiedTranslation(translationMemory, value, allowedSourceTranslationLanguages);
+			}
+		}
+		return count;
+	}
+
+	private static int addVerifiedTranslation(TranslationMemory translationMemory, LocalizationValue verifiedValue, Set<String> allowedSourceTranslationLanguages) {
+		if (verifiedValue.getTranslation() == null || verifiedValue.getLocalizationKey() == null) {
+			return 0;
+		}
+		int count = 0;
+		for (LocalizationValue sourceValue : verifiedValue.getLocalizationKey().getLocalizationValues()) {
+			if (!sourceValue.equals(verifiedValue) && sourceValue.getOriginal() != null && allowedSourceTranslationLanguages.contains(sourceValue.getLanguage())) {
+				translationMemory.seedVerifiedTranslation(sourceValue.getLanguage(), verifiedValue.getLanguage(), getTranslationSourceText(sourceValue), verifiedValue.getTranslation());
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static TranslationProgress submitTranslationRequests(List<LocalizationValue> localizationValues, TranslationService translationService, Set<String> allowedSourceTranslationLanguages) {
+		List<TranslationRequest> requests = localizationValues.stream()
+				.map(value -> createTranslationRequest(value, translationService, allowedSourceTranslationLanguages))
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		TranslationProgress progress = TranslationPipeline.getPipeline(translationService).submit(requests);
+		LOGGER.info("Submitted machine translation requests: " + progress.getRequests() + ", unique texts: " + progress.getUniqueTexts() + ", batches: " + progress.getBatches());
+		return progress;
+	}
+
 	public static void translateLocalizationValue(LocalizationValue missingTranslationValue, TranslationService translationService, Set<String> allowedSourceTranslationLanguages) {
+		TranslationRequest request = createTranslationRequest(missingTranslationValue, translationService, allowedSourceTranslationLanguages);
+		if (request != null) {
+			request.getResultHandler().accept(translationService.translate(request.getText(), request.getSourceLanguage(), request.getTargetLanguage()));
+		}
+	}
+
+	private static TranslationRequest createTranslationRequest(LocalizationValue missingTranslationValue, TranslationService translationService, Set<String> allowedSourceTranslationLanguages) {
 		LocalizationValue adminValue = missingTranslationValue.getLocalizationKey().getLocalizationValues().stream()
 				.filter(value -> value.getAdminKeyOverride() != null)
 				.filter(value -> allowedSourceTranslationLanguages.contains(value.getLanguage()))
 				.findFirst()
 				.orElse(null);
 		if (adminValue != null && translationService.canTranslate(adminValue.getLanguage(), missingTranslationValue.getLanguage())) {
-			String translation = translationService.translate(adminValue.getAdminKeyOverride(), adminValue.getLanguage(), missingTranslationValue.getLanguage());
-			if (translation != null) {
-				translation = firstUpperIfSourceUpper(adminValue.getAdminKeyOverride(), translation);
-				LOGGER.info("Translate admin key (" + adminValue.getLanguage() + "->" + missingTranslationValue.getLanguage() + "): " + adminValue.getAdminKeyOverride() + " -> " + translation);
-				missingTranslationValue
-						.setMachineTranslation(translation)
-						.setMachineTranslationState(MachineTranslationState.OK)
-						.setCurrentDisplayValue(getDisplayValue(missingTranslationValue))
-						.save();
-			} else {
-				LOGGER.warn("Missing translation admin key result (" + adminValue.getLanguage() + "->" + missingTranslationValue.getLanguage() + "): " + adminValue.getAdminKeyOverride() + " -> " + translation);
-			}
-			return;
+			return createTranslationRequest(missingTranslationValue, adminValue.getAdminKeyOverride(), adminValue.getLanguage());
 		}
 
 		Map<String, LocalizationValue> localizationValueByLanguage = missingTranslationValue.getLocalizationKey().getLocalizationValues().stream()
@@ -305,22 +360,28 @@ public class LocalizationUtil {
 			if (sourceValue != null && translationService.canTranslate(language, missingTranslationValue.getLanguage())) {
 				String translationSourceText = getTranslationSourceText(sourceValue);
 				if (translationSourceText != null && !translationSourceText.isBlank()) {
-					String translation = translationService.translate(translationSourceText, language, missingTranslationValue.getLanguage());
-					if (translation != null) {
-						translation = firstUpperIfSourceUpper(translationSourceText, translation);
-						LOGGER.info("Translate (" + language + "->" + missingTranslationValue.getLanguage() + "): " + translationSourceText + " -> " + translation);
-						missingTranslationValue
-								.setMachineTranslation(translation)
-								.setMachineTranslationState(MachineTranslationState.OK)
-								.setCurrentDisplayValue(getDisplayValue(missingTranslationValue))
-								.save();
-					} else {
-						LOGGER.warn("Missing translation result (" + language + "->" + missingTranslationValue.getLanguage() + "): " + translationSourceText + " -> " + translation);
-					}
-					break;
+					return createTranslationRequest(missingTranslationValue, translationSourceText, language);
 				}
 			}
 		}
+		return null;
+	}
+
+	private static TranslationRequest createTranslationRequest(LocalizationValue missingTranslationValue, String sourceText, String sourceLanguage) {
+		String targetLanguage = missingTranslationValue.getLanguage();
+		return new TranslationRequest(sourceText, sourceLanguage, targetLanguage, translation -> {
+			if (translation != null) {
+				translation = firstUpperIfSourceUpper(sourceText, translation);
+				LOGGER.info("Translate (" + sourceLanguage + "->" + targetLanguage + "): " + sourceText + " -> " + translation);
+				missingTranslationValue
+						.setMachineTranslation(translation)
+						.setMachineTranslationState(MachineTranslationState.OK)
+						.setCurrentDisplayValue(getDisplayValue(missingTranslationValue))
+						.save();
+			} else {
+				LOGGER.warn("Missing translation result (" + sourceLanguage + "->" + targetLanguage + "): " + sourceText);
+			}
+		});
 	}
 
 	private static String getTranslationSourceText(LocalizationValue localizationValue) {
@@ -0,0 +1,64 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.localization;
+
+import com.ibm.icu.text.MessageFormat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MessageFormatCache {
+
+	private static final int MAX_ENTRIES = 5_000;
+
+	private final Map<String, MessageFormat> messageFormatByPattern = new ConcurrentHashMap<>();
+
+	public static boolean requiresFormatting(String pattern) {
+		return pattern.indexOf('{') >= 0 || pattern.indexOf('\'') >= 0;
+	}
+
+	public String format(String pattern, Object... parameters) {
+		if (pattern == null || parameters == null || parameters.length == 0) {
+			return pattern;
+		}
+		if (!requiresFormatting(pattern)) {
+			return pattern;
+		}
+		MessageFormat messageFormat = messageFormatByPattern.get(pattern);
+		if (messageFormat == null) {
+			messageFormat = new MessageFormat(pattern);
+			if (messageFormatByPattern.size() >= MAX_ENTRIES) {
+				messageFormatByPattern.clear();
+			}
+			messageFormatByPattern.putIfAbsent(pattern, messageFormat);
+		}
+		synchronized (messageFormat) {
+			return messageFormat.format(parameters);
+		}
+	}
+
+	public int getSize() {
+		return messageFormatByPattern.size();
+	}
+
+	public void clear() {
+		messageFormatByPattern.clear();
+	}
+}
@@ -25,31 +25,37 @@ import org.teamapps.model.controlcenter.LocalizationValue;
 import org.teamapps.universaldb.index.enumeration.EnumFilterType;
 import org.teamapps.universaldb.index.numeric.NumericFilter;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class SystemLocalizationProvider implements LocalizationProvider {
 
 	public final static String SYSTEM_KEY_PREFIX = "org.teamapps.systemKey.";
 
-	private Map<String, Map<String, LocalizationValue>> localizationLanguageValueMapByKey;
+	private final AtomicReference<LocalizationTable> localizationTable = new AtomicReference<>(LocalizationTable.EMPTY);
 
 	public SystemLocalizationProvider() {
 		update();
 	}
 
 	public void update() {
-		Map<String, Map<String, LocalizationValue>> localizationLanguageValueMapByKey = new HashMap<>();
+		LocalizationTable.Builder builder = LocalizationTable.builder();
 		LocalizationKey.filter()
 				.application(NumericFilter.equalsFilter(0))
 				.localizationKeyType(EnumFilterType.EQUALS, LocalizationKeyType.SYSTEM_KEY)
 				.execute()
 				.stream()
-				.flatMap(key -> key.getLocalizationValues().stream()).forEach(value -> {
-			localizationLanguageValueMapByKey.computeIfAbsent(value.getLocalizationKey().getKey(), k -> new HashMap<>()).put(value.getLanguage(), value);
-		});
-		this.localizationLanguageValueMapByKey = localizationLanguageValueMapByKey;
+				.flatMap(key -> key.getLocalizationValues().stream())
+				.forEach(builder::add);
+		localizationTable.set(builder.build());
+	}
+
+	public void updateLocalizationValue(LocalizationValue value) {
+		localizationTable.updateAndGet(table -> table.withValue(value));
+	}
+
+	public LocalizationTable getLocalizationTable() {
+		return localizationTable.get();
 	}
 
 	public void reload() {
@@ -71,21 +77,13 @@ public class SystemLocalizationProvider implements LocalizationProvider {
 				.setLanguage(language)
 				.setOriginal(value)
 				.save();
-		localizationLanguageValueMapByKey.computeIfAbsent(localizationKey.getKey(), k -> new HashMap<>()).put(localizationValue.getLanguage(), localizationValue);
+		localizationTable.updateAndGet(table -> LocalizationTable.builder().addAll(table).add(localizationValue).build());
 		//todo create translation values
 	}
 
 	public String getLocalizationValue(String key, List<String> languagePriorityOrder) {
-		Map<String, LocalizationValue> languageValueMap = localizationLanguageValueMapByKey.get(key);
-		if (languageValueMap != null) {
-			for (String language : languagePriorityOrder) {
-				LocalizationValue value = languageValueMap.get(language);
-				if (value != null && value.getCurrentDisplayValue() != null) {
-					return value.getCurrentDisplayValue();
-				}
-			}
-		}
-		return key;
+		String value = localizationTable.get().getValue(key, languagePriorityOrder, false);
+		return value != null ? value : key;
 	}
 
 
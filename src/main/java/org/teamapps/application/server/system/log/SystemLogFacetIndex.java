@@ -0,0 +1,402 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.log;
+
+import org.teamapps.model.controlcenter.LogLevel;
+import org.teamapps.model.controlcenter.SystemLog;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+public class SystemLogFacetIndex {
+
+	private static final SystemLogFacetIndex INDEX = new SystemLogFacetIndex();
+
+	private static volatile boolean dirty = true;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final BitSet allRecords = new BitSet();
+	private final Facet logLevels = new Facet();
+	private final Facet exceptionClasses = new Facet();
+	private final Facet users = new Facet();
+	private final Facet applications = new Facet();
+	private final Facet managedApplications = new Facet();
+	private final Facet managedPerspectives = new Facet();
+	private final Facet applicationVersions = new Facet();
+	private final Map<String, Integer> exceptionClassKeys = new HashMap<>();
+	private final List<String> exceptionClassNames = new ArrayList<>(Collections.singletonList(null));
+	private volatile long modificationCount;
+
+	private SystemLogFacetIndex() {
+	}
+
+	public static SystemLogFacetIndex getIndex() {
+		if (dirty) {
+			INDEX.rebuild();
+		}
+		return INDEX;
+	}
+
+	public static void invalidate() {
+		dirty = true;
+	}
+
+	public static void handleUpdate(SystemLog log) {
+		INDEX.updateRecord(log);
+	}
+
+	private void rebuild() {
+		lock.writeLock().lock();
+		try {
+			if (!dirty) {
+				return;
+			}
+			dirty = false;
+			clear();
+			SystemLog.getAll().forEach(this::addRecord);
+			modificationCount++;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void updateRecord(SystemLog log) {
+		lock.writeLock().lock();
+		try {
+			if (dirty) {
+				return;
+			}
+			if (allRecords.get(log.getId())) {
+				removeRecord(log.getId());
+			}
+			if (log.isStored()) {
+				addRecord(log);
+			}
+			modificationCount++;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void clear() {
+		allRecords.clear();
+		logLevels.clear();
+		exceptionClasses.clear();
+		users.clear();
+		applications.clear();
+		managedApplications.clear();
+		managedPerspectives.clear();
+		applicationVersions.clear();
+	}
+
+	private void removeRecord(int id) {
+		allRecords.clear(id);
+		logLevels.remove(id);
+		exceptionClasses.remove(id);
+		users.remove(id);
+		applications.remove(id);
+		managedApplications.remove(id);
+		managedPerspectives.remove(id);
+		applicationVersions.remove(id);
+	}
+
+	private void addRecord(SystemLog log) {
+		int id = log.getId();
+		allRecords.set(id);
+		logLevels.add(id, getLogLevelKey(log.getLogLevel()));
+		exceptionClasses.add(id, log.getExceptionClass() != null ? exceptionClassKeys.computeIfAbsent(log.getExceptionClass(), this::createExceptionClassKey) : 0);
+		users.add(id, log.getMetaCreatedBy());
+		applications.add(id, log.getApplication() != null ? log.getApplication().getId() : 0);
+		managedApplications.add(id, log.getManagedApplication() != null ? log.getManagedApplication().getId() : 0);
+		managedPerspectives.add(id, log.getManagedPerspective() != null ? log.getManagedPerspective().getId() : 0);
+		applicationVersions.add(id, log.getApplicationVersion() != null ? log.getApplicationVersion().getId() : 0);
+	}
+
+	private int createExceptionClassKey(String exceptionClass) {
+		exceptionClassNames.add(exceptionClass);
+		return exceptionClassNames.size() - 1;
+	}
+
+	private static int getLogLevelKey(LogLevel logLevel) {
+		return logLevel != null ? logLevel.ordinal() + 1 : 0;
+	}
+
+	public static Predicate<SystemLog> createFilter(LogLevel logLevel, int userId, String exceptionClass, int managedApplicationId, int managedPerspectiveId, int applicationVersionId) {
+		if (logLevel == null && userId <= 0 && exceptionClass == null && managedApplicationId <= 0 && managedPerspectiveId <= 0 && applicationVersionId <= 0) {
+			return null;
+		}
+		return new Predicate<>() {
+			private volatile FilterResult filterResult = createFilterResult();
+
+			private FilterResult createFilterResult() {
+				SystemLogFacetIndex index = getIndex();
+				long count = index.modificationCount;
+				return new FilterResult(count, index.getRecords(logLevel, userId, exceptionClass, managedApplicationId, managedPerspectiveId, applicationVersionId));
+			}
+
+			@Override
+			public boolean test(SystemLog systemLog) {
+				FilterResult result = filterResult;
+				if (dirty || result.modificationCount != INDEX.modificationCount) {
+					result = createFilterResult();
+					filterResult = result;
+				}
+				return result.records.get(systemLog.getId());
+			}
+		};
+	}
+
+	private BitSet getRecords(LogLevel logLevel, int userId, String exceptionClass, int managedApplicationId, int managedPerspectiveId, int applicationVersionId) {
+		lock.readLock().lock();
+		try {
+			Integer exceptionClassKey = exceptionClass != null ? exceptionClassKeys.get(exceptionClass) : Integer.valueOf(0);
+			if (exceptionClassKey == null) {
+				return new BitSet();
+			}
+			Facet[] facets = {logLevels, users, exceptionClasses, managedApplications, managedPerspectives, applicationVersions};
+			int[] keys = {getLogLevelKey(logLevel), Math.max(userId, 0), exceptionClassKey, Math.max(managedApplicationId, 0), Math.max(managedPerspectiveId, 0), Math.max(applicationVersionId, 0)};
+			int smallest = -1;
+			for (int i = 0; i < facets.length; i++) {
+				if (keys[i] > 0 && (smallest < 0 || facets[i].getCount(keys[i]) < facets[smallest].getCount(keys[smallest]))) {
+					smallest = i;
+				}
+			}
+			if (smallest < 0) {
+				return (BitSet) allRecords.clone();
+			}
+			BitSet result = new BitSet();
+			PostingList records = facets[smallest].get(keys[smallest]);
+			if (records == null) {
+				return result;
+			}
+			for (int i = 0; i < records.size(); i++) {
+				int id = records.get(i);
+				if (matches(id, facets, keys)) {
+					result.set(id);
+				}
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static boolean matches(int id, Facet[] facets, int[] keys) {
+		for (int i = 0; i < facets.length; i++) {
+			if (keys[i] > 0 && !facets[i].hasKey(id, keys[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public BitSet getRecords(LogLevel logLevel, Collection<Integer> applicationIds) {
+		lock.readLock().lock();
+		try {
+			int logLevelKey = getLogLevelKey(logLevel);
+			if (applicationIds == null) {
+				if (logLevelKey == 0) {
+					return (BitSet) allRecords.clone();
+				}
+				return logLevels.getRecords(logLevelKey);
+			}
+			BitSet result = new BitSet();
+			for (Integer applicationId : applicationIds) {
+				PostingList records = applications.get(applicationId);
+				if (records == null) {
+					continue;
+				}
+				for (int i = 0; i < records.size(); i++) {
+					int id = records.get(i);
+					if (applications.hasKey(id, applicationId) && (logLevelKey == 0 || logLevels.hasKey(id, logLevelKey))) {
+						result.set(id);
+					}
+				}
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public Map<LogLevel, Integer> getLogLevelCounts() {
+		lock.readLock().lock();
+		try {
+			Map<LogLevel, Integer> counts = new EnumMap<>(LogLevel.class);
+			for (LogLevel logLevel : LogLevel.values()) {
+				int count = logLevels.getCount(getLogLevelKey(logLevel));
+				if (count > 0) {
+					counts.put(logLevel, count);
+				}
+			}
+			return counts;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public Map<String, Integer> getExceptionClassCounts() {
+		lock.readLock().lock();
+		try {
+			Map<String, Integer> counts = new LinkedHashMap<>();
+			for (int key = 1; key < exceptionClassNames.size(); key++) {
+				int count = exceptionClasses.getCount(key);
+				if (count > 0) {
+					counts.put(exceptionClassNames.get(key), count);
+				}
+			}
+			return counts;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static class FilterResult {
+		private final long modificationCount;
+		private final BitSet records;
+
+		private FilterResult(long modificationCount, BitSet records) {
+			this.modificationCount = modificationCount;
+			this.records = records;
+		}
+	}
+
+	private static class Facet {
+		private final Map<Integer, PostingList> recordsByKey = new HashMap<>();
+		private int[] keyById = new int[0];
+
+		private void add(int id, int key) {
+			if (key <= 0) {
+				return;
+			}
+			if (id >= keyById.length) {
+				keyById = Arrays.copyOf(keyById, Math.max(id + 1, keyById.length + (keyById.length >> 1)));
+			}
+			keyById[id] = key;
+			recordsByKey.computeIfAbsent(key, k -> new PostingList()).add(id);
+		}
+
+		private void remove(int id) {
+			if (id >= keyById.length || keyById[id] == 0) {
+				return;
+			}
+			int key = keyById[id];
+			keyById[id] = 0;
+			PostingList records = recordsByKey.get(key);
+			if (records != null && records.markRemoved(this, key)) {
+				recordsByKey.remove(key);
+			}
+		}
+
+		private boolean hasKey(int id, int key) {
+			return id < keyById.length && keyById[id] == key;
+		}
+
+		private PostingList get(int key) {
+			return recordsByKey.get(key);
+		}
+
+		private int getCount(int key) {
+			PostingList records = recordsByKey.get(key);
+			return records != null ? records.getCount() : 0;
+		}
+
+		private BitSet getRecords(int key) {
+			BitSet result = new BitSet();
+			PostingList records = recordsByKey.get(key);
+			if (records != null) {
+				for (int i = 0; i < records.size(); i++) {
+					int id = records.get(i);
+					if (hasKey(id, key)) {
+						result.set(id);
+					}
+				}
+			}
+			return result;
+		}
+
+		private void clear() {
+			recordsByKey.clear();
+			keyById = new int[0];
+		}
+	}
+
+	private static class PostingList {
+		private int[] ids = new int[4];
+		private int size;
+		private int removed;
+
+		private void add(int id) {
+			if (size > 0 && ids[size - 1] >= id) {
+				int position = Arrays.binarySearch(ids, 0, size, id);
+				if (position >= 0) {
+					removed--;
+					return;
+				}
+				position = -position - 1;
+				ensureCapacity();
+				System.arraycopy(ids, position, ids, position + 1, size - position);
+				ids[position] = id;
+				size++;
+				return;
+			}
+			ensureCapacity();
+			ids[size++] = id;
+		}
+
+		private boolean markRemoved(Facet facet, int key) {
+			removed++;
+			if (removed * 2 > size) {
+				int count = 0;
+				for (int i = 0; i < size; i++) {
+					if (facet.hasKey(ids[i], key)) {
+						ids[count++] = ids[i];
+					}
+				}
+				size = count;
+				removed = 0;
+				if (size < ids.length >> 2) {
+					ids = Arrays.copyOf(ids, Math.max(4, size));
+				}
+			}
+			return size == 0;
+		}
+
+		private void ensureCapacity() {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+			}
+		}
+
+		private int size() {
+			return size;
+		}
+
+		private int get(int index) {
+			return ids[index];
+		}
+
+		private int getCount() {
+			return size - removed;
+		}
+	}
+}
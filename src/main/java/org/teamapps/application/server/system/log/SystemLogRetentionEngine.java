@@ -0,0 +1,291 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.log;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.teamapps.application.server.system.config.SystemLogConfig;
+import org.teamapps.application.server.system.config.SystemLogRetentionPolicy;
+import org.teamapps.model.controlcenter.Application;
+import org.teamapps.model.controlcenter.LogLevel;
+import org.teamapps.model.controlcenter.SystemLog;
+
+import java.io.*;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+public class SystemLogRetentionEngine {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	private static final DateTimeFormatter ARCHIVE_FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+	private static final String ARCHIVE_FILE_PREFIX = "system-log-";
+	private static final String ARCHIVE_FILE_SUFFIX = ".tsv.gz";
+
+	private final File archivePath;
+	private final Supplier<SystemLogConfig> configSupplier;
+	private final ScheduledExecutorService scheduler;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private ScheduledFuture<?> scheduledRun;
+	private int scheduledIntervalMinutes;
+
+	public SystemLogRetentionEngine(File archivePath, Supplier<SystemLogConfig> configSupplier) {
+		this.archivePath = archivePath;
+		this.configSupplier = configSupplier;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "system-log-retention");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public synchronized void updateSchedule() {
+		SystemLogConfig config = configSupplier.get();
+		int intervalMinutes = config.isRetentionActive() ? Math.max(1, config.getRetentionIntervalMinutes()) : 0;
+		if (scheduledRun != null && intervalMinutes == scheduledIntervalMinutes) {
+			return;
+		}
+		if (scheduledRun != null) {
+			scheduledRun.cancel(false);
+			scheduledRun = null;
+		}
+		scheduledIntervalMinutes = intervalMinutes;
+		if (intervalMinutes > 0) {
+			scheduledRun = scheduler.scheduleWithFixedDelay(this::runScheduled, Math.min(5, intervalMinutes), intervalMinutes, TimeUnit.MINUTES);
+		}
+	}
+
+	private void runScheduled() {
+		try {
+			runRetention();
+		} catch (Throwable e) {
+			LOGGER.error("Error running system log retention", e);
+		}
+	}
+
+	public int runRetention() {
+		if (!running.compareAndSet(false, true)) {
+			return 0;
+		}
+		try {
+			SystemLogConfig config = configSupplier.get();
+			long time = System.currentTimeMillis();
+			int chunkSize = config.getRetentionChunkSize() > 0 ? config.getRetentionChunkSize() : Integer.MAX_VALUE;
+			List<SystemLog> expiredLogs = getExpiredLogs(config, Instant.now(), chunkSize);
+			if (!expiredLogs.isEmpty()) {
+				if (config.isArchiveDeletedEntries() && !archive(expiredLogs, config.isAggregateRepeatedExceptions())) {
+					LOGGER.warn("System log retention skipped deleting {} entries because archiving failed", expiredLogs.size());
+					return 0;
+				}
+				int deleted = 0;
+				for (SystemLog log : expiredLogs) {
+					try {
+						log.delete();
+						deleted++;
+					} catch (Exception e) {
+						LOGGER.warn("Error deleting system log entry {}: {}", log.getId(), e.getMessage());
+					}
+				}
+				LOGGER.info("System log retention deleted {} entries in {} ms", deleted, System.currentTimeMillis() - time);
+				if (expiredLogs.size() >= chunkSize) {
+					LOGGER.info("System log retention reached the chunk size of {} entries, continuing with the next run", chunkSize);
+				}
+			}
+			deleteExpiredArchives(config.getArchiveMaxAgeDays());
+			return expiredLogs.size();
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private List<SystemLog> getExpiredLogs(SystemLogConfig config, Instant now, int chunkSize) {
+		SystemLogFacetIndex index = SystemLogFacetIndex.getIndex();
+		List<SystemLogRetentionPolicy> policies = new ArrayList<>(config.getRetentionPolicies() != null ? config.getRetentionPolicies() : Collections.emptyList());
+		policies.sort(Comparator.comparingInt(SystemLogRetentionEngine::getScore).reversed());
+		List<SystemLog> expiredLogs = new ArrayList<>();
+		BitSet assignedRecords = new BitSet();
+		for (SystemLogRetentionPolicy policy : policies) {
+			LogLevel logLevel = policy.getLogLevel() != null ? getLogLevel(policy.getLogLevel()) : null;
+			if (policy.getLogLevel() != null && logLevel == null) {
+				continue;
+			}
+			BitSet records = index.getRecords(logLevel, policy.getApplicationName() != null ? getApplicationIds(policy.getApplicationName()) : null);
+			records.andNot(assignedRecords);
+			assignedRecords.or(records);
+			addExpiredLogs(policy, records, now, chunkSize, expiredLogs);
+		}
+		BitSet defaultRecords = index.getRecords(null, null);
+		defaultRecords.andNot(assignedRecords);
+		addExpiredLogs(new SystemLogRetentionPolicy(null, null, config.getDefaultMaxAgeDays(), config.getDefaultMaxRows()), defaultRecords, now, chunkSize, expiredLogs);
+		expiredLogs.sort(Comparator.comparingInt(SystemLog::getId));
+		return expiredLogs.size() > chunkSize ? new ArrayList<>(expiredLogs.subList(0, chunkSize)) : expiredLogs;
+	}
+
+	private static void addExpiredLogs(SystemLogRetentionPolicy policy, BitSet records, Instant now, int chunkSize, List<SystemLog> expiredLogs) {
+		Instant minDate = policy.getMaxAgeDays() > 0 ? now.minus(policy.getMaxAgeDays(), ChronoUnit.DAYS) : null;
+		int excessRows = policy.getMaxRows() > 0 ? records.cardinality() - policy.getMaxRows() : 0;
+		int added = 0;
+		for (int id = records.nextSetBit(0); id >= 0 && added < chunkSize; id = records.nextSetBit(id + 1)) {
+			SystemLog log = SystemLog.getById(id);
+			if (!log.isStored()) {
+				continue;
+			}
+			if (excessRows > 0) {
+				excessRows--;
+				expiredLogs.add(log);
+				added++;
+				continue;
+			}
+			Instant creationDate = log.getMetaCreationDate();
+			if (creationDate == null) {
+				continue;
+			}
+			if (minDate == null || !creationDate.isBefore(minDate)) {
+				break;
+			}
+			expiredLogs.add(log);
+			added++;
+		}
+	}
+
+	private static int getScore(SystemLogRetentionPolicy policy) {
+		return (policy.getLogLevel() != null ? 1 : 0) + (policy.getApplicationName() != null ? 2 : 0);
+	}
+
+	private static LogLevel getLogLevel(String name) {
+		return Arrays.stream(LogLevel.values())
+				.filter(logLevel -> logLevel.name().equalsIgnoreCase(name))
+				.findFirst()
+				.orElse(null);
+	}
+
+	private static List<Integer> getApplicationIds(String applicationName) {
+		return Application.getAll().stream()
+				.filter(application -> applicationName.equals(application.getName()))
+				.map(Application::getId)
+				.collect(Collectors.toList());
+	}
+
+	private boolean archive(List<SystemLog> logs, boolean aggregateExceptions) {
+		archivePath.mkdirs();
+		String fileName = ARCHIVE_FILE_PREFIX + LocalDateTime.now(ZoneOffset.UTC).format(ARCHIVE_FILE_FORMATTER) + ARCHIVE_FILE_SUFFIX;
+		File file = new File(archivePath, fileName);
+		Map<String, ArchiveEntry> aggregatedEntries = new LinkedHashMap<>();
+		List<ArchiveEntry> entries = new ArrayList<>();
+		for (SystemLog log : logs) {
+			if (aggregateExceptions && log.getExceptionClass() != null) {
+				String key = log.getLogLevel() + "\t" + log.getExceptionClass() + "\t" + log.getMessage() + "\t" + (log.getManagedApplication() != null ? log.getManagedApplication().getId() : 0);
+				ArchiveEntry entry = aggregatedEntries.get(key);
+				if (entry == null) {
+					entry = new ArchiveEntry(log);
+					aggregatedEntries.put(key, entry);
+					entries.add(entry);
+				} else {
+					entry.add(log);
+				}
+			} else {
+				entries.add(new ArchiveEntry(log));
+			}
+		}
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(file)), StandardCharsets.UTF_8))) {
+			writer.write("level\tfirst\tlast\tcount\tapplication\tmanagedApplication\tuser\texceptionClass\tmessage\tdetails\n");
+			for (ArchiveEntry entry : entries) {
+				writer.write(entry.toArchiveLine());
+				writer.write('\n');
+			}
+			LOGGER.info("Archived {} system log entries as {} rows: {}", logs.size(), entries.size(), file.getPath());
+			return true;
+		} catch (IOException e) {
+			LOGGER.error("Error writing system log archive: " + file.getPath(), e);
+			file.delete();
+			return false;
+		}
+	}
+
+	private void deleteExpiredArchives(int maxAgeDays) {
+		File[] files = archivePath.listFiles((dir, name) -> name.startsWith(ARCHIVE_FILE_PREFIX) && name.endsWith(ARCHIVE_FILE_SUFFIX));
+		if (files == null || maxAgeDays <= 0) {
+			return;
+		}
+		long minTime = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(maxAgeDays);
+		for (File file : files) {
+			if (file.lastModified() < minTime && !file.delete()) {
+				LOGGER.warn("Could not delete expired system log archive: {}", file.getPath());
+			}
+		}
+	}
+
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	private static class ArchiveEntry {
+		private final SystemLog log;
+		private Instant first;
+		private Instant last;
+		private int count;
+
+		private ArchiveEntry(SystemLog log) {
+			this.log = log;
+			add(log);
+		}
+
+		private void add(SystemLog log) {
+			Instant date = log.getMetaCreationDate();
+			if (date != null) {
+				first = first == null || date.isBefore(first) ? date : first;
+				last = last == null || date.isAfter(last) ? date : last;
+			}
+			count++;
+		}
+
+		private String toArchiveLine() {
+			return String.join("\t",
+					String.valueOf(log.getLogLevel()),
+					String.valueOf(first),
+					String.valueOf(last),
+					String.valueOf(count),
+					escape(log.getApplication() != null ? log.getApplication().getName() : null),
+					String.valueOf(log.getManagedApplication() != null ? log.getManagedApplication().getId() : 0),
+					String.valueOf(log.getMetaCreatedBy()),
+					escape(log.getExceptionClass()),
+					escape(log.getMessage()),
+					escape(log.getDetails()));
+		}
+
+		private static String escape(String value) {
+			return value == null ? "" : StringEscapeUtils.escapeJava(value);
+		}
+	}
+}
@@ -0,0 +1,263 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.log;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.teamapps.application.server.system.config.SystemLogConfig;
+import org.teamapps.application.server.system.config.SystemLogOverflowPolicy;
+import org.teamapps.protocol.system.SystemLogEntry;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public class SystemLogWriter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private final Consumer<SystemLogEntry> logSink;
+	private SystemLogEntry[] buffer;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final Condition drained = lock.newCondition();
+	private final Thread writerThread;
+	private final AtomicLong writtenCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+	private int head;
+	private int size;
+	private int inFlight;
+	private long sampleCounter;
+	private volatile boolean running = true;
+	private volatile int batchSize;
+	private volatile long flushIntervalMillis;
+	private volatile SystemLogOverflowPolicy overflowPolicy;
+	private volatile int sampleRate;
+
+	public SystemLogWriter(Consumer<SystemLogEntry> logSink, SystemLogConfig config) {
+		this.logSink = logSink;
+		updateConfig(config);
+		this.writerThread = new Thread(this::runWriter, "system-log-writer");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	public void updateConfig(SystemLogConfig config) {
+		this.batchSize = Math.max(1, config.getBatchSize());
+		this.flushIntervalMillis = Math.max(10, config.getFlushIntervalMillis());
+		this.overflowPolicy = config.getOverflowPolicy() != null ? config.getOverflowPolicy() : SystemLogOverflowPolicy.DROP_OLDEST;
+		this.sampleRate = Math.max(1, config.getSampleRate());
+		resizeBuffer(Math.max(16, config.getBufferSize()));
+	}
+
+	private void resizeBuffer(int capacity) {
+		lock.lock();
+		try {
+			if (buffer != null && buffer.length == capacity) {
+				return;
+			}
+			SystemLogEntry[] resizedBuffer = new SystemLogEntry[capacity];
+			int dropped = Math.max(0, size - capacity);
+			for (int i = 0; i < size - dropped; i++) {
+				resizedBuffer[i] = buffer[(head + dropped + i) % buffer.length];
+			}
+			droppedCount.addAndGet(dropped);
+			size -= dropped;
+			head = 0;
+			buffer = resizedBuffer;
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void write(SystemLogEntry entry) {
+		if (entry == null) {
+			return;
+		}
+		lock.lock();
+		try {
+			if (!running) {
+				writeEntry(entry);
+				return;
+			}
+			SystemLogOverflowPolicy policy = overflowPolicy;
+			if (policy == SystemLogOverflowPolicy.SAMPLE && size >= buffer.length * 3 / 4 && sampleCounter++ % sampleRate != 0) {
+				droppedCount.incrementAndGet();
+				return;
+			}
+			if (size == buffer.length) {
+				if (policy == SystemLogOverflowPolicy.BLOCK) {
+					while (size == buffer.length && running) {
+						notFull.await();
+					}
+				}
+				if (size == buffer.length) {
+					buffer[head] = null;
+					head = (head + 1) % buffer.length;
+					size--;
+					droppedCount.incrementAndGet();
+				}
+			}
+			buffer[(head + size) % buffer.length] = entry;
+			size++;
+			if (size >= batchSize) {
+				notEmpty.signal();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			droppedCount.incrementAndGet();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean flush(long timeoutMillis) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		lock.lock();
+		try {
+			notEmpty.signal();
+			while (size > 0 || inFlight > 0) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 || !writerThread.isAlive()) {
+					return false;
+				}
+				drained.awaitNanos(remaining);
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void close(long timeoutMillis) {
+		if (!running) {
+			return;
+		}
+		flush(timeoutMillis);
+		lock.lock();
+		try {
+			running = false;
+			notEmpty.signalAll();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		try {
+			writerThread.join(timeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		LOGGER.info("System log writer closed: {}", this);
+	}
+
+	private void runWriter() {
+		List<SystemLogEntry> batch = new ArrayList<>();
+		while (true) {
+			lock.lock();
+			try {
+				if (size < batchSize && running) {
+					notEmpty.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+				}
+				if (size == 0 && !running) {
+					drained.signalAll();
+					return;
+				}
+				int count = Math.min(size, batchSize);
+				for (int i = 0; i < count; i++) {
+					batch.add(buffer[head]);
+					buffer[head] = null;
+					head = (head + 1) % buffer.length;
+				}
+				size -= count;
+				inFlight = count;
+				notFull.signalAll();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				lock.unlock();
+			}
+			batch.forEach(this::writeEntry);
+			batch.clear();
+			lock.lock();
+			try {
+				inFlight = 0;
+				if (size == 0) {
+					drained.signalAll();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void writeEntry(SystemLogEntry entry) {
+		try {
+			logSink.accept(entry);
+			writtenCount.incrementAndGet();
+		} catch (Exception e) {
+			failedCount.incrementAndGet();
+			LOGGER.error("Error writing system log entry", e);
+		}
+	}
+
+	public long getWrittenCount() {
+		return writtenCount.get();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	public int getPendingCount() {
+		lock.lock();
+		try {
+			return size + inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SystemLogWriter{" +
+				"written=" + getWrittenCount() +
+				", dropped=" + getDroppedCount() +
+				", failed=" + getFailedCount() +
+				", pending=" + getPendingCount() +
+				", policy=" + overflowPolicy +
+				'}';
+	}
+}
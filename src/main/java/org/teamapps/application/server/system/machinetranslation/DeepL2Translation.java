@@ -59,11 +59,23 @@ public class DeepL2Translation {
 	);
 
 	private final String apiKey;
+	private volatile Translator translator;
 
 	public DeepL2Translation(String apiKey) {
 		this.apiKey = apiKey;
 	}
 
+	private Translator getTranslator() {
+		if (translator == null) {
+			synchronized (this) {
+				if (translator == null) {
+					translator = new Translator(apiKey);
+				}
+			}
+		}
+		return translator;
+	}
+
 	public static String getBestSourceLanguage(Collection<String> languageIsoSet) {
 		if (languageIsoSet.contains("de")) {
 			return "de";
@@ -103,7 +115,7 @@ public class DeepL2Translation {
 
 	public void printUsage() {
 		try {
-			Translator translator = new Translator(apiKey);
+			Translator translator = getTranslator();
 			Usage usage = translator.getUsage();
 			System.out.println(usage);
 		} catch (Exception e) {
@@ -118,14 +130,14 @@ public class DeepL2Translation {
 
 	public String translate(String text, String sourceLang, String targetLang, TextTranslationOptions options) throws Exception {
 		targetLang = fixTargetLang(targetLang);
-		Translator translator = new Translator(apiKey);
+		Translator translator = getTranslator();
 		TextResult result = translator.translateText(text, sourceLang, targetLang, options);
 		return result.getText();
 	}
 
 	public List<GlossaryLanguagePair> getGlossaries() {
 		try {
-			Translator translator = new Translator(apiKey);
+			Translator translator = getTranslator();
 			return translator.getGlossaryLanguages();
 		} catch (Exception e) {
 			throw new RuntimeException(e);
@@ -134,7 +146,7 @@ public class DeepL2Translation {
 
 	public void printGlossaries() {
 		try {
-			Translator translator = new Translator(apiKey);
+			Translator translator = getTranslator();
 			for (GlossaryInfo glossary : translator.listGlossaries()) {
 				System.out.println(glossary.getGlossaryId() + ", " + glossary.getName() + ", " + glossary.getSourceLang() + ", " + glossary.getTargetLang() + ", " + glossary.getEntryCount());
 			}
@@ -145,7 +157,7 @@ public class DeepL2Translation {
 
 	public List<TextResult> translate(List<String> values, String sourceLang, String targetLang, TextTranslationOptions options) throws Exception {
 		targetLang = fixTargetLang(targetLang);
-		Translator translator = new Translator(apiKey);
+		Translator translator = getTranslator();
 		return translator.translateText(values, sourceLang, targetLang, options);
 	}
 
@@ -29,6 +29,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
 import java.net.HttpURLConnection;
 import java.net.URL;
@@ -36,6 +37,7 @@ import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class DeepLTranslation implements TranslationService {
@@ -45,7 +47,7 @@ public class DeepLTranslation implements TranslationService {
 
 	private String baseUrl = "https://api.deepl.com/v2/";
 	private String authKey;
-	private long translatedCharacters = 0;
+	private final AtomicLong translatedCharacters = new AtomicLong();
 	private final ObjectMapper mapper;
 
 	public DeepLTranslation(String authKey) {
@@ -69,6 +71,17 @@ public class DeepLTranslation implements TranslationService {
 
 	@Override
 	public String translate(String text, String sourceLanguage, String targetLanguage) {
+		try {
+			List<String> translations = translate(Collections.singletonList(text), sourceLanguage, targetLanguage);
+			return translations != null ? translations.get(0) : null;
+		} catch (RuntimeException e) {
+			LOGGER.warn("DeepL cannot translate from " + sourceLanguage + " to " + targetLanguage + ": " + e.getMessage() + ", text:" + text);
+			return null;
+		}
+	}
+
+	@Override
+	public List<String> translate(List<String> texts, String sourceLanguage, String targetLanguage) {
 		try {
 			URL url = new URL(baseUrl + "translate");
 			URLConnection con = url.openConnection();
@@ -78,7 +91,9 @@ public class DeepLTranslation implements TranslationService {
 			http.setDoInput(true);
 			StringJoiner joiner = new StringJoiner("&");
 			joiner.add(URLEncoder.encode("auth_key", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(authKey, StandardCharsets.UTF_8));
-			joiner.add(URLEncoder.encode("text", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(text, StandardCharsets.UTF_8));
+			for (String text : texts) {
+				joiner.add(URLEncoder.encode("text", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(text, StandardCharsets.UTF_8));
+			}
 			joiner.add(URLEncoder.encode("source_lang", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(sourceLanguage, StandardCharsets.UTF_8));
 			joiner.add(URLEncoder.encode("target_lang", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(targetLanguage, StandardCharsets.UTF_8));
 			//joiner.add(URLEncoder.encode("split_sentences", StandardCharsets.UTF_8) + "=0");
@@ -100,31 +115,41 @@ public class DeepLTranslation implements TranslationService {
 			int responseCode = http.getResponseCode();
 			String responseMessage = http.getResponseMessage();
 
+			if (responseCode == 429 || responseCode >= 500) {
+				throw new IllegalStateException("DeepL request failed with " + responseCode + ":" + responseMessage);
+			}
 			if (responseCode != 200) {
-				LOGGER.warn("DeepL cannot translate from " + sourceLanguage + " to " + targetLanguage + ", result:" + responseCode + ":" + responseMessage + ", text:" + text);
-				return null;
+				LOGGER.warn("DeepL cannot translate from " + sourceLanguage + " to " + targetLanguage + ", result:" + responseCode + ":" + responseMessage + ", texts:" + texts.size());
+				return Arrays.asList(new String[texts.size()]);
 			}
 
 			try (BufferedReader br = new BufferedReader(new InputStreamReader(http.getInputStream(), StandardCharsets.UTF_8))) {
 				json = br.lines().collect(Collectors.joining(System.lineSeparator()));
 			}
 
-			JsonNode rootNode = mapper.readTree(json);
-			JsonNode node = rootNode.elements().next();
-			String translation = node.findValue("text").asText();
-			if (translation != null) {
-				translatedCharacters += translation.length();
+			JsonNode translationsNode = mapper.readTree(json).get("translations");
+			if (translationsNode == null || translationsNode.size() != texts.size()) {
+				LOGGER.warn("Invalid DeepL result for " + texts.size() + " texts (" + sourceLanguage + "->" + targetLanguage + ")");
+				return null;
+			}
+			List<String> translations = new ArrayList<>();
+			for (JsonNode node : translationsNode) {
+				JsonNode textNode = node.get("text");
+				String translation = textNode != null ? textNode.asText() : null;
+				if (translation != null) {
+					translatedCharacters.addAndGet(translation.length());
+				}
+				translations.add(translation);
 			}
-			return translation;
+			return translations;
 		} catch (IOException e) {
-			e.printStackTrace();
+			throw new UncheckedIOException(e);
 		}
-		return null;
 	}
 
 	@Override
 	public long getTranslatedCharacters() {
-		return translatedCharacters;
+		return translatedCharacters.get();
 	}
 
 }
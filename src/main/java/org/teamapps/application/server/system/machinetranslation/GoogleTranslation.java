@@ -28,14 +28,16 @@ import com.google.cloud.translate.Translation;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class GoogleTranslation implements TranslationService {
 
     private Translate translationService;
-    private long translatedCharacters = 0;
+    private final AtomicLong translatedCharacters = new AtomicLong();
     private Set<String> supportedLanguages;
 
     public GoogleTranslation(String key) throws IOException {
@@ -70,14 +72,31 @@ public class GoogleTranslation implements TranslationService {
                         Translate.TranslateOption.targetLanguage(targetLanguage));
         String translatedText = translation.getTranslatedText();
         if (translatedText != null) {
-            translatedCharacters += translatedText.length();
+            translatedCharacters.addAndGet(translatedText.length());
         }
         return translatedText;
     }
 
+    @Override
+    public List<String> translate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<Translation> translations = translationService.translate(
+                        texts,
+                        Translate.TranslateOption.sourceLanguage(sourceLanguage),
+                        Translate.TranslateOption.targetLanguage(targetLanguage));
+        List<String> translatedTexts = new ArrayList<>();
+        for (Translation translation : translations) {
+            String translatedText = translation.getTranslatedText();
+            if (translatedText != null) {
+                translatedCharacters.addAndGet(translatedText.length());
+            }
+            translatedTexts.add(translatedText);
+        }
+        return translatedTexts;
+    }
+
     @Override
     public long getTranslatedCharacters() {
-        return translatedCharacters;
+        return translatedCharacters.get();
     }
 
 
@@ -31,6 +31,7 @@ public class MachineTranslation implements TranslationService {
     private GoogleTranslation googleTranslation;
     private List<TranslationService> services = new ArrayList<>();
     private Set<String> supportedLanguages = new HashSet<>();
+    private TranslationMemory translationMemory;
 
     public MachineTranslation() {
     }
@@ -58,6 +59,14 @@ public class MachineTranslation implements TranslationService {
         }
     }
 
+    public void setTranslationMemory(TranslationMemory translationMemory) {
+        this.translationMemory = translationMemory;
+    }
+
+    public TranslationMemory getTranslationMemory() {
+        return translationMemory;
+    }
+
     public boolean translationServiceAvailable() {
         return !services.isEmpty();
     }
@@ -71,10 +80,70 @@ public class MachineTranslation implements TranslationService {
 
     @Override
     public String translate(String text, String sourceLanguage, String targetLanguage) {
+        TranslationService service = getTranslationService(sourceLanguage, targetLanguage);
+        String provider = service != null ? service.getProviderName(sourceLanguage, targetLanguage) : null;
+        if (translationMemory != null) {
+            String result = translationMemory.get(provider, sourceLanguage, targetLanguage, text);
+            if (result != null) {
+                return result;
+            }
+        }
+        if (service == null) {
+            return null;
+        }
+        String result = restoreParameters(service.translate(transformParameters(text), sourceLanguage, targetLanguage));
+        if (translationMemory != null) {
+            translationMemory.put(provider, sourceLanguage, targetLanguage, text, result);
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        TranslationService service = getTranslationService(sourceLanguage, targetLanguage);
+        String provider = service != null ? service.getProviderName(sourceLanguage, targetLanguage) : null;
+        List<String> results = new ArrayList<>();
+        List<Integer> missingPositions = new ArrayList<>();
+        List<String> missingValues = new ArrayList<>();
+        for (String text : texts) {
+            String result = translationMemory != null ? translationMemory.get(provider, sourceLanguage, targetLanguage, text) : null;
+            if (result == null) {
+                missingPositions.add(results.size());
+                missingValues.add(transformParameters(text));
+            }
+            results.add(result);
+        }
+        if (missingValues.isEmpty()) {
+            return results;
+        }
+        if (service == null) {
+            return null;
+        }
+        List<String> translations = service.translate(missingValues, sourceLanguage, targetLanguage);
+        if (translations == null || translations.size() != missingValues.size()) {
+            return null;
+        }
+        for (int i = 0; i < translations.size(); i++) {
+            int position = missingPositions.get(i);
+            String result = restoreParameters(translations.get(i));
+            results.set(position, result);
+            if (translationMemory != null) {
+                translationMemory.put(provider, sourceLanguage, targetLanguage, texts.get(position), result);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public String getProviderName(String sourceLanguage, String targetLanguage) {
+        TranslationService service = getTranslationService(sourceLanguage, targetLanguage);
+        return service != null ? service.getProviderName(sourceLanguage, targetLanguage) : null;
+    }
+
+    private TranslationService getTranslationService(String sourceLanguage, String targetLanguage) {
         for (TranslationService service : services) {
             if (service.canTranslate(sourceLanguage, targetLanguage)) {
-                String result = service.translate(transformParameters(text), sourceLanguage, targetLanguage);
-                return restoreParameters(result);
+                return service;
             }
         }
         return null;
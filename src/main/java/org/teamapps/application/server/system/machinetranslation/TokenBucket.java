@@ -0,0 +1,67 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.machinetranslation;
+
+public class TokenBucket {
+
+	private final long capacity;
+	private final double tokensPerNano;
+	private double availableTokens;
+	private long lastRefill;
+
+	public TokenBucket(long capacity, long tokensPerSecond) {
+		this.capacity = capacity;
+		this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+		this.availableTokens = capacity;
+		this.lastRefill = System.nanoTime();
+	}
+
+	public void acquire(long tokens) throws InterruptedException {
+		long requiredTokens = Math.min(tokens, capacity);
+		while (true) {
+			long waitNanos;
+			synchronized (this) {
+				refill();
+				if (availableTokens >= requiredTokens) {
+					availableTokens -= requiredTokens;
+					return;
+				}
+				waitNanos = (long) ((requiredTokens - availableTokens) / tokensPerNano);
+			}
+			Thread.sleep(Math.max(1, waitNanos / 1_000_000), (int) (waitNanos % 1_000_000));
+		}
+	}
+
+	public synchronized boolean tryAcquire(long tokens) {
+		refill();
+		long requiredTokens = Math.min(tokens, capacity);
+		if (availableTokens >= requiredTokens) {
+			availableTokens -= requiredTokens;
+			return true;
+		}
+		return false;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		availableTokens = Math.min(capacity, availableTokens + (now - lastRefill) * tokensPerNano);
+		lastRefill = now;
+	}
+}
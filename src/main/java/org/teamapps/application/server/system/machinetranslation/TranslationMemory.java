@@ -0,0 +1,209 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.machinetranslation;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TranslationMemory {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	public static final String VERIFIED_PROVIDER = "verified";
+	private static final String SEPARATOR = "\t";
+
+	private final File storeFile;
+	private final int maxEntries;
+	private final Map<String, String> translationByKey;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private Writer writer;
+	private int storedLines;
+
+	public TranslationMemory(File storeFile) {
+		this(storeFile, 250_000);
+	}
+
+	public TranslationMemory(File storeFile, int maxEntries) {
+		this.storeFile = storeFile;
+		this.maxEntries = maxEntries;
+		this.translationByKey = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > TranslationMemory.this.maxEntries;
+			}
+		};
+		load();
+	}
+
+	public static String normalize(String text) {
+		if (text == null) {
+			return null;
+		}
+		return Normalizer.normalize(text.strip(), Normalizer.Form.NFC);
+	}
+
+	private static String createKey(String provider, String sourceLanguage, String targetLanguage, String normalizedText) {
+		return provider + SEPARATOR + sourceLanguage + SEPARATOR + targetLanguage + SEPARATOR + normalizedText;
+	}
+
+	public String get(String provider, String sourceLanguage, String targetLanguage, String text) {
+		String normalizedText = normalize(text);
+		if (normalizedText == null || normalizedText.isEmpty()) {
+			return null;
+		}
+		String translation;
+		synchronized (this) {
+			translation = translationByKey.get(createKey(VERIFIED_PROVIDER, sourceLanguage, targetLanguage, normalizedText));
+			if (translation == null && provider != null) {
+				translation = translationByKey.get(createKey(provider, sourceLanguage, targetLanguage, normalizedText));
+			}
+		}
+		if (translation == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		hits.incrementAndGet();
+		return restoreWhitespace(text, normalizedText, translation);
+	}
+
+	public void put(String provider, String sourceLanguage, String targetLanguage, String text, String translation) {
+		String normalizedText = normalize(text);
+		if (provider == null || normalizedText == null || normalizedText.isEmpty() || translation == null) {
+			return;
+		}
+		String normalizedTranslation = translation.strip();
+		String key = createKey(provider, sourceLanguage, targetLanguage, normalizedText);
+		synchronized (this) {
+			if (normalizedTranslation.equals(translationByKey.put(key, normalizedTranslation))) {
+				return;
+			}
+			append(key, normalizedTranslation);
+		}
+	}
+
+	public void seedVerifiedTranslation(String sourceLanguage, String targetLanguage, String text, String translation) {
+		put(VERIFIED_PROVIDER, sourceLanguage, targetLanguage, text, translation);
+	}
+
+	private String restoreWhitespace(String text, String normalizedText, String translation) {
+		if (text.length() == normalizedText.length()) {
+			return translation;
+		}
+		int leading = 0;
+		while (leading < text.length() && Character.isWhitespace(text.charAt(leading))) {
+			leading++;
+		}
+		int trailing = text.length();
+		while (trailing > leading && Character.isWhitespace(text.charAt(trailing - 1))) {
+			trailing--;
+		}
+		return text.substring(0, leading) + translation + text.substring(trailing);
+	}
+
+	private synchronized void load() {
+		if (storeFile == null || !storeFile.exists()) {
+			return;
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(storeFile), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] parts = line.split(SEPARATOR, -1);
+				if (parts.length == 5) {
+					translationByKey.put(createKey(parts[0], parts[1], parts[2], StringEscapeUtils.unescapeJava(parts[3])), StringEscapeUtils.unescapeJava(parts[4]));
+					storedLines++;
+				}
+			}
+			LOGGER.info("Loaded translation memory entries: " + translationByKey.size());
+		} catch (IOException e) {
+			LOGGER.error("Error loading translation memory: " + storeFile, e);
+		}
+	}
+
+	private void append(String key, String translation) {
+		if (storeFile == null) {
+			return;
+		}
+		try {
+			if (storedLines > 2 * Math.max(1_000, translationByKey.size())) {
+				compact();
+			} else {
+				if (writer == null) {
+					writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(storeFile, true), StandardCharsets.UTF_8));
+				}
+				writeEntry(writer, key, translation);
+				writer.flush();
+				storedLines++;
+			}
+		} catch (IOException e) {
+			LOGGER.error("Error writing translation memory: " + storeFile, e);
+		}
+	}
+
+	public synchronized void compact() throws IOException {
+		if (storeFile == null) {
+			return;
+		}
+		if (writer != null) {
+			writer.close();
+			writer = null;
+		}
+		File tempFile = new File(storeFile.getParentFile(), storeFile.getName() + ".tmp");
+		try (Writer tempWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8))) {
+			for (Map.Entry<String, String> entry : translationByKey.entrySet()) {
+				writeEntry(tempWriter, entry.getKey(), entry.getValue());
+			}
+		}
+		Files.move(tempFile.toPath(), storeFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		storedLines = translationByKey.size();
+	}
+
+	private static void writeEntry(Writer writer, String key, String translation) throws IOException {
+		String[] parts = key.split(SEPARATOR, 4);
+		writer.write(parts[0] + SEPARATOR + parts[1] + SEPARATOR + parts[2] + SEPARATOR + StringEscapeUtils.escapeJava(parts[3]) + SEPARATOR + StringEscapeUtils.escapeJava(translation) + "\n");
+	}
+
+	public synchronized int getSize() {
+		return translationByKey.size();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	@Override
+	public String toString() {
+		return "entries: " + getSize() + ", hits: " + getHits() + ", misses: " + getMisses();
+	}
+}
@@ -0,0 +1,203 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.machinetranslation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TranslationPipeline {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	private static final int WORKER_THREADS = 4;
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+		Thread thread = new Thread(runnable, "machine-translation-" + THREAD_COUNTER.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static final Map<TranslationService, TranslationPipeline> PIPELINE_BY_SERVICE = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final TranslationService translationService;
+	private final int maxBatchSize;
+	private final int maxBatchCharacters;
+	private final int maxRetries;
+	private final long initialBackoffMillis;
+	private final TokenBucket characterBucket;
+	private final TokenBucket requestBucket;
+
+	public static TranslationPipeline getPipeline(TranslationService translationService) {
+		return PIPELINE_BY_SERVICE.computeIfAbsent(translationService, TranslationPipeline::new);
+	}
+
+	public TranslationPipeline(TranslationService translationService) {
+		this(translationService, 50, 20_000, 3, 1_000, 50_000, 10);
+	}
+
+	public TranslationPipeline(TranslationService translationService, int maxBatchSize, int maxBatchCharacters, int maxRetries, long initialBackoffMillis, long charactersPerSecond, long requestsPerSecond) {
+		this.translationService = translationService;
+		this.maxBatchSize = maxBatchSize;
+		this.maxBatchCharacters = maxBatchCharacters;
+		this.maxRetries = maxRetries;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.characterBucket = new TokenBucket(Math.max(charactersPerSecond, maxBatchCharacters), charactersPerSecond);
+		this.requestBucket = new TokenBucket(requestsPerSecond, requestsPerSecond);
+	}
+
+	public TranslationProgress submit(Collection<TranslationRequest> requests) {
+		List<TranslationBatch> batches = createBatches(requests);
+		int uniqueTexts = batches.stream().mapToInt(batch -> batch.getTexts().size()).sum();
+		TranslationProgress progress = new TranslationProgress(requests.size(), uniqueTexts, batches.size());
+		batches.forEach(batch -> EXECUTOR.submit(() -> executeBatch(batch, progress)));
+		return progress;
+	}
+
+	public TranslationProgress translate(Collection<TranslationRequest> requests) throws InterruptedException {
+		List<TranslationBatch> batches = createBatches(requests);
+		int uniqueTexts = batches.stream().mapToInt(batch -> batch.getTexts().size()).sum();
+		TranslationProgress progress = new TranslationProgress(requests.size(), uniqueTexts, batches.size());
+		for (TranslationBatch batch : batches) {
+			executeBatch(batch, progress);
+		}
+		return progress;
+	}
+
+	protected List<TranslationBatch> createBatches(Collection<TranslationRequest> requests) {
+		Map<String, Map<String, List<TranslationRequest>>> requestsByTextByLanguagePair = new LinkedHashMap<>();
+		for (TranslationRequest request : requests) {
+			if (request.getText() == null || request.getText().isBlank()) {
+				continue;
+			}
+			requestsByTextByLanguagePair
+					.computeIfAbsent(request.getSourceLanguage() + ">" + request.getTargetLanguage(), k -> new LinkedHashMap<>())
+					.computeIfAbsent(request.getText(), k -> new ArrayList<>())
+					.add(request);
+		}
+		List<TranslationBatch> batches = new ArrayList<>();
+		for (Map<String, List<TranslationRequest>> requestsByText : requestsByTextByLanguagePair.values()) {
+			TranslationBatch batch = null;
+			for (Map.Entry<String, List<TranslationRequest>> entry : requestsByText.entrySet()) {
+				String text = entry.getKey();
+				if (batch == null || batch.getTexts().size() >= maxBatchSize || (!batch.getTexts().isEmpty() && batch.getCharacters() + text.length() > maxBatchCharacters)) {
+					TranslationRequest request = entry.getValue().get(0);
+					batch = new TranslationBatch(request.getSourceLanguage(), request.getTargetLanguage());
+					batches.add(batch);
+				}
+				batch.add(text, entry.getValue());
+			}
+		}
+		return batches;
+	}
+
+	private void executeBatch(TranslationBatch batch, TranslationProgress progress) {
+		List<String> results = null;
+		String provider = translationService.getProviderName(batch.getSourceLanguage(), batch.getTargetLanguage());
+		for (int attempt = 0; attempt <= maxRetries && results == null; attempt++) {
+			try {
+				if (attempt > 0) {
+					progress.retry();
+					Thread.sleep(initialBackoffMillis << (attempt - 1));
+				}
+				requestBucket.acquire(1);
+				characterBucket.acquire(batch.getCharacters());
+				progress.addCharacters(provider, batch.getCharacters());
+				results = translationService.translate(batch.getTexts(), batch.getSourceLanguage(), batch.getTargetLanguage());
+				if (results == null || results.size() != batch.getTexts().size()) {
+					LOGGER.warn("Invalid translation batch result (" + batch.getSourceLanguage() + "->" + batch.getTargetLanguage() + "), attempt: " + (attempt + 1));
+					results = null;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (Exception e) {
+				LOGGER.warn("Error translating batch (" + batch.getSourceLanguage() + "->" + batch.getTargetLanguage() + "), attempt: " + (attempt + 1) + ": " + e.getMessage());
+			}
+		}
+		int translated = 0;
+		int failed = 0;
+		for (int i = 0; i < batch.getTexts().size(); i++) {
+			String result = results != null ? results.get(i) : null;
+			if (result != null) {
+				translated++;
+			} else {
+				failed++;
+			}
+			for (TranslationRequest request : batch.getRequests().get(i)) {
+				try {
+					request.getResultHandler().accept(result);
+				} catch (Exception e) {
+					LOGGER.error("Error handling translation result", e);
+				}
+			}
+		}
+		progress.batchCompleted(translated, failed);
+		if (progress.isDone()) {
+			LOGGER.info("Machine translation finished: " + progress);
+		}
+	}
+
+	public TranslationService getTranslationService() {
+		return translationService;
+	}
+
+	protected static class TranslationBatch {
+		private final String sourceLanguage;
+		private final String targetLanguage;
+		private final List<String> texts = new ArrayList<>();
+		private final List<List<TranslationRequest>> requests = new ArrayList<>();
+		private int characters;
+
+		public TranslationBatch(String sourceLanguage, String targetLanguage) {
+			this.sourceLanguage = sourceLanguage;
+			this.targetLanguage = targetLanguage;
+		}
+
+		public void add(String text, List<TranslationRequest> textRequests) {
+			texts.add(text);
+			requests.add(textRequests);
+			characters += text.length();
+		}
+
+		public String getSourceLanguage() {
+			return sourceLanguage;
+		}
+
+		public String getTargetLanguage() {
+			return targetLanguage;
+		}
+
+		public List<String> getTexts() {
+			return texts;
+		}
+
+		public List<List<TranslationRequest>> getRequests() {
+			return requests;
+		}
+
+		public int getCharacters() {
+			return characters;
+		}
+	}
+}
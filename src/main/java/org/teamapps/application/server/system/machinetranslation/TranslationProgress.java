@@ -0,0 +1,117 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.machinetranslation;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TranslationProgress {
+
+	private final int requests;
+	private final int uniqueTexts;
+	private final int batches;
+	private final CountDownLatch remainingBatches;
+	private final AtomicLong translatedTexts = new AtomicLong();
+	private final AtomicLong failedTexts = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final Map<String, AtomicLong> charactersByProvider = new ConcurrentHashMap<>();
+
+	public TranslationProgress(int requests, int uniqueTexts, int batches) {
+		this.requests = requests;
+		this.uniqueTexts = uniqueTexts;
+		this.batches = batches;
+		this.remainingBatches = new CountDownLatch(batches);
+	}
+
+	protected void batchCompleted(int translated, int failed) {
+		translatedTexts.addAndGet(translated);
+		failedTexts.addAndGet(failed);
+		remainingBatches.countDown();
+	}
+
+	protected void retry() {
+		retries.incrementAndGet();
+	}
+
+	protected void addCharacters(String provider, long characters) {
+		charactersByProvider.computeIfAbsent(provider, p -> new AtomicLong()).addAndGet(characters);
+	}
+
+	public int getRequests() {
+		return requests;
+	}
+
+	public int getUniqueTexts() {
+		return uniqueTexts;
+	}
+
+	public int getDeduplicatedTexts() {
+		return requests - uniqueTexts;
+	}
+
+	public int getBatches() {
+		return batches;
+	}
+
+	public long getCompletedBatches() {
+		return batches - remainingBatches.getCount();
+	}
+
+	public long getTranslatedTexts() {
+		return translatedTexts.get();
+	}
+
+	public long getFailedTexts() {
+		return failedTexts.get();
+	}
+
+	public long getRetries() {
+		return retries.get();
+	}
+
+	public Map<String, Long> getCharactersByProvider() {
+		Map<String, Long> map = new TreeMap<>();
+		charactersByProvider.forEach((provider, characters) -> map.put(provider, characters.get()));
+		return map;
+	}
+
+	public boolean isDone() {
+		return remainingBatches.getCount() == 0;
+	}
+
+	public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+		return remainingBatches.await(timeout, unit);
+	}
+
+	@Override
+	public String toString() {
+		return "requests: " + requests +
+				", unique: " + uniqueTexts +
+				", batches: " + getCompletedBatches() + "/" + batches +
+				", translated: " + getTranslatedTexts() +
+				", failed: " + getFailedTexts() +
+				", retries: " + getRetries() +
+				", characters: " + getCharactersByProvider();
+	}
+}
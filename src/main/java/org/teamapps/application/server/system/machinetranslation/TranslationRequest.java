@@ -0,0 +1,53 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.machinetranslation;
+
+import java.util.function.Consumer;
+
+public class TranslationRequest {
+
+	private final String text;
+	private final String sourceLanguage;
+	private final String targetLanguage;
+	private final Consumer<String> resultHandler;
+
+	public TranslationRequest(String text, String sourceLanguage, String targetLanguage, Consumer<String> resultHandler) {
+		this.text = text;
+		this.sourceLanguage = sourceLanguage;
+		this.targetLanguage = targetLanguage;
+		this.resultHandler = resultHandler;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public String getSourceLanguage() {
+		return sourceLanguage;
+	}
+
+	public String getTargetLanguage() {
+		return targetLanguage;
+	}
+
+	public Consumer<String> getResultHandler() {
+		return resultHandler;
+	}
+}
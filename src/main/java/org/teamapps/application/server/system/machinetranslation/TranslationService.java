@@ -19,6 +19,8 @@
  */
 package org.teamapps.application.server.system.machinetranslation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 public interface TranslationService {
@@ -29,6 +31,18 @@ public interface TranslationService {
 
     long getTranslatedCharacters();
 
+    default List<String> translate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<String> results = new ArrayList<>();
+        for (String text : texts) {
+            results.add(translate(text, sourceLanguage, targetLanguage));
+        }
+        return results;
+    }
+
+    default String getProviderName(String sourceLanguage, String targetLanguage) {
+        return getClass().getSimpleName();
+    }
+
     default boolean canTranslate(String sourceLanguage, String targetLanguage) {
         Set<String> supportedLanguages = getSupportedLanguages();
         if (supportedLanguages.contains(sourceLanguage) && supportedLanguages.contains(targetLanguage)) {
@@ -0,0 +1,236 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.organization;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.teamapps.model.controlcenter.OrgUnitLifeCycleStatus;
+import org.teamapps.model.controlcenter.OrganizationUnit;
+import org.teamapps.model.controlcenter.OrganizationUnitType;
+
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+
+public class OrganizationTreeIndex {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private static volatile OrganizationTreeIndex currentIndex;
+	private static volatile boolean dirty = true;
+
+	private final int[] preOrderById;
+	private final int[] subtreeEndById;
+	private final int[] depthById;
+	private final int[] parentById;
+	private final int[] inactiveDepthById;
+	private final int[] childCountById;
+	private final int[] typeIdById;
+	private final BitSet activeUnits;
+	private final int[] unitIdByPosition;
+	private final BitSet allPositions;
+	private final Map<Integer, BitSet> positionsByUnitType;
+
+	private OrganizationTreeIndex(int maxId, int size) {
+		preOrderById = new int[maxId + 1];
+		subtreeEndById = new int[maxId + 1];
+		depthById = new int[maxId + 1];
+		parentById = new int[maxId + 1];
+		inactiveDepthById = new int[maxId + 1];
+		childCountById = new int[maxId + 1];
+		typeIdById = new int[maxId + 1];
+		activeUnits = new BitSet(maxId + 1);
+		unitIdByPosition = new int[size];
+		allPositions = new BitSet(size);
+		positionsByUnitType = new HashMap<>();
+		Arrays.fill(preOrderById, -1);
+	}
+
+	public static OrganizationTreeIndex getIndex() {
+		OrganizationTreeIndex index = currentIndex;
+		if (index == null || dirty) {
+			synchronized (OrganizationTreeIndex.class) {
+				if (currentIndex == null || dirty) {
+					dirty = false;
+					currentIndex = createIndex();
+				}
+				index = currentIndex;
+			}
+		}
+		return index;
+	}
+
+	public static OrganizationTreeIndex getIndex(int unitId) {
+		OrganizationTreeIndex index = getIndex();
+		if (unitId > 0 && !index.contains(unitId) && OrganizationUnit.getById(unitId).isStored()) {
+			LOGGER.info("Organization unit {} is missing in the tree index, rebuilding index", unitId);
+			index = rebuild(index);
+		}
+		return index;
+	}
+
+	private static OrganizationTreeIndex rebuild(OrganizationTreeIndex outdatedIndex) {
+		synchronized (OrganizationTreeIndex.class) {
+			if (currentIndex == outdatedIndex) {
+				dirty = false;
+				currentIndex = createIndex();
+			}
+			return currentIndex;
+		}
+	}
+
+	public static void invalidate() {
+		dirty = true;
+	}
+
+	private static OrganizationTreeIndex createIndex() {
+		long time = System.currentTimeMillis();
+		List<OrganizationUnit> units = OrganizationUnit.getAll();
+		int maxId = units.stream().mapToInt(OrganizationUnit::getId).max().orElse(0);
+		OrganizationTreeIndex index = new OrganizationTreeIndex(maxId, units.size());
+		int position = 0;
+		for (OrganizationUnit unit : units) {
+			if (unit.getParent() == null) {
+				position = index.addSubtree(unit, 0, 0, -1, position);
+			}
+		}
+		for (OrganizationUnit unit : units) {
+			if (index.preOrderById[unit.getId()] < 0) {
+				LOGGER.warn("Organization unit {} is not reachable from a root unit", unit.getId());
+				position = index.addSubtree(unit, 0, unit.getParent() != null ? unit.getParent().getId() : 0, -1, position);
+			}
+		}
+		LOGGER.info("Created organization tree index with {} units in {}ms", position, System.currentTimeMillis() - time);
+		return index;
+	}
+
+	private int addSubtree(OrganizationUnit root, int rootDepth, int rootParentId, int rootInactiveDepth, int position) {
+		Deque<Object[]> stack = new ArrayDeque<>();
+		stack.push(new Object[]{root, rootDepth, rootParentId, rootInactiveDepth});
+		List<OrganizationUnit> visitOrder = new ArrayList<>();
+		while (!stack.isEmpty()) {
+			Object[] entry = stack.pop();
+			OrganizationUnit unit = (OrganizationUnit) entry[0];
+			int id = unit.getId();
+			if (id >= preOrderById.length || preOrderById[id] >= 0 || position >= unitIdByPosition.length) {
+				continue;
+			}
+			int depth = (int) entry[1];
+			boolean active = unit.getOrgUnitLifeCycleStatus() == OrgUnitLifeCycleStatus.ACTIVE;
+			int inactiveDepth = active ? (int) entry[3] : depth;
+			preOrderById[id] = position;
+			depthById[id] = depth;
+			parentById[id] = (int) entry[2];
+			inactiveDepthById[id] = inactiveDepth;
+			childCountById[id] = unit.getChildrenCount();
+			activeUnits.set(id, active);
+			unitIdByPosition[position] = id;
+			allPositions.set(position);
+			if (unit.getType() != null) {
+				typeIdById[id] = unit.getType().getId();
+				positionsByUnitType.computeIfAbsent(unit.getType().getId(), typeId -> new BitSet()).set(position);
+			}
+			visitOrder.add(unit);
+			position++;
+			List<OrganizationUnit> children = unit.getChildren();
+			for (int i = children.size() - 1; i >= 0; i--) {
+				stack.push(new Object[]{children.get(i), depth + 1, id, inactiveDepth});
+			}
+		}
+		for (int i = visitOrder.size() - 1; i >= 0; i--) {
+			int id = visitOrder.get(i).getId();
+			int end = preOrderById[id];
+			for (OrganizationUnit child : visitOrder.get(i).getChildren()) {
+				int childId = child.getId();
+				if (childId < parentById.length && parentById[childId] == id && preOrderById[childId] > preOrderById[id]) {
+					end = Math.max(end, subtreeEndById[childId]);
+				}
+			}
+			subtreeEndById[id] = end;
+		}
+		return position;
+	}
+
+	public boolean contains(int unitId) {
+		return unitId > 0 && unitId < preOrderById.length && preOrderById[unitId] >= 0;
+	}
+
+	public BitSet getSubtreeIds(int unitId, Collection<OrganizationUnitType> unitTypesFilter, boolean includeSelf, boolean activeOnly) {
+		if (contains(unitId) && !isSubtreeCurrent(unitId)) {
+			LOGGER.info("Organization subtree of unit {} has changed, rebuilding tree index", unitId);
+			return rebuild(this).calculateSubtreeIds(unitId, unitTypesFilter, includeSelf, activeOnly);
+		}
+		return calculateSubtreeIds(unitId, unitTypesFilter, includeSelf, activeOnly);
+	}
+
+	private boolean isSubtreeCurrent(int unitId) {
+		for (int position = preOrderById[unitId]; position <= subtreeEndById[unitId]; position++) {
+			int id = unitIdByPosition[position];
+			OrganizationUnit unit = OrganizationUnit.getById(id);
+			if (!unit.isStored()
+					|| unit.getChildrenCount() != childCountById[id]
+					|| (id != unitId && (unit.getParent() != null ? unit.getParent().getId() : 0) != parentById[id])
+					|| (unit.getType() != null ? unit.getType().getId() : 0) != typeIdById[id]
+					|| (unit.getOrgUnitLifeCycleStatus() == OrgUnitLifeCycleStatus.ACTIVE) != activeUnits.get(id)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private BitSet calculateSubtreeIds(int unitId, Collection<OrganizationUnitType> unitTypesFilter, boolean includeSelf, boolean activeOnly) {
+		BitSet result = new BitSet();
+		if (!contains(unitId)) {
+			return result;
+		}
+		int from = preOrderById[unitId] + (includeSelf ? 0 : 1);
+		int to = subtreeEndById[unitId] + 1;
+		BitSet positions = getPositions(unitTypesFilter, from, to);
+		int rootDepth = depthById[unitId];
+		for (int position = positions.nextSetBit(from); position >= 0 && position < to; position = positions.nextSetBit(position + 1)) {
+			int id = unitIdByPosition[position];
+			if (!activeOnly || inactiveDepthById[id] <= rootDepth) {
+				result.set(id);
+			}
+		}
+		return result;
+	}
+
+	private BitSet getPositions(Collection<OrganizationUnitType> unitTypesFilter, int from, int to) {
+		if (unitTypesFilter == null || unitTypesFilter.isEmpty()) {
+			return allPositions;
+		}
+		BitSet positions = new BitSet();
+		for (OrganizationUnitType unitType : unitTypesFilter) {
+			BitSet typePositions = positionsByUnitType.get(unitType.getId());
+			if (typePositions != null) {
+				positions.or(typePositions.get(0, to));
+			}
+		}
+		positions.clear(0, from);
+		return positions;
+	}
+
+	public static Set<OrganizationUnit> toUnits(BitSet unitIds) {
+		Set<OrganizationUnit> units = new HashSet<>(Math.max(16, unitIds.cardinality() * 2));
+		for (int id = unitIds.nextSetBit(0); id >= 0; id = unitIds.nextSetBit(id + 1)) {
+			units.add(OrganizationUnit.getById(id));
+		}
+		return units;
+	}
+}
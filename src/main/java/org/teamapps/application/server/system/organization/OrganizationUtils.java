@@ -121,9 +121,12 @@ public class OrganizationUtils {
 	}
 
 	public static Set<OrganizationUnit> getAllChildren(OrganizationUnit organizationUnit) {
-		Set<OrganizationUnit> result = new HashSet<>();
-		getAllChildren(organizationUnit, result);
-		return result;
+		if (!organizationUnit.isStored()) {
+			Set<OrganizationUnit> result = new HashSet<>();
+			getAllChildren(organizationUnit, result);
+			return result;
+		}
+		return OrganizationTreeIndex.toUnits(OrganizationTreeIndex.getIndex(organizationUnit.getId()).getSubtreeIds(organizationUnit.getId(), null, false, false));
 	}
 
 	private static void getAllChildren(OrganizationUnit unit, Set<OrganizationUnit> result) {
@@ -136,9 +139,12 @@ public class OrganizationUtils {
 	}
 
 	public static Set<OrganizationUnit> getAllActiveChildren(OrganizationUnit organizationUnit) {
-		Set<OrganizationUnit> result = new HashSet<>();
-		getAllActiveChildren(organizationUnit, result);
-		return result;
+		if (!organizationUnit.isStored()) {
+			Set<OrganizationUnit> result = new HashSet<>();
+			getAllActiveChildren(organizationUnit, result);
+			return result;
+		}
+		return OrganizationTreeIndex.toUnits(OrganizationTreeIndex.getIndex(organizationUnit.getId()).getSubtreeIds(organizationUnit.getId(), null, false, true));
 	}
 
 	private static void getAllActiveChildren(OrganizationUnit unit, Set<OrganizationUnit> result) {
@@ -201,22 +207,31 @@ public class OrganizationUtils {
 	}
 
 	public static Set<OrganizationUnit> getAllUnits(OrganizationUnit unit, Collection<OrganizationUnitType> unitTypesFilter, boolean noInheritanceOfOrganizationalUnits) {
-		Set<OrganizationUnit> result = new HashSet<>();
-		Set<OrganizationUnit> traversedNodes = new HashSet<>();
-		Set<OrganizationUnitType> filter = unitTypesFilter != null && !unitTypesFilter.isEmpty() ? new HashSet<>(unitTypesFilter) : null;
+		return OrganizationTreeIndex.toUnits(getAllUnitIds(unit, unitTypesFilter, noInheritanceOfOrganizationalUnits));
+	}
+
+	public static BitSet getAllUnitIds(OrganizationUnit unit, Collection<OrganizationUnitType> unitTypesFilter, boolean noInheritanceOfOrganizationalUnits) {
+		if (unit == null) {
+			return new BitSet();
+		}
 		if (noInheritanceOfOrganizationalUnits) {
+			BitSet result = new BitSet();
 			if (unitTypesFilter == null || unitTypesFilter.contains(unit.getType())) {
-				result.add(unit);
+				result.set(unit.getId());
 			}
 			return result;
 		}
-		calculateAllUnits(unit, filter, traversedNodes, result);
-		return result;
+		if (!unit.isStored()) {
+			BitSet result = new BitSet();
+			calculateAllUnits(unit, unitTypesFilter != null && !unitTypesFilter.isEmpty() ? new HashSet<>(unitTypesFilter) : null, new HashSet<>(), result);
+			return result;
+		}
+		return OrganizationTreeIndex.getIndex(unit.getId()).getSubtreeIds(unit.getId(), unitTypesFilter, true, false);
 	}
 
-	private static void calculateAllUnits(OrganizationUnit unit, Set<OrganizationUnitType> unitTypesFilter, Set<OrganizationUnit> traversedNodes, Set<OrganizationUnit> result) {
+	private static void calculateAllUnits(OrganizationUnit unit, Set<OrganizationUnitType> unitTypesFilter, Set<OrganizationUnit> traversedNodes, BitSet result) {
 		if (unitTypesFilter == null || unitTypesFilter.contains(unit.getType())) {
-			result.add(unit);
+			result.set(unit.getId());
 		}
 		for (OrganizationUnit child : unit.getChildren()) {
 			if (!traversedNodes.contains(child)) {
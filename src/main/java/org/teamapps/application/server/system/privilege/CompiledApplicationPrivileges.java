@@ -0,0 +1,83 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.privilege;
+
+import org.teamapps.application.api.privilege.Privilege;
+import org.teamapps.application.api.privilege.PrivilegeGroup;
+
+import java.util.*;
+
+public class CompiledApplicationPrivileges {
+
+	public static final CompiledApplicationPrivileges EMPTY = new CompiledApplicationPrivileges(Collections.emptyMap());
+
+	private final Map<PrivilegeGroup, CompiledPrivilegeGroup> groupMap;
+
+	public CompiledApplicationPrivileges(Map<PrivilegeGroup, CompiledPrivilegeGroup> groupMap) {
+		this.groupMap = Collections.unmodifiableMap(new LinkedHashMap<>(groupMap));
+	}
+
+	public static CompiledApplicationPrivileges merge(CompiledApplicationPrivileges first, CompiledApplicationPrivileges second) {
+		if (first == null || first.isEmpty()) {
+			return second != null ? second : EMPTY;
+		} else if (second == null || second.isEmpty()) {
+			return first;
+		}
+		Map<PrivilegeGroup, CompiledPrivilegeGroup> map = new LinkedHashMap<>(first.groupMap);
+		second.groupMap.forEach((group, compiledGroup) -> map.merge(group, compiledGroup, CompiledPrivilegeGroup::merge));
+		return new CompiledApplicationPrivileges(map);
+	}
+
+	public boolean isEmpty() {
+		return groupMap.isEmpty();
+	}
+
+	public boolean isEquivalent(CompiledApplicationPrivileges other) {
+		if (other == this) {
+			return true;
+		}
+		if (other == null || !groupMap.keySet().equals(other.groupMap.keySet())) {
+			return false;
+		}
+		for (Map.Entry<PrivilegeGroup, CompiledPrivilegeGroup> entry : groupMap.entrySet()) {
+			if (!entry.getValue().isEquivalent(other.groupMap.get(entry.getKey()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public CompiledPrivilegeGroup getGroup(PrivilegeGroup privilegeGroup) {
+		return groupMap.get(privilegeGroup);
+	}
+
+	public List<PrivilegeGroup> getPrivilegeGroups() {
+		return new ArrayList<>(groupMap.keySet());
+	}
+
+	public Collection<CompiledPrivilegeGroup> getCompiledGroups() {
+		return groupMap.values();
+	}
+
+	public List<Privilege> getAllowedPrivileges(PrivilegeGroup privilegeGroup) {
+		CompiledPrivilegeGroup group = groupMap.get(privilegeGroup);
+		return group != null ? group.getAllowedPrivileges() : Collections.emptyList();
+	}
+}
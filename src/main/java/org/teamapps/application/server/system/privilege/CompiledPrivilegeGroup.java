@@ -0,0 +1,270 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.privilege;
+
+import org.teamapps.application.api.privilege.Privilege;
+import org.teamapps.application.api.privilege.PrivilegeGroup;
+import org.teamapps.application.api.privilege.PrivilegeObject;
+import org.teamapps.model.controlcenter.OrganizationUnitView;
+
+import java.util.*;
+
+public class CompiledPrivilegeGroup {
+
+	private static final BitSet EMPTY = new BitSet(0);
+
+	private final PrivilegeGroup privilegeGroup;
+	private final Privilege[] privileges;
+	private final BitSet allowedPrivileges;
+	private final BitSet[] unitIdsByPrivilege;
+	private final BitSet[] objectIdsByPrivilege;
+	private final Map<Integer, PrivilegeObject> privilegeObjectById;
+	private final Map<Privilege, Integer> indexByPrivilege = new HashMap<>();
+
+	private CompiledPrivilegeGroup(PrivilegeGroup privilegeGroup, Privilege[] privileges, BitSet allowedPrivileges, BitSet[] unitIdsByPrivilege, BitSet[] objectIdsByPrivilege, Map<Integer, PrivilegeObject> privilegeObjectById) {
+		this.privilegeGroup = privilegeGroup;
+		this.privileges = privileges;
+		this.allowedPrivileges = allowedPrivileges;
+		this.unitIdsByPrivilege = unitIdsByPrivilege;
+		this.objectIdsByPrivilege = objectIdsByPrivilege;
+		this.privilegeObjectById = privilegeObjectById;
+		for (int i = 0; i < privileges.length; i++) {
+			if (privileges[i] != null) {
+				indexByPrivilege.putIfAbsent(privileges[i], i);
+			}
+		}
+	}
+
+	public static Builder builder(PrivilegeGroup privilegeGroup) {
+		return new Builder(privilegeGroup);
+	}
+
+	public static CompiledPrivilegeGroup merge(CompiledPrivilegeGroup first, CompiledPrivilegeGroup second) {
+		if (first == null) {
+			return second;
+		} else if (second == null) {
+			return first;
+		}
+		Builder builder = new Builder(first.privilegeGroup);
+		builder.addAll(first);
+		builder.addAll(second);
+		return builder.build();
+	}
+
+	public PrivilegeGroup getPrivilegeGroup() {
+		return privilegeGroup;
+	}
+
+	public boolean isEquivalent(CompiledPrivilegeGroup other) {
+		return other != null
+				&& Arrays.equals(privileges, other.privileges)
+				&& allowedPrivileges.equals(other.allowedPrivileges)
+				&& Arrays.equals(unitIdsByPrivilege, other.unitIdsByPrivilege)
+				&& Arrays.equals(objectIdsByPrivilege, other.objectIdsByPrivilege);
+	}
+
+	public boolean isGroupAllowed() {
+		return allowedPrivileges.get(0);
+	}
+
+	public boolean isAllowed(Privilege privilege) {
+		int index = indexOf(privilege);
+		return index >= 0 && allowedPrivileges.get(index);
+	}
+
+	public boolean isUnitAllowed(int privilegeIndex, int organizationUnitId) {
+		return privilegeIndex >= 0 && privilegeIndex < unitIdsByPrivilege.length && organizationUnitId > 0 && unitIdsByPrivilege[privilegeIndex].get(organizationUnitId);
+	}
+
+	public boolean isUnitAllowed(Privilege privilege, OrganizationUnitView organizationUnitView) {
+		return organizationUnitView != null && isUnitAllowed(indexOf(privilege), organizationUnitView.getId());
+	}
+
+	public boolean isObjectAllowed(int privilegeIndex, int privilegeObjectId) {
+		return privilegeIndex >= 0 && privilegeIndex < objectIdsByPrivilege.length && privilegeObjectId >= 0 && objectIdsByPrivilege[privilegeIndex].get(privilegeObjectId);
+	}
+
+	public boolean isObjectAllowed(Privilege privilege, PrivilegeObject privilegeObject) {
+		return privilegeObject != null && isObjectAllowed(indexOf(privilege), privilegeObject.getId());
+	}
+
+	public List<Privilege> getAllowedPrivileges() {
+		List<Privilege> result = new ArrayList<>(allowedPrivileges.cardinality());
+		for (int i = allowedPrivileges.nextSetBit(0); i >= 0; i = allowedPrivileges.nextSetBit(i + 1)) {
+			if (privileges[i] != null) {
+				result.add(privileges[i]);
+			}
+		}
+		return result;
+	}
+
+	public BitSet getAllowedUnitIds(int privilegeIndex) {
+		return privilegeIndex >= 0 && privilegeIndex < unitIdsByPrivilege.length ? (BitSet) unitIdsByPrivilege[privilegeIndex].clone() : new BitSet();
+	}
+
+	public List<OrganizationUnitView> getAllowedUnits(int privilegeIndex) {
+		if (privilegeIndex < 0 || privilegeIndex >= unitIdsByPrivilege.length) {
+			return Collections.emptyList();
+		}
+		BitSet unitIds = unitIdsByPrivilege[privilegeIndex];
+		List<OrganizationUnitView> result = new ArrayList<>(unitIds.cardinality());
+		for (int id = unitIds.nextSetBit(0); id >= 0; id = unitIds.nextSetBit(id + 1)) {
+			result.add(OrganizationUnitView.getById(id));
+		}
+		return result;
+	}
+
+	public List<OrganizationUnitView> getAllowedUnits(Privilege privilege) {
+		return getAllowedUnits(indexOf(privilege));
+	}
+
+	public List<PrivilegeObject> getAllowedPrivilegeObjects(int privilegeIndex) {
+		if (privilegeIndex < 0 || privilegeIndex >= objectIdsByPrivilege.length) {
+			return Collections.emptyList();
+		}
+		BitSet objectIds = objectIdsByPrivilege[privilegeIndex];
+		List<PrivilegeObject> result = new ArrayList<>(objectIds.cardinality());
+		for (int id = objectIds.nextSetBit(0); id >= 0; id = objectIds.nextSetBit(id + 1)) {
+			result.add(privilegeObjectById.get(id));
+		}
+		return result;
+	}
+
+	public List<PrivilegeObject> getAllowedPrivilegeObjects(Privilege privilege) {
+		return getAllowedPrivilegeObjects(indexOf(privilege));
+	}
+
+	public int indexOf(Privilege privilege) {
+		if (privilege == null) {
+			return -1;
+		}
+		Integer index = indexByPrivilege.get(privilege);
+		return index != null ? index : -1;
+	}
+
+	public static class Builder {
+
+		private final PrivilegeGroup privilegeGroup;
+		private final List<Privilege> privileges = new ArrayList<>();
+		private final Map<Privilege, Integer> indexByPrivilege = new HashMap<>();
+		private final BitSet allowedPrivileges = new BitSet();
+		private final List<BitSet> unitIdsByPrivilege = new ArrayList<>();
+		private final List<BitSet> objectIdsByPrivilege = new ArrayList<>();
+		private final Map<Integer, PrivilegeObject> privilegeObjectById = new HashMap<>();
+
+		private Builder(PrivilegeGroup privilegeGroup) {
+			this.privilegeGroup = privilegeGroup;
+			if (privilegeGroup.getPrivileges() != null) {
+				privilegeGroup.getPrivileges().forEach(this::addPrivilege);
+			}
+			if (privileges.isEmpty()) {
+				privileges.add(null);
+			}
+		}
+
+		private void addPrivilege(Privilege privilege) {
+			if (privilege != null) {
+				indexByPrivilege.putIfAbsent(privilege, privileges.size());
+			}
+			privileges.add(privilege);
+		}
+
+		private int getIndex(Privilege privilege) {
+			if (privilege == null) {
+				return 0;
+			}
+			Integer index = indexByPrivilege.get(privilege);
+			if (index == null) {
+				index = privileges.size();
+				addPrivilege(privilege);
+			}
+			return index;
+		}
+
+		private BitSet getBits(List<BitSet> bitSets, int index) {
+			while (bitSets.size() <= index) {
+				bitSets.add(new BitSet());
+			}
+			return bitSets.get(index);
+		}
+
+		public Builder allowGroup() {
+			allowedPrivileges.set(0);
+			return this;
+		}
+
+		public Builder allow(Collection<Privilege> privileges) {
+			if (privileges != null) {
+				privileges.forEach(privilege -> allowedPrivileges.set(getIndex(privilege)));
+			}
+			return this;
+		}
+
+		public Builder addUnits(Privilege privilege, BitSet organizationUnitIds) {
+			int index = getIndex(privilege);
+			allowedPrivileges.set(index);
+			getBits(unitIdsByPrivilege, index).or(organizationUnitIds);
+			return this;
+		}
+
+		public Builder addPrivilegeObjects(Privilege privilege, Collection<PrivilegeObject> privilegeObjects) {
+			int index = getIndex(privilege);
+			allowedPrivileges.set(index);
+			BitSet objectIds = getBits(objectIdsByPrivilege, index);
+			if (privilegeObjects != null) {
+				for (PrivilegeObject privilegeObject : privilegeObjects) {
+					if (privilegeObject == null || privilegeObject.getId() < 0) {
+						continue;
+					}
+					objectIds.set(privilegeObject.getId());
+					privilegeObjectById.putIfAbsent(privilegeObject.getId(), privilegeObject);
+				}
+			}
+			return this;
+		}
+
+		private void addAll(CompiledPrivilegeGroup group) {
+			for (int i = 0; i < group.privileges.length; i++) {
+				int index = getIndex(group.privileges[i]);
+				if (group.allowedPrivileges.get(i)) {
+					allowedPrivileges.set(index);
+				}
+				if (i < group.unitIdsByPrivilege.length) {
+					getBits(unitIdsByPrivilege, index).or(group.unitIdsByPrivilege[i]);
+				}
+				if (i < group.objectIdsByPrivilege.length) {
+					getBits(objectIdsByPrivilege, index).or(group.objectIdsByPrivilege[i]);
+				}
+			}
+			group.privilegeObjectById.forEach(privilegeObjectById::putIfAbsent);
+		}
+
+		public CompiledPrivilegeGroup build() {
+			int size = privileges.size();
+			BitSet[] unitIds = new BitSet[size];
+			BitSet[] objectIds = new BitSet[size];
+			for (int i = 0; i < size; i++) {
+				unitIds[i] = i < unitIdsByPrivilege.size() ? (BitSet) unitIdsByPrivilege.get(i).clone() : EMPTY;
+				objectIds[i] = i < objectIdsByPrivilege.size() ? (BitSet) objectIdsByPrivilege.get(i).clone() : EMPTY;
+			}
+			return new CompiledPrivilegeGroup(privilegeGroup, privileges.toArray(new Privilege[0]), (BitSet) allowedPrivileges.clone(), unitIds, objectIds, Map.copyOf(privilegeObjectById));
+		}
+	}
+}
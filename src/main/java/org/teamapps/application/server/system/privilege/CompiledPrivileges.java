@@ -0,0 +1,86 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.privilege;
+
+import org.teamapps.application.api.privilege.PrivilegeGroup;
+import org.teamapps.model.controlcenter.Application;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public class CompiledPrivileges {
+
+	private final Map<PrivilegeApplicationKey, List<Consumer<Map<PrivilegeGroup, CompiledPrivilegeGroup.Builder>>>> grantsByApplicationKey;
+	private final Map<PrivilegeApplicationKey, CompiledApplicationPrivileges> privilegesByApplicationKey = new ConcurrentHashMap<>();
+	private final BitSet applicationIds = new BitSet();
+	private final boolean skippedMultiFactorRequiringPrivileges;
+
+	public CompiledPrivileges(Map<PrivilegeApplicationKey, List<Consumer<Map<PrivilegeGroup, CompiledPrivilegeGroup.Builder>>>> grantsByApplicationKey, boolean skippedMultiFactorRequiringPrivileges) {
+		this.grantsByApplicationKey = Collections.unmodifiableMap(new HashMap<>(grantsByApplicationKey));
+		this.skippedMultiFactorRequiringPrivileges = skippedMultiFactorRequiringPrivileges;
+		for (PrivilegeApplicationKey privilegeApplicationKey : grantsByApplicationKey.keySet()) {
+			applicationIds.set(privilegeApplicationKey.getApplication().getId());
+		}
+	}
+
+	public Set<PrivilegeApplicationKey> getKeys() {
+		return grantsByApplicationKey.keySet();
+	}
+
+	public boolean hasPrivileges(PrivilegeApplicationKey privilegeApplicationKey) {
+		return grantsByApplicationKey.containsKey(privilegeApplicationKey);
+	}
+
+	public boolean hasPrivileges(Application application) {
+		return application != null && applicationIds.get(application.getId());
+	}
+
+	public boolean isCompiled(PrivilegeApplicationKey privilegeApplicationKey) {
+		return privilegesByApplicationKey.containsKey(privilegeApplicationKey);
+	}
+
+	public CompiledApplicationPrivileges getApplicationPrivileges(PrivilegeApplicationKey privilegeApplicationKey) {
+		if (!grantsByApplicationKey.containsKey(privilegeApplicationKey)) {
+			return CompiledApplicationPrivileges.EMPTY;
+		}
+		CompiledApplicationPrivileges applicationPrivileges = privilegesByApplicationKey.get(privilegeApplicationKey);
+		if (applicationPrivileges == null) {
+			applicationPrivileges = compile(privilegeApplicationKey);
+			CompiledApplicationPrivileges existingPrivileges = privilegesByApplicationKey.putIfAbsent(privilegeApplicationKey, applicationPrivileges);
+			if (existingPrivileges != null) {
+				applicationPrivileges = existingPrivileges;
+			}
+		}
+		return applicationPrivileges;
+	}
+
+	private CompiledApplicationPrivileges compile(PrivilegeApplicationKey privilegeApplicationKey) {
+		Map<PrivilegeGroup, CompiledPrivilegeGroup.Builder> builderMap = new LinkedHashMap<>();
+		grantsByApplicationKey.get(privilegeApplicationKey).forEach(grant -> grant.accept(builderMap));
+		Map<PrivilegeGroup, CompiledPrivilegeGroup> groupMap = new LinkedHashMap<>();
+		builderMap.forEach((privilegeGroup, builder) -> groupMap.put(privilegeGroup, builder.build()));
+		return groupMap.isEmpty() ? CompiledApplicationPrivileges.EMPTY : new CompiledApplicationPrivileges(groupMap);
+	}
+
+	public boolean hasSkippedMultiFactorRequiringPrivileges() {
+		return skippedMultiFactorRequiringPrivileges;
+	}
+}
@@ -23,7 +23,6 @@ package org.teamapps.application.server.system.privilege;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.teamapps.application.api.privilege.*;
-import org.teamapps.application.server.system.bootstrap.LoadedApplication;
 import org.teamapps.application.server.system.bootstrap.SystemRegistry;
 import org.teamapps.application.server.system.organization.OrganizationUtils;
 import org.teamapps.application.server.system.utils.RoleUtils;
@@ -32,6 +31,8 @@ import org.teamapps.model.controlcenter.*;
 
 import java.lang.invoke.MethodHandles;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class UserPrivileges {
@@ -39,17 +40,12 @@ public class UserPrivileges {
 
 	private final User user;
 	private final SystemRegistry systemRegistry;
-
-	private final Map<PrivilegeApplicationKey, Set<SimplePrivilege>> simplePrivilegesMap = new HashMap<>();
-	private final Map<PrivilegeApplicationKey, Map<SimpleOrganizationalPrivilege, Set<OrganizationUnitView>>> simpleOrganizationPrivilegeMap = new HashMap<>();
-	private final Map<PrivilegeApplicationKey, Map<SimpleCustomObjectPrivilege, Set<PrivilegeObject>>> simpleCustomObjectPrivilegeMap = new HashMap<>();
-	private final Map<PrivilegeApplicationKey, Map<StandardPrivilegeGroup, Set<Privilege>>> standardPrivilegeMap = new HashMap<>();
-	private final Map<PrivilegeApplicationKey, Map<OrganizationalPrivilegeGroup, Map<Privilege, Set<OrganizationUnitView>>>> organizationPrivilegeGroupMap = new HashMap<>();
-	private final Map<PrivilegeApplicationKey, Map<CustomObjectPrivilegeGroup, Map<Privilege, Set<PrivilegeObject>>>> customObjectPrivilegeGroupMap = new HashMap<>();
-	private final Map<PrivilegeApplicationKey, Map<RoleAssignmentDelegatedCustomPrivilegeGroup, Map<Privilege, Set<PrivilegeObject>>>> roleAssignmentDelegatedCustomPrivilegeMap = new HashMap<>();
+	private final Map<PrivilegeApplicationKey, List<Consumer<Map<PrivilegeGroup, CompiledPrivilegeGroup.Builder>>>> grantsByApplicationKey = new HashMap<>();
 	private final Map<PrivilegeApplicationKey, UserApplicationPrivilege> userApplicationPrivilegeByApplication = new HashMap<>();
+	private CompiledPrivileges compiledPrivileges;
 
 	private boolean skippedMultiFactorRequiringPrivileges;
+	private boolean dynamicPrivilegeObjects;
 
 	public UserPrivileges(User user, SystemRegistry systemRegistry, Role authenticatedUserRole) {
 		this(user, systemRegistry, authenticatedUserRole, false);
@@ -59,18 +55,17 @@ public class UserPrivileges {
 		this.user = user;
 		this.systemRegistry = systemRegistry;
 		calculatePrivileges(authenticatedUserRole, multiFactorAuthenticationProvided);
+		compilePrivileges();
+	}
+
+	public UserPrivileges(User user, CompiledPrivileges compiledPrivileges) {
+		this.user = user;
+		this.systemRegistry = null;
+		this.compiledPrivileges = compiledPrivileges;
 	}
 
 	public Set<PrivilegeApplicationKey> getKeys() {
-		Set<PrivilegeApplicationKey> keySet = new HashSet<>();
-		keySet.addAll(simplePrivilegesMap.keySet());
-		keySet.addAll(simpleOrganizationPrivilegeMap.keySet());
-		keySet.addAll(simpleCustomObjectPrivilegeMap.keySet());
-		keySet.addAll(standardPrivilegeMap.keySet());
-		keySet.addAll(organizationPrivilegeGroupMap.keySet());
-		keySet.addAll(customObjectPrivilegeGroupMap.keySet());
-		keySet.addAll(roleAssignmentDelegatedCustomPrivilegeMap.keySet());
-		return keySet;
+		return new HashSet<>(compiledPrivileges.getKeys());
 	}
 
 	public List<Application> getApplications() {
@@ -87,21 +82,52 @@ public class UserPrivileges {
 	}
 
 	public List<PrivilegeGroup> getPrivilegeGroups(PrivilegeApplicationKey applicationKey) {
-		List<PrivilegeGroup> groups = new ArrayList<>();
-		if (simplePrivilegesMap.containsKey(applicationKey)) groups.addAll(simplePrivilegesMap.get(applicationKey));
-		if (simpleOrganizationPrivilegeMap.containsKey(applicationKey))
-			groups.addAll(simpleOrganizationPrivilegeMap.get(applicationKey).keySet());
-		if (simpleCustomObjectPrivilegeMap.containsKey(applicationKey))
-			groups.addAll(simpleCustomObjectPrivilegeMap.get(applicationKey).keySet());
-		if (standardPrivilegeMap.containsKey(applicationKey))
-			groups.addAll(standardPrivilegeMap.get(applicationKey).keySet());
-		if (organizationPrivilegeGroupMap.containsKey(applicationKey))
-			groups.addAll(organizationPrivilegeGroupMap.get(applicationKey).keySet());
-		if (customObjectPrivilegeGroupMap.containsKey(applicationKey))
-			groups.addAll(customObjectPrivilegeGroupMap.get(applicationKey).keySet());
-		if (roleAssignmentDelegatedCustomPrivilegeMap.containsKey(applicationKey))
-			groups.addAll(roleAssignmentDelegatedCustomPrivilegeMap.get(applicationKey).keySet());
-		return groups;
+		return compiledPrivileges.getApplicationPrivileges(applicationKey).getPrivilegeGroups();
+	}
+
+	public CompiledPrivileges getCompiledPrivileges() {
+		return compiledPrivileges;
+	}
+
+	public CompiledApplicationPrivileges getCompiledApplicationPrivileges(PrivilegeApplicationKey applicationKey) {
+		return compiledPrivileges.getApplicationPrivileges(applicationKey);
+	}
+
+	public boolean hasPrivileges(PrivilegeApplicationKey applicationKey) {
+		return isSuperAdmin() || compiledPrivileges.hasPrivileges(applicationKey);
+	}
+
+	public boolean hasPrivileges(Application application) {
+		return isSuperAdmin() || compiledPrivileges.hasPrivileges(application);
+	}
+
+	public Set<Application> getChangedApplications(UserPrivileges other) {
+		Set<PrivilegeApplicationKey> keys = new HashSet<>(compiledPrivileges.getKeys());
+		keys.addAll(other.compiledPrivileges.getKeys());
+		Set<Application> changedApplications = new HashSet<>();
+		for (PrivilegeApplicationKey key : keys) {
+			if (changedApplications.contains(key.getApplication())) {
+				continue;
+			}
+			if (compiledPrivileges.hasPrivileges(key) != other.compiledPrivileges.hasPrivileges(key)) {
+				changedApplications.add(key.getApplication());
+			} else if (isMaterialized(key) && !getCompiledApplicationPrivileges(key).isEquivalent(other.getCompiledApplicationPrivileges(key))) {
+				changedApplications.add(key.getApplication());
+			}
+		}
+		return changedApplications;
+	}
+
+	private boolean isMaterialized(PrivilegeApplicationKey privilegeApplicationKey) {
+		return compiledPrivileges.isCompiled(privilegeApplicationKey) || userApplicationPrivilegeByApplication.containsKey(privilegeApplicationKey);
+	}
+
+	public boolean hasDynamicPrivilegeObjects() {
+		return dynamicPrivilegeObjects;
+	}
+
+	public boolean isSuperAdmin() {
+		return user.getUserAccountStatus() == UserAccountStatus.SUPER_ADMIN;
 	}
 
 	private void calculatePrivileges(Role authenticatedUserRole, boolean multiFactorAuthenticationProvided) {
@@ -138,6 +164,105 @@ public class UserPrivileges {
 		}
 	}
 
+	private void compilePrivileges() {
+		compiledPrivileges = new CompiledPrivileges(grantsByApplicationKey, skippedMultiFactorRequiringPrivileges);
+		grantsByApplicationKey.clear();
+	}
+
+	private void addGrant(PrivilegeApplicationKey privilegeApplicationKey, Consumer<Map<PrivilegeGroup, CompiledPrivilegeGroup.Builder>> grant) {
+		grantsByApplicationKey.computeIfAbsent(privilegeApplicationKey, key -> new ArrayList<>()).add(grant);
+	}
+
+	private static CompiledPrivilegeGroup.Builder getBuilder(Map<PrivilegeGroup, CompiledPrivilegeGroup.Builder> builderMap, PrivilegeGroup privilegeGroup) {
+		return builderMap.computeIfAbsent(privilegeGroup, CompiledPrivilegeGroup::builder);
+	}
+
+	private List<PrivilegeObject> getPrivilegeObjects(Application application, PrivilegeGroup privilegeGroup, int delegatedCustomPrivilegeObjectId, Supplier<List<PrivilegeObject>> privilegeObjectsSupplier) {
+		switch (privilegeGroup.getType()) {
+			case SIMPLE_CUSTOM_OBJECT_PRIVILEGE:
+			case CUSTOM_OBJECT_PRIVILEGE_GROUP:
+				systemRegistry.getLoadedApplication(application);
+				List<PrivilegeObject> privilegeObjects = privilegeObjectsSupplier != null ? privilegeObjectsSupplier.get() : null;
+				return privilegeObjects != null ? privilegeObjects : Collections.emptyList();
+			case ROLE_ASSIGNMENT_DELEGATED_CUSTOM_PRIVILEGE_GROUP:
+				if (delegatedCustomPrivilegeObjectId <= 0) {
+					return Collections.emptyList();
+				}
+				systemRegistry.getLoadedApplication(application);
+				PrivilegeObject privilegeObject = ((RoleAssignmentDelegatedCustomPrivilegeGroup) privilegeGroup).getPrivilegeObjectById(delegatedCustomPrivilegeObjectId);
+				return privilegeObject != null ? Collections.singletonList(privilegeObject) : Collections.emptyList();
+			default:
+				return Collections.emptyList();
+		}
+	}
+
+	private static boolean isOrganizational(PrivilegeGroup privilegeGroup) {
+		return privilegeGroup.getType() == PrivilegeGroupType.SIMPLE_ORGANIZATIONAL_PRIVILEGE || privilegeGroup.getType() == PrivilegeGroupType.ORGANIZATIONAL_PRIVILEGE_GROUP;
+	}
+
+	private static BitSet getUnitIds(int organizationUnitId, List<Integer> organizationUnitTypeIds, boolean noInheritanceOfOrganizationalUnits) {
+		if (organizationUnitId <= 0) {
+			return new BitSet();
+		}
+		List<OrganizationUnitType> organizationUnitTypeFilter = organizationUnitTypeIds.stream().map(OrganizationUnitType::getById).collect(Collectors.toList());
+		return OrganizationUtils.getAllUnitIds(OrganizationUnit.getById(organizationUnitId), organizationUnitTypeFilter, noInheritanceOfOrganizationalUnits);
+	}
+
+	private static int getId(OrganizationUnit organizationUnit) {
+		return organizationUnit != null ? organizationUnit.getId() : 0;
+	}
+
+	private static List<Integer> getIds(List<OrganizationUnitType> organizationUnitTypes) {
+		return organizationUnitTypes != null ? organizationUnitTypes.stream().map(OrganizationUnitType::getId).collect(Collectors.toList()) : Collections.emptyList();
+	}
+
+	private boolean isBlocked(Application application, PrivilegeGroup privilegeGroup) {
+		return user.getBlockedPrivilegesCount() > 0 && user.getBlockedPrivileges().stream().anyMatch(apg -> apg.getApplication() != null && apg.getApplication().getName().equals(application.getName()) && privilegeGroup.getName().equals(apg.getName()));
+	}
+
+	private static void addPrivilegeGroup(Map<PrivilegeGroup, CompiledPrivilegeGroup.Builder> builderMap, PrivilegeGroup privilegeGroup, List<Privilege> privileges, List<PrivilegeObject> privilegeObjects, BitSet unitIds, int delegatedCustomPrivilegeObjectId) {
+		switch (privilegeGroup.getType()) {
+			case SIMPLE_PRIVILEGE:
+				getBuilder(builderMap, privilegeGroup).allowGroup();
+				break;
+			case SIMPLE_ORGANIZATIONAL_PRIVILEGE:
+				getBuilder(builderMap, privilegeGroup).addUnits(null, unitIds);
+				break;
+			case SIMPLE_CUSTOM_OBJECT_PRIVILEGE:
+				getBuilder(builderMap, privilegeGroup).addPrivilegeObjects(null, privilegeObjects);
+				break;
+			case STANDARD_PRIVILEGE_GROUP:
+				getBuilder(builderMap, privilegeGroup).allow(privileges);
+				break;
+			case ORGANIZATIONAL_PRIVILEGE_GROUP:
+				CompiledPrivilegeGroup.Builder organizationalBuilder = getBuilder(builderMap, privilegeGroup);
+				if (privileges != null) {
+					for (Privilege privilege : privileges) {
+						organizationalBuilder.addUnits(privilege, unitIds);
+					}
+				}
+				break;
+			case CUSTOM_OBJECT_PRIVILEGE_GROUP:
+				CompiledPrivilegeGroup.Builder customObjectBuilder = getBuilder(builderMap, privilegeGroup);
+				if (privileges != null) {
+					for (Privilege privilege : privileges) {
+						customObjectBuilder.addPrivilegeObjects(privilege, privilegeObjects);
+					}
+				}
+				break;
+			case ROLE_ASSIGNMENT_DELEGATED_CUSTOM_PRIVILEGE_GROUP:
+				if (delegatedCustomPrivilegeObjectId > 0) {
+					CompiledPrivilegeGroup.Builder delegatedBuilder = getBuilder(builderMap, privilegeGroup);
+					if (!privilegeObjects.isEmpty() && privileges != null) {
+						for (Privilege privilege : privileges) {
+							delegatedBuilder.addPrivilegeObjects(privilege, privilegeObjects);
+						}
+					}
+				}
+				break;
+		}
+	}
+
 	private void calculatePrivilegesFromApplicationRoleAssignment(OrganizationUnit organizationUnit, Application application, OrganizationField organizationField, RoleApplicationRoleAssignment roleApplicationRoleAssignment, int delegatedCustomPrivilegeObjectId, boolean multiFactorAuthenticationProvided, boolean isDirectRoleOwner) {
 		try {
 			String applicationRoleName = roleApplicationRoleAssignment.getApplicationRoleName();
@@ -145,97 +270,43 @@ public class UserPrivileges {
 			OrganizationUnit fixedOrganizationRoot = roleApplicationRoleAssignment.getFixedOrganizationRoot();
 			List<OrganizationUnitType> organizationUnitTypeFilter = roleApplicationRoleAssignment.getOrganizationUnitTypeFilter();
 			boolean noInheritanceOfOrganizationalUnits = roleApplicationRoleAssignment.isNoInheritanceOfOrganizationalUnits();
-			LoadedApplication loadedApplication = systemRegistry.getLoadedApplication(application);
-			if (loadedApplication != null) {
-				ApplicationRole applicationRole = loadedApplication.getAppPrivilegeProvider().getApplicationRole(applicationRoleName);
+			ApplicationScopePrivilegeProvider privilegeProvider = systemRegistry.getApplicationPrivilegeProvider(application);
+			if (privilegeProvider != null) {
+				ApplicationRole applicationRole = privilegeProvider.getApplicationRole(applicationRoleName);
 				if (applicationRole != null && applicationRole.getPrivilegeGroups() != null) {
-					Set<OrganizationUnit> allUnits = OrganizationUtils.getAllUnits(fixedOrganizationRoot != null ? fixedOrganizationRoot : organizationUnit, organizationUnitTypeFilter, noInheritanceOfOrganizationalUnits);
-					List<OrganizationUnitView> organizationUnitViews = OrganizationUtils.convertList(allUnits);
+					List<PrivilegeGroup> grantedPrivilegeGroups = new ArrayList<>();
 					List<PrivilegeGroup> privilegeGroups = applicationRole.getPrivilegeGroups();
 					for (PrivilegeGroup privilegeGroup : privilegeGroups) {
 						if (privilegeGroup.isInheritanceForbidden() && !isDirectRoleOwner) {
 							continue;
 						}
-						if (user.getBlockedPrivilegesCount() > 0 && user.getBlockedPrivileges().stream().anyMatch(apg -> apg.getApplication() != null && apg.getApplication().getName().equals(application.getName()) && privilegeGroup.getName().equals(apg.getName()))) {
+						if (isBlocked(application, privilegeGroup)) {
 							continue;
 						}
 						if (privilegeGroup.isMultiFactorAuthenticationRequired() && !multiFactorAuthenticationProvided) {
 							skippedMultiFactorRequiringPrivileges = true;
 							continue;
 						}
-						switch (privilegeGroup.getType()) {
-							case SIMPLE_PRIVILEGE:
-								SimplePrivilege simplePrivilege = (SimplePrivilege) privilegeGroup;
-								simplePrivilegesMap
-										.computeIfAbsent(privilegeApplicationKey, app -> new HashSet<>())
-										.add(simplePrivilege);
-								break;
-							case SIMPLE_ORGANIZATIONAL_PRIVILEGE:
-								SimpleOrganizationalPrivilege simpleOrganizationalPrivilege = (SimpleOrganizationalPrivilege) privilegeGroup;
-								simpleOrganizationPrivilegeMap
-										.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-										.computeIfAbsent(simpleOrganizationalPrivilege, s -> new HashSet<>())
-										.addAll(organizationUnitViews);
-								break;
-							case SIMPLE_CUSTOM_OBJECT_PRIVILEGE:
-								SimpleCustomObjectPrivilege simpleCustomObjectPrivilege = (SimpleCustomObjectPrivilege) privilegeGroup;
-								List<PrivilegeObject> privilegeObjects = simpleCustomObjectPrivilege.getPrivilegeObjectsSupplier().get();
-								simpleCustomObjectPrivilegeMap
-										.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-										.computeIfAbsent(simpleCustomObjectPrivilege, s -> new HashSet<>())
-										.addAll(privilegeObjects);
-								break;
-							case STANDARD_PRIVILEGE_GROUP:
-								StandardPrivilegeGroup standardPrivilegeGroup = (StandardPrivilegeGroup) privilegeGroup;
-								List<Privilege> privileges = privilegeGroup.getPrivileges();
-								standardPrivilegeMap
-										.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-										.computeIfAbsent(standardPrivilegeGroup, s -> new HashSet<>())
-										.addAll(privileges);
-								break;
-							case ORGANIZATIONAL_PRIVILEGE_GROUP:
-								OrganizationalPrivilegeGroup organizationalPrivilegeGroup = (OrganizationalPrivilegeGroup) privilegeGroup;
-								List<Privilege> groupPrivileges = privilegeGroup.getPrivileges();
-								Map<Privilege, Set<OrganizationUnitView>> organizationUnitViewsByPrivilege = organizationPrivilegeGroupMap
-										.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-										.computeIfAbsent(organizationalPrivilegeGroup, s -> new HashMap<>());
-								for (Privilege privilege : groupPrivileges) {
-									organizationUnitViewsByPrivilege
-											.computeIfAbsent(privilege, p -> new HashSet<>())
-											.addAll(organizationUnitViews);
-								}
-								break;
-							case CUSTOM_OBJECT_PRIVILEGE_GROUP:
-								CustomObjectPrivilegeGroup customObjectPrivilegeGroup = (CustomObjectPrivilegeGroup) privilegeGroup;
-								List<PrivilegeObject> customPrivileges = customObjectPrivilegeGroup.getPrivilegeObjectsSupplier().get();
-								List<Privilege> customObjectPrivileges = customObjectPrivilegeGroup.getPrivileges();
-								Map<Privilege, Set<PrivilegeObject>> customObjectsByPrivilege = customObjectPrivilegeGroupMap
-										.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-										.computeIfAbsent(customObjectPrivilegeGroup, c -> new HashMap<>());
-								for (Privilege privilege : customObjectPrivileges) {
-									customObjectsByPrivilege
-											.computeIfAbsent(privilege, p -> new HashSet<>())
-											.addAll(customPrivileges);
-								}
-								break;
-							case ROLE_ASSIGNMENT_DELEGATED_CUSTOM_PRIVILEGE_GROUP:
-								if (delegatedCustomPrivilegeObjectId > 0) {
-									RoleAssignmentDelegatedCustomPrivilegeGroup delegatedCustomPrivilegeGroup = (RoleAssignmentDelegatedCustomPrivilegeGroup) privilegeGroup;
-									List<Privilege> delegatedCustomPrivileges = delegatedCustomPrivilegeGroup.getPrivileges();
-									Map<Privilege, Set<PrivilegeObject>> privilegeObjectByPrivilege = roleAssignmentDelegatedCustomPrivilegeMap
-											.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-											.computeIfAbsent(delegatedCustomPrivilegeGroup, s -> new HashMap<>());
-									PrivilegeObject privilegeObject = delegatedCustomPrivilegeGroup.getPrivilegeObjectById(delegatedCustomPrivilegeObjectId);
-									if (privilegeObject != null) {
-										for (Privilege privilege : delegatedCustomPrivileges) {
-											privilegeObjectByPrivilege
-													.computeIfAbsent(privilege, p -> new HashSet<>())
-													.add(privilegeObject);
-										}
-									}
-								}
-								break;
+						if (privilegeGroup.getType() == PrivilegeGroupType.SIMPLE_CUSTOM_OBJECT_PRIVILEGE || privilegeGroup.getType() == PrivilegeGroupType.CUSTOM_OBJECT_PRIVILEGE_GROUP) {
+							dynamicPrivilegeObjects = true;
 						}
+						grantedPrivilegeGroups.add(privilegeGroup);
+					}
+					if (!grantedPrivilegeGroups.isEmpty()) {
+						int organizationUnitId = getId(fixedOrganizationRoot != null ? fixedOrganizationRoot : organizationUnit);
+						List<Integer> organizationUnitTypeIds = getIds(organizationUnitTypeFilter);
+						boolean organizational = grantedPrivilegeGroups.stream().anyMatch(UserPrivileges::isOrganizational);
+						addGrant(privilegeApplicationKey, builderMap -> {
+							BitSet unitIds = organizational ? getUnitIds(organizationUnitId, organizationUnitTypeIds, noInheritanceOfOrganizationalUnits) : new BitSet();
+							for (PrivilegeGroup privilegeGroup : grantedPrivilegeGroups) {
+								try {
+									List<PrivilegeObject> privilegeObjects = getPrivilegeObjects(application, privilegeGroup, delegatedCustomPrivilegeObjectId, privilegeGroup.getPrivilegeObjectsSupplier());
+									addPrivilegeGroup(builderMap, privilegeGroup, privilegeGroup.getPrivileges(), privilegeObjects, unitIds, delegatedCustomPrivilegeObjectId);
+								} catch (Exception e) {
+									e.printStackTrace();
+								}
+							}
+						});
 					}
 				}
 			}
@@ -246,20 +317,13 @@ public class UserPrivileges {
 
 	private void calculatePrivilegesFromRolePrivilegeAssignment(OrganizationUnit organizationUnit, RolePrivilegeAssignment privilegeAssignment, int delegatedCustomPrivilegeObjectId, boolean multiFactorAuthenticationProvided, boolean isDirectRoleOwner) {
 		Application application = privilegeAssignment.getApplication();
-		LoadedApplication loadedApplication = systemRegistry.getLoadedApplication(application);
-		if (loadedApplication != null) {
-			ApplicationScopePrivilegeProvider privilegeProvider = loadedApplication.getAppPrivilegeProvider();
+		ApplicationScopePrivilegeProvider privilegeProvider = systemRegistry.getApplicationPrivilegeProvider(application);
+		if (privilegeProvider != null) {
 			PrivilegeApplicationKey privilegeApplicationKey = PrivilegeApplicationKey.create(privilegeAssignment);
 			OrganizationUnit fixedOrganizationRoot = privilegeAssignment.getFixedOrganizationRoot();
 			List<OrganizationUnitType> organizationUnitTypeFilter = privilegeAssignment.getOrganizationUnitTypeFilter();
 			boolean noInheritanceOfOrganizationalUnits = privilegeAssignment.isNoInheritanceOfOrganizationalUnits();
 			PrivilegeGroup privilegeGroup = privilegeProvider.getPrivilegeGroup(privilegeAssignment.getPrivilegeGroup().getName());
-			List<Privilege> privileges = privilegeProvider.getPrivilegesByNameList(privilegeAssignment.getPrivileges().stream().map(ApplicationPrivilege::getName).collect(Collectors.toList()));
-			boolean privilegeObjectInheritance = privilegeAssignment.getPrivilegeObjectInheritance();
-			List<Integer> privilegeObjectIdList = ValueConverterUtils.decompressIds(privilegeAssignment.getPrivilegeObjects());
-			List<PrivilegeObject> privilegeObjects = privilegeProvider.getPrivilegeObjects(privilegeGroup, privilegeObjectIdList, privilegeObjectInheritance);
-			Set<OrganizationUnit> allUnits = OrganizationUtils.getAllUnits(fixedOrganizationRoot != null ? fixedOrganizationRoot : organizationUnit, organizationUnitTypeFilter, noInheritanceOfOrganizationalUnits);
-			List<OrganizationUnitView> organizationUnitViews = OrganizationUtils.convertList(allUnits);
 			if (privilegeGroup == null) {
 				LOGGER.error("ERROR: missing privilege group from assignment: {}", privilegeAssignment.getPrivilegeGroup().getName());
 				return;
@@ -267,84 +331,31 @@ public class UserPrivileges {
 			if (privilegeGroup.isInheritanceForbidden() && !isDirectRoleOwner) {
 				return;
 			}
-			if (user.getBlockedPrivilegesCount() > 0 && user.getBlockedPrivileges().stream().anyMatch(apg -> apg.getApplication() != null && apg.getApplication().getName().equals(application.getName()) && privilegeGroup.getName().equals(apg.getName()))) {
+			if (isBlocked(application, privilegeGroup)) {
 				return;
 			}
 			if (privilegeGroup.isMultiFactorAuthenticationRequired() && !multiFactorAuthenticationProvided) {
 				skippedMultiFactorRequiringPrivileges = true;
 				return;
 			}
-			try {
-				switch (privilegeGroup.getType()) {
-					case SIMPLE_PRIVILEGE:
-						SimplePrivilege simplePrivilege = (SimplePrivilege) privilegeGroup;
-						simplePrivilegesMap
-								.computeIfAbsent(privilegeApplicationKey, app -> new HashSet<>())
-								.add(simplePrivilege);
-						break;
-					case SIMPLE_ORGANIZATIONAL_PRIVILEGE:
-						SimpleOrganizationalPrivilege simpleOrganizationalPrivilege = (SimpleOrganizationalPrivilege) privilegeGroup;
-						simpleOrganizationPrivilegeMap
-								.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-								.computeIfAbsent(simpleOrganizationalPrivilege, s -> new HashSet<>())
-								.addAll(organizationUnitViews);
-						break;
-					case SIMPLE_CUSTOM_OBJECT_PRIVILEGE:
-						SimpleCustomObjectPrivilege simpleCustomObjectPrivilege = (SimpleCustomObjectPrivilege) privilegeGroup;
-						simpleCustomObjectPrivilegeMap
-								.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-								.computeIfAbsent(simpleCustomObjectPrivilege, s -> new HashSet<>())
-								.addAll(privilegeObjects);
-						break;
-					case STANDARD_PRIVILEGE_GROUP:
-						StandardPrivilegeGroup standardPrivilegeGroup = (StandardPrivilegeGroup) privilegeGroup;
-						standardPrivilegeMap
-								.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-								.computeIfAbsent(standardPrivilegeGroup, s -> new HashSet<>())
-								.addAll(privileges);
-						break;
-					case ORGANIZATIONAL_PRIVILEGE_GROUP:
-						OrganizationalPrivilegeGroup organizationalPrivilegeGroup = (OrganizationalPrivilegeGroup) privilegeGroup;
-						Map<Privilege, Set<OrganizationUnitView>> organizationUnitViewsByPrivilege = organizationPrivilegeGroupMap
-								.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-								.computeIfAbsent(organizationalPrivilegeGroup, s -> new HashMap<>());
-						for (Privilege privilege : privileges) {
-							organizationUnitViewsByPrivilege
-									.computeIfAbsent(privilege, p -> new HashSet<>())
-									.addAll(organizationUnitViews);
-						}
-						break;
-					case CUSTOM_OBJECT_PRIVILEGE_GROUP:
-						CustomObjectPrivilegeGroup customObjectPrivilegeGroup = (CustomObjectPrivilegeGroup) privilegeGroup;
-						Map<Privilege, Set<PrivilegeObject>> customObjectsByPrivilege = customObjectPrivilegeGroupMap
-								.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-								.computeIfAbsent(customObjectPrivilegeGroup, c -> new HashMap<>());
-						for (Privilege privilege : privileges) {
-							customObjectsByPrivilege
-									.computeIfAbsent(privilege, p -> new HashSet<>())
-									.addAll(privilegeObjects);
-						}
-						break;
-					case ROLE_ASSIGNMENT_DELEGATED_CUSTOM_PRIVILEGE_GROUP:
-						if (delegatedCustomPrivilegeObjectId > 0) {
-							RoleAssignmentDelegatedCustomPrivilegeGroup delegatedCustomPrivilegeGroup = (RoleAssignmentDelegatedCustomPrivilegeGroup) privilegeGroup;
-							Map<Privilege, Set<PrivilegeObject>> privilegeObjectByPrivilege = roleAssignmentDelegatedCustomPrivilegeMap
-									.computeIfAbsent(privilegeApplicationKey, app -> new HashMap<>())
-									.computeIfAbsent(delegatedCustomPrivilegeGroup, s -> new HashMap<>());
-							PrivilegeObject privilegeObject = delegatedCustomPrivilegeGroup.getPrivilegeObjectById(delegatedCustomPrivilegeObjectId);
-							if (privilegeObject != null) {
-								for (Privilege privilege : privileges) {
-									privilegeObjectByPrivilege
-											.computeIfAbsent(privilege, p -> new HashSet<>())
-											.add(privilegeObject);
-								}
-							}
-						}
-						break;
-				}
-			} catch (Exception e) {
-				e.printStackTrace();
+			if (privilegeAssignment.getPrivilegeObjectInheritance()) {
+				dynamicPrivilegeObjects = true;
 			}
+			List<String> privilegeNames = privilegeAssignment.getPrivileges().stream().map(ApplicationPrivilege::getName).collect(Collectors.toList());
+			boolean privilegeObjectInheritance = privilegeAssignment.getPrivilegeObjectInheritance();
+			List<Integer> privilegeObjectIdList = ValueConverterUtils.decompressIds(privilegeAssignment.getPrivilegeObjects());
+			int organizationUnitId = getId(fixedOrganizationRoot != null ? fixedOrganizationRoot : organizationUnit);
+			List<Integer> organizationUnitTypeIds = getIds(organizationUnitTypeFilter);
+			addGrant(privilegeApplicationKey, builderMap -> {
+				try {
+					List<Privilege> privileges = privilegeProvider.getPrivilegesByNameList(privilegeNames);
+					List<PrivilegeObject> privilegeObjects = getPrivilegeObjects(application, privilegeGroup, delegatedCustomPrivilegeObjectId, () -> privilegeProvider.getPrivilegeObjects(privilegeGroup, privilegeObjectIdList, privilegeObjectInheritance));
+					BitSet unitIds = isOrganizational(privilegeGroup) ? getUnitIds(organizationUnitId, organizationUnitTypeIds, noInheritanceOfOrganizationalUnits) : new BitSet();
+					addPrivilegeGroup(builderMap, privilegeGroup, privileges, privilegeObjects, unitIds, delegatedCustomPrivilegeObjectId);
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			});
 		}
 	}
 
@@ -360,39 +371,11 @@ public class UserPrivileges {
 		return userApplicationPrivilege;
 	}
 
-	public Map<PrivilegeApplicationKey, Set<SimplePrivilege>> getSimplePrivilegesMap() {
-		return simplePrivilegesMap;
-	}
-
-	public Map<PrivilegeApplicationKey, Map<SimpleOrganizationalPrivilege, Set<OrganizationUnitView>>> getSimpleOrganizationPrivilegeMap() {
-		return simpleOrganizationPrivilegeMap;
-	}
-
-	public Map<PrivilegeApplicationKey, Map<SimpleCustomObjectPrivilege, Set<PrivilegeObject>>> getSimpleCustomObjectPrivilegeMap() {
-		return simpleCustomObjectPrivilegeMap;
-	}
-
-	public Map<PrivilegeApplicationKey, Map<StandardPrivilegeGroup, Set<Privilege>>> getStandardPrivilegeMap() {
-		return standardPrivilegeMap;
-	}
-
-	public Map<PrivilegeApplicationKey, Map<OrganizationalPrivilegeGroup, Map<Privilege, Set<OrganizationUnitView>>>> getOrganizationPrivilegeGroupMap() {
-		return organizationPrivilegeGroupMap;
-	}
-
-	public Map<PrivilegeApplicationKey, Map<CustomObjectPrivilegeGroup, Map<Privilege, Set<PrivilegeObject>>>> getCustomObjectPrivilegeGroupMap() {
-		return customObjectPrivilegeGroupMap;
-	}
-
-	public Map<PrivilegeApplicationKey, Map<RoleAssignmentDelegatedCustomPrivilegeGroup, Map<Privilege, Set<PrivilegeObject>>>> getRoleAssignmentDelegatedCustomPrivilegeMap() {
-		return roleAssignmentDelegatedCustomPrivilegeMap;
-	}
-
 	public User getUser() {
 		return user;
 	}
 
 	public boolean hasSkippedMultiFactorRequiringPrivileges() {
-		return skippedMultiFactorRequiringPrivileges;
+		return compiledPrivileges.hasSkippedMultiFactorRequiringPrivileges();
 	}
 }
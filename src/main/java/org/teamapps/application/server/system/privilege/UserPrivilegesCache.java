@@ -0,0 +1,110 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.privilege;
+
+import org.teamapps.application.server.system.bootstrap.SystemRegistry;
+import org.teamapps.application.server.system.utils.GenerationCache;
+import org.teamapps.model.controlcenter.*;
+
+import java.util.*;
+
+public class UserPrivilegesCache {
+	private static final int MAX_ENTRIES = 10_000;
+
+	private final SystemRegistry systemRegistry;
+	private final GenerationCache<CompiledPrivileges> privilegesBySignature = new GenerationCache<>("privilege profiles", MAX_ENTRIES);
+
+	public UserPrivilegesCache(SystemRegistry systemRegistry) {
+		this.systemRegistry = systemRegistry;
+	}
+
+	public void registerEntityListeners() {
+		systemRegistry.registerEntity(Role.getBuilder(), 0, update -> invalidate("role"));
+		systemRegistry.registerEntity(RolePrivilegeAssignment.getBuilder(), 0, update -> invalidate("role privilege assignment"));
+		systemRegistry.registerEntity(RoleApplicationRoleAssignment.getBuilder(), 0, update -> invalidate("role application role assignment"));
+		systemRegistry.registerEntity(OrganizationUnit.getBuilder(), 0, update -> invalidate("organization unit"));
+	}
+
+	public UserPrivileges getUserPrivileges(User user, Role authenticatedUserRole) {
+		return getUserPrivileges(user, authenticatedUserRole, false);
+	}
+
+	public UserPrivileges getUserPrivileges(User user, Role authenticatedUserRole, boolean multiFactorAuthenticationProvided) {
+		String signature = createSignature(user, authenticatedUserRole, multiFactorAuthenticationProvided);
+		CompiledPrivileges compiledPrivileges = privilegesBySignature.get(signature);
+		if (compiledPrivileges != null) {
+			return new UserPrivileges(user, compiledPrivileges);
+		}
+		long generation = privilegesBySignature.getGeneration();
+		UserPrivileges userPrivileges = new UserPrivileges(user, systemRegistry, authenticatedUserRole, multiFactorAuthenticationProvided);
+		if (!userPrivileges.hasDynamicPrivilegeObjects()) {
+			privilegesBySignature.put(signature, userPrivileges.getCompiledPrivileges(), generation);
+		}
+		return userPrivileges;
+	}
+
+	public UserPrivileges reloadUserPrivileges(User user, Role authenticatedUserRole) {
+		return reloadUserPrivileges(user, authenticatedUserRole, false);
+	}
+
+	public UserPrivileges reloadUserPrivileges(User user, Role authenticatedUserRole, boolean multiFactorAuthenticationProvided) {
+		String signature = createSignature(user, authenticatedUserRole, multiFactorAuthenticationProvided);
+		long generation = privilegesBySignature.getGeneration();
+		UserPrivileges userPrivileges = new UserPrivileges(user, systemRegistry, authenticatedUserRole, multiFactorAuthenticationProvided);
+		if (userPrivileges.hasDynamicPrivilegeObjects()) {
+			privilegesBySignature.remove(signature);
+		} else {
+			privilegesBySignature.replace(signature, userPrivileges.getCompiledPrivileges(), generation);
+		}
+		return userPrivileges;
+	}
+
+	public void invalidate(String reason) {
+		privilegesBySignature.invalidate(reason);
+	}
+
+	public static String createSignature(User user, Role authenticatedUserRole, boolean multiFactorAuthenticationProvided) {
+		List<String> assignments = new ArrayList<>();
+		for (UserRoleAssignment roleAssignment : user.getRoleAssignments()) {
+			if (roleAssignment.getRole() != null) {
+				assignments.add(createAssignmentSignature(roleAssignment.getRole(), roleAssignment.getOrganizationUnit(), roleAssignment.getDelegatedCustomPrivilegeObjectId()));
+			}
+		}
+		if (authenticatedUserRole != null) {
+			assignments.add(createAssignmentSignature(authenticatedUserRole, user.getOrganizationUnit(), 0));
+		}
+		Collections.sort(assignments);
+		StringBuilder sb = new StringBuilder();
+		assignments.forEach(assignment -> sb.append(assignment).append(';'));
+		if (user.getBlockedPrivilegesCount() > 0) {
+			sb.append("|b");
+			user.getBlockedPrivileges().stream()
+					.mapToInt(ApplicationPrivilegeGroup::getId)
+					.sorted()
+					.forEach(id -> sb.append(id).append(','));
+		}
+		sb.append(multiFactorAuthenticationProvided ? "|mfa" : "");
+		return sb.toString();
+	}
+
+	private static String createAssignmentSignature(Role role, OrganizationUnit organizationUnit, int delegatedCustomPrivilegeObjectId) {
+		return role.getId() + "@" + (organizationUnit != null ? organizationUnit.getId() : 0) + "#" + delegatedCustomPrivilegeObjectId;
+	}
+}
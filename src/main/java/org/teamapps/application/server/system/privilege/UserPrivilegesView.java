@@ -49,7 +49,7 @@ public class UserPrivilegesView extends AbstractApplicationView {
 
 	private final UserPrivileges userPrivileges;
 
-	private Map<Privilege, Set<OrganizationUnitView>> privilegeOrgUnitsMap;
+	private CompiledPrivilegeGroup selectedPrivilegeGroup;
 	private ResponsiveForm<?> responsiveForm;
 
 	public UserPrivilegesView(UserPrivileges userPrivileges, ApplicationInstanceData applicationInstanceData) {
@@ -112,27 +112,27 @@ public class UserPrivilegesView extends AbstractApplicationView {
 
 
 		privilegeTable.onSingleRowSelected.addListener(privilege -> {
-			if (privilegeOrgUnitsMap != null) {
-				Set<OrganizationUnitView> organizationUnitViews = privilegeOrgUnitsMap.get(privilege);
+			if (selectedPrivilegeGroup != null) {
+				List<OrganizationUnitView> organizationUnitViews = selectedPrivilegeGroup.getAllowedUnits(privilege);
 				organizationTree.setOrganizationUnits(organizationUnitViews);
 			}
 		});
 
 		tree.onNodeSelected.addListener(node -> {
 			PrivilegeGroup privilegeGroup = node.getPrivilegeGroup();
-			privilegeOrgUnitsMap = null;
+			selectedPrivilegeGroup = null;
 			if (privilegeGroup == null) {
 				privilegeFormPanel.getPanel().setVisible(false);
 				organizationPanel.getPanel().setVisible(false);
 			} else {
-				PrivilegeApplicationKey applicationKey = node.getPrivilegeApplicationKey();
+				CompiledPrivilegeGroup compiledPrivilegeGroup = userPrivileges.getCompiledApplicationPrivileges(node.getPrivilegeApplicationKey()).getGroup(privilegeGroup);
 				if (privilegeGroup instanceof SimplePrivilege) {
 					SimplePrivilege privilege = (SimplePrivilege) privilegeGroup;
 					privilegeFormPanel.getPanel().setVisible(false);
 					organizationPanel.getPanel().setVisible(false);
 				} else if (privilegeGroup instanceof SimpleOrganizationalPrivilege) {
 					SimpleOrganizationalPrivilege privilege = (SimpleOrganizationalPrivilege) privilegeGroup;
-					Set<OrganizationUnitView> organizationUnitViews = userPrivileges.getSimpleOrganizationPrivilegeMap().get(applicationKey).get(privilege);
+					List<OrganizationUnitView> organizationUnitViews = compiledPrivilegeGroup.getAllowedUnits(0);
 					organizationTree.setOrganizationUnits(organizationUnitViews);
 					privilegeFormPanel.getPanel().setVisible(false);
 					organizationPanel.getPanel().setVisible(true);
@@ -142,22 +142,19 @@ public class UserPrivilegesView extends AbstractApplicationView {
 					organizationPanel.getPanel().setVisible(false);
 				} else if (privilegeGroup instanceof StandardPrivilegeGroup) {
 					StandardPrivilegeGroup privilege = (StandardPrivilegeGroup) privilegeGroup;
-					Set<Privilege> privileges = userPrivileges.getStandardPrivilegeMap().get(applicationKey).get(privilege);
-					privilegeModelBuilder.setRecords(new ArrayList<>(privileges));
+					privilegeModelBuilder.setRecords(compiledPrivilegeGroup.getAllowedPrivileges());
 					privilegeFormPanel.getPanel().setVisible(true);
 					organizationPanel.getPanel().setVisible(false);
 				} else if (privilegeGroup instanceof OrganizationalPrivilegeGroup) {
 					OrganizationalPrivilegeGroup privilege = (OrganizationalPrivilegeGroup) privilegeGroup;
-					privilegeOrgUnitsMap = userPrivileges.getOrganizationPrivilegeGroupMap().get(applicationKey).get(privilege);
-					Set<Privilege> privileges = privilegeOrgUnitsMap.keySet();
-					privilegeModelBuilder.setRecords(new ArrayList<>(privileges));
+					selectedPrivilegeGroup = compiledPrivilegeGroup;
+					privilegeModelBuilder.setRecords(compiledPrivilegeGroup.getAllowedPrivileges());
 					organizationTree.setOrganizationUnits(Collections.emptyList());
 					privilegeFormPanel.getPanel().setVisible(true);
 					organizationPanel.getPanel().setVisible(true);
 				} else if (privilegeGroup instanceof CustomObjectPrivilegeGroup) {
 					CustomObjectPrivilegeGroup privilege = (CustomObjectPrivilegeGroup) privilegeGroup;
-					Map<Privilege, Set<PrivilegeObject>> privilegeSetMap = userPrivileges.getCustomObjectPrivilegeGroupMap().get(applicationKey).get(privilege);
-					privilegeModelBuilder.setRecords(new ArrayList<>(privilegeSetMap.keySet()));
+					privilegeModelBuilder.setRecords(compiledPrivilegeGroup.getAllowedPrivileges());
 					privilegeFormPanel.getPanel().setVisible(true);
 					organizationPanel.getPanel().setVisible(false);
 				}
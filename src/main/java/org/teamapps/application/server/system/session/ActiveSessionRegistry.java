@@ -0,0 +1,155 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.session;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ActiveSessionRegistry {
+
+	private final Map<UserSessionData, SessionEntry> sessionMap = new ConcurrentHashMap<>();
+	private final Map<Integer, Set<UserSessionData>> sessionsByUserId = new ConcurrentHashMap<>();
+	private final Map<Integer, Set<UserSessionData>> sessionsByApplicationId = new ConcurrentHashMap<>();
+	private final AtomicInteger count = new AtomicInteger();
+
+	public void add(UserSessionData userSessionData) {
+		long now = System.currentTimeMillis();
+		SessionEntry entry = new SessionEntry(userSessionData.getUser().getId(), now);
+		if (sessionMap.putIfAbsent(userSessionData, entry) == null) {
+			count.incrementAndGet();
+			addToIndex(sessionsByUserId, entry.getUserId(), userSessionData);
+		}
+	}
+
+	public void remove(UserSessionData userSessionData) {
+		SessionEntry entry = sessionMap.remove(userSessionData);
+		if (entry == null) {
+			return;
+		}
+		count.decrementAndGet();
+		removeFromIndex(sessionsByUserId, entry.getUserId(), userSessionData);
+		for (Integer applicationId : entry.getApplicationIds()) {
+			removeFromIndex(sessionsByApplicationId, applicationId, userSessionData);
+		}
+	}
+
+	public void updateActivity(UserSessionData userSessionData) {
+		SessionEntry entry = sessionMap.get(userSessionData);
+		if (entry != null) {
+			entry.lastActivity = System.currentTimeMillis();
+		}
+	}
+
+	public void addApplication(UserSessionData userSessionData, int applicationId) {
+		SessionEntry entry = sessionMap.get(userSessionData);
+		if (entry != null && entry.applicationIds.add(applicationId)) {
+			addToIndex(sessionsByApplicationId, applicationId, userSessionData);
+			if (!sessionMap.containsKey(userSessionData)) {
+				removeFromIndex(sessionsByApplicationId, applicationId, userSessionData);
+			}
+		}
+	}
+
+	public void removeApplication(UserSessionData userSessionData, int applicationId) {
+		SessionEntry entry = sessionMap.get(userSessionData);
+		if (entry != null && entry.applicationIds.remove(applicationId)) {
+			removeFromIndex(sessionsByApplicationId, applicationId, userSessionData);
+		}
+	}
+
+	public boolean contains(UserSessionData userSessionData) {
+		return sessionMap.containsKey(userSessionData);
+	}
+
+	public int getCount() {
+		return count.get();
+	}
+
+	public SessionEntry getEntry(UserSessionData userSessionData) {
+		return sessionMap.get(userSessionData);
+	}
+
+	public List<UserSessionData> getSessions() {
+		return new ArrayList<>(sessionMap.keySet());
+	}
+
+	public Map<UserSessionData, SessionEntry> getSessionEntries() {
+		return new HashMap<>(sessionMap);
+	}
+
+	public List<UserSessionData> getSessionsByUser(int userId) {
+		Set<UserSessionData> sessions = sessionsByUserId.get(userId);
+		return sessions != null ? new ArrayList<>(sessions) : Collections.emptyList();
+	}
+
+	public List<UserSessionData> getSessionsByApplication(int applicationId) {
+		Set<UserSessionData> sessions = sessionsByApplicationId.get(applicationId);
+		return sessions != null ? new ArrayList<>(sessions) : Collections.emptyList();
+	}
+
+	public Set<Integer> getUserIds() {
+		return new HashSet<>(sessionsByUserId.keySet());
+	}
+
+	private static void addToIndex(Map<Integer, Set<UserSessionData>> index, int key, UserSessionData userSessionData) {
+		index.compute(key, (k, sessions) -> {
+			Set<UserSessionData> set = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+			set.add(userSessionData);
+			return set;
+		});
+	}
+
+	private static void removeFromIndex(Map<Integer, Set<UserSessionData>> index, int key, UserSessionData userSessionData) {
+		index.computeIfPresent(key, (k, sessions) -> {
+			sessions.remove(userSessionData);
+			return sessions.isEmpty() ? null : sessions;
+		});
+	}
+
+	public static class SessionEntry {
+		private final int userId;
+		private final long loginTime;
+		private final Set<Integer> applicationIds = ConcurrentHashMap.newKeySet();
+		private volatile long lastActivity;
+
+		private SessionEntry(int userId, long loginTime) {
+			this.userId = userId;
+			this.loginTime = loginTime;
+			this.lastActivity = loginTime;
+		}
+
+		public int getUserId() {
+			return userId;
+		}
+
+		public long getLoginTime() {
+			return loginTime;
+		}
+
+		public long getLastActivity() {
+			return lastActivity;
+		}
+
+		public Set<Integer> getApplicationIds() {
+			return Collections.unmodifiableSet(applicationIds);
+		}
+	}
+}
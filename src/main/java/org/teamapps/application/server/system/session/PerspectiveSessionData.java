@@ -42,6 +42,7 @@ import org.teamapps.application.server.ServerMode;
 import org.teamapps.application.server.system.launcher.PerspectiveByNameLauncher;
 import org.teamapps.application.server.system.organization.OrganizationUtils;
 import org.teamapps.application.server.system.utils.RoleUtils;
+import org.teamapps.application.server.system.utils.UserRoleAssignmentIndex;
 import org.teamapps.application.ux.IconUtils;
 import org.teamapps.databinding.TwoWayBindableValue;
 import org.teamapps.event.Event;
@@ -50,7 +51,6 @@ import org.teamapps.message.protocol.message.Message;
 import org.teamapps.model.controlcenter.*;
 import org.teamapps.protocol.system.SystemLogEntry;
 import org.teamapps.reporting.convert.DocumentConverter;
-import org.teamapps.universaldb.index.numeric.NumericFilter;
 import org.teamapps.universaldb.index.translation.TranslatableText;
 import org.teamapps.universaldb.message.MessageStore;
 import org.teamapps.universaldb.record.EntityBuilder;
@@ -209,7 +209,7 @@ public class PerspectiveSessionData implements ApplicationInstanceData {
 				.setManagedApplicationPerspectiveId(managedApplicationPerspective.getId())
 				.setMessage(title)
 				.setStackTrace(data);
-		userSessionData.getRegistry().getServerRegistry().getSystemLogMessageStore().save(logEntry);
+		userSessionData.getRegistry().getSystemLogWriter().write(logEntry);
 	}
 
 	@Override
@@ -226,7 +226,7 @@ public class PerspectiveSessionData implements ApplicationInstanceData {
 				.setMessage(title)
 				//.setMessage(message)
 				.setStackTrace(ExceptionUtils.getStackTrace(throwable));
-		userSessionData.getRegistry().getServerRegistry().getSystemLogMessageStore().save(logEntry);
+		userSessionData.getRegistry().getSystemLogWriter().write(logEntry);
 	}
 
 	@Override
@@ -321,12 +321,10 @@ public class PerspectiveSessionData implements ApplicationInstanceData {
 			case OTHER -> RoleType.OTHER;
 		};
 		OrganizationField organizationField = OrganizationUtils.convert(organizationFieldView);
-		return UserRoleAssignment.filter()
-				.organizationUnit(NumericFilter.equalsFilter(orgUnit.getId()))
-				.execute()
+		return UserRoleAssignmentIndex.toAssignments(UserRoleAssignmentIndex.getIndex().getAssignmentIdsByUnit(orgUnit.getId()))
 				.stream()
-				.filter(userRoleAssignment -> organizationField == null || userRoleAssignment.getRole().getOrganizationField().equals(organizationField))
-				.filter(userRoleAssignment -> userRoleAssignment.getRole().getRoleType() == roleType)
+				.filter(userRoleAssignment -> userRoleAssignment.getRole() != null && userRoleAssignment.getRole().getRoleType() == roleType)
+				.filter(userRoleAssignment -> organizationField == null || organizationField.equals(userRoleAssignment.getRole().getOrganizationField()))
 				.filter(userRoleAssignment -> userRoleAssignment.getUser() != null)
 				.filter(userRoleAssignment -> userRoleAssignment.getDelegatedCustomPrivilegeObjectId() == 0)
 				.sorted(RoleUtils.createRoleTypeAndMainResponsibleComparator())
@@ -339,12 +337,10 @@ public class PerspectiveSessionData implements ApplicationInstanceData {
 			return null;
 		}
 		OrganizationField organizationField = OrganizationUtils.convert(organizationFieldView);
-		return UserRoleAssignment.filter()
-				.organizationUnit(NumericFilter.equalsFilter(orgUnit.getId()))
-				.execute()
+		return UserRoleAssignmentIndex.toAssignments(UserRoleAssignmentIndex.getIndex().getAssignmentIdsByDelegatedObjectId(objectId))
 				.stream()
-				.filter(userRoleAssignment -> organizationField == null || userRoleAssignment.getRole().getOrganizationField().equals(organizationField))
-				.filter(userRoleAssignment -> userRoleAssignment.getDelegatedCustomPrivilegeObjectId() == objectId)
+				.filter(userRoleAssignment -> userRoleAssignment.getOrganizationUnit() != null && userRoleAssignment.getOrganizationUnit().getId() == orgUnit.getId())
+				.filter(userRoleAssignment -> organizationField == null || (userRoleAssignment.getRole() != null && organizationField.equals(userRoleAssignment.getRole().getOrganizationField())))
 				.filter(userRoleAssignment -> userRoleAssignment.getUser() != null)
 				.sorted(RoleUtils.createRoleTypeAndMainResponsibleComparator())
 				.map(assignment -> assignment.getUser().getId())
@@ -168,7 +168,7 @@ public class UnmanagedApplicationSessionData implements ApplicationInstanceData
 				.setManagedApplicationId(managedApplication.getId())
 				.setMessage(title)
 				.setStackTrace(data);
-		userSessionData.getRegistry().getServerRegistry().getSystemLogMessageStore().save(logEntry);
+		userSessionData.getRegistry().getSystemLogWriter().write(logEntry);
 	}
 
 	@Override
@@ -184,7 +184,7 @@ public class UnmanagedApplicationSessionData implements ApplicationInstanceData
 				.setMessage(title)
 //				.setMessage(message)
 				.setStackTrace(ExceptionUtils.getStackTrace(throwable));
-		userSessionData.getRegistry().getServerRegistry().getSystemLogMessageStore().save(logEntry);
+		userSessionData.getRegistry().getSystemLogWriter().write(logEntry);
 	}
 
 	@Override
@@ -105,7 +105,7 @@ public class UserSessionData {
 		this.authenticatedUserRole = authenticatedUserRole;
 		this.appLogin = appLogin;
 		this.userAppConferenceHandler = userAppConferenceHandler;
-		this.userPrivileges = new UserPrivileges(user, registry, authenticatedUserRole);
+		this.userPrivileges = registry.getUserPrivilegesCache().getUserPrivileges(user, authenticatedUserRole);
 		this.sessionUser = new SessionUserImpl(this);
 		this.localizationRankedLanguages = createLocalizationRankedLanguages();
 		this.iconProvider = context.getIconProvider();
@@ -118,8 +118,9 @@ public class UserSessionData {
 	}
 
 	public void reloadPrivileges() {
-		this.userPrivileges = new UserPrivileges(user, registry, authenticatedUserRole);
-		applicationLauncher.reloadUserPrivileges();
+		UserPrivileges previousPrivileges = userPrivileges;
+		this.userPrivileges = registry.getUserPrivilegesCache().reloadUserPrivileges(user, authenticatedUserRole);
+		applicationLauncher.reloadUserPrivileges(previousPrivileges != null ? previousPrivileges.getChangedApplications(userPrivileges) : null);
 	}
 
 	private List<String> createLocalizationRankedLanguages() {
@@ -143,6 +144,7 @@ public class UserSessionData {
 	}
 
 	public void addActivity() {
+		registry.getActiveSessionRegistry().updateActivity(this);
 		if (loginData == null) {
 			LOGGER.error("Error: missing login data");
 			return;
@@ -272,6 +274,7 @@ public class UserSessionData {
 	}
 
 	public void invalidate() {
+		registry.removeActiveUser(this);
 		sessionUser.onUserLogout().fireIgnoringExceptions(null);
 		userPrivileges = null;
 		if (loginData != null) {
@@ -293,6 +296,14 @@ public class UserSessionData {
 		return sessionUser.getRankedLanguages();
 	}
 
+	public List<String> getLocalizationRankedLanguages() {
+		return localizationRankedLanguages;
+	}
+
+	public Role getAuthenticatedUserRole() {
+		return authenticatedUserRole;
+	}
+
 	public Supplier<ApplicationDesktop> getApplicationDesktopSupplier() {
 		return applicationDesktopSupplier;
 	}
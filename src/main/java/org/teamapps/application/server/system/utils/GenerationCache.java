@@ -0,0 +1,86 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class GenerationCache<VALUE> {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private final String name;
+	private final Map<String, VALUE> valuesByKey;
+	private long generation;
+
+	public GenerationCache(String name, int maxEntries) {
+		this.name = name;
+		this.valuesByKey = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, VALUE> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	public VALUE get(String key) {
+		return valuesByKey.get(key);
+	}
+
+	public long getGeneration() {
+		synchronized (valuesByKey) {
+			return generation;
+		}
+	}
+
+	public void put(String key, VALUE value, long expectedGeneration) {
+		synchronized (valuesByKey) {
+			if (expectedGeneration == generation) {
+				valuesByKey.putIfAbsent(key, value);
+			}
+		}
+	}
+
+	public void replace(String key, VALUE value, long expectedGeneration) {
+		synchronized (valuesByKey) {
+			if (expectedGeneration == generation) {
+				valuesByKey.put(key, value);
+			}
+		}
+	}
+
+	public void remove(String key) {
+		valuesByKey.remove(key);
+	}
+
+	public void invalidate(String reason) {
+		synchronized (valuesByKey) {
+			generation++;
+			if (!valuesByKey.isEmpty()) {
+				LOGGER.info("Invalidate {} cached {}, reason: {}", valuesByKey.size(), name, reason);
+				valuesByKey.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,280 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.teamapps.model.controlcenter.Role;
+
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+import java.util.function.Function;
+
+public class RoleGraphIndex {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	private static final int[] NO_EDGES = new int[0];
+
+	private static volatile RoleGraphIndex currentIndex;
+	private static volatile boolean dirty = true;
+
+	private enum Edge {
+		SPECIALIZATION(Role::getSpecializationRoles),
+		GENERALIZATION(Role::getGeneralizationRoles),
+		PRIVILEGES_SENDING(Role::getPrivilegesSendingRoles),
+		PRIVILEGES_RECEIVING(Role::getPrivilegesReceivingRoles);
+
+		private final Function<Role, List<Role>> edgeFunction;
+
+		Edge(Function<Role, List<Role>> edgeFunction) {
+			this.edgeFunction = edgeFunction;
+		}
+	}
+
+	private enum Closure {
+		ROLE_INSTANCES(Edge.SPECIALIZATION),
+		GENERALIZATIONS(Edge.GENERALIZATION),
+		PRIVILEGE_ROLES(Edge.GENERALIZATION, Edge.PRIVILEGES_SENDING),
+		RIGHTS_RECEIVING_ROLES(Edge.SPECIALIZATION, Edge.PRIVILEGES_RECEIVING);
+
+		private final Edge[] edges;
+
+		Closure(Edge... edges) {
+			this.edges = edges;
+		}
+	}
+
+	private final int maxId;
+	private final int[][][] adjacencyByEdge;
+	private final BitSet[][] closuresByType;
+
+	private RoleGraphIndex(List<Role> roles) {
+		maxId = roles.stream().mapToInt(Role::getId).max().orElse(0);
+		adjacencyByEdge = new int[Edge.values().length][][];
+		for (Edge edge : Edge.values()) {
+			adjacencyByEdge[edge.ordinal()] = createAdjacency(roles, edge);
+		}
+		closuresByType = new BitSet[Closure.values().length][maxId + 1];
+		for (Role role : roles) {
+			for (Closure closure : Closure.values()) {
+				closuresByType[closure.ordinal()][role.getId()] = calculateClosure(role.getId(), closure.edges);
+			}
+		}
+		BitSet cyclicRoles = new BitSet();
+		for (Role role : roles) {
+			int id = role.getId();
+			if (isCyclic(id, Edge.GENERALIZATION, Closure.GENERALIZATIONS) || isCyclic(id, Edge.SPECIALIZATION, Closure.ROLE_INSTANCES)) {
+				cyclicRoles.set(id);
+			}
+		}
+		if (!cyclicRoles.isEmpty()) {
+			LOGGER.warn("Role graph contains cycles, affected role ids: {}", cyclicRoles);
+		}
+	}
+
+	public static RoleGraphIndex getIndex() {
+		RoleGraphIndex index = currentIndex;
+		if (index == null || dirty) {
+			synchronized (RoleGraphIndex.class) {
+				if (currentIndex == null || dirty) {
+					dirty = false;
+					currentIndex = new RoleGraphIndex(Role.getAll());
+				}
+				index = currentIndex;
+			}
+		}
+		return index;
+	}
+
+	private static RoleGraphIndex rebuild(RoleGraphIndex outdatedIndex) {
+		synchronized (RoleGraphIndex.class) {
+			if (currentIndex == outdatedIndex) {
+				dirty = false;
+				currentIndex = new RoleGraphIndex(Role.getAll());
+			}
+			return currentIndex;
+		}
+	}
+
+	public static void invalidate() {
+		dirty = true;
+	}
+
+	private int[][] createAdjacency(List<Role> roles, Edge edge) {
+		int[][] adjacency = new int[maxId + 1][];
+		for (Role role : roles) {
+			adjacency[role.getId()] = toSortedIds(edge.edgeFunction.apply(role));
+		}
+		return adjacency;
+	}
+
+	private static int[] toSortedIds(List<Role> roles) {
+		return roles.isEmpty() ? NO_EDGES : roles.stream().mapToInt(Role::getId).sorted().toArray();
+	}
+
+	private int[] getEdges(Edge edge, int roleId) {
+		int[] targets = roleId <= maxId ? adjacencyByEdge[edge.ordinal()][roleId] : null;
+		return targets != null ? targets : NO_EDGES;
+	}
+
+	private BitSet calculateClosure(int roleId, Edge... edges) {
+		BitSet closure = new BitSet();
+		int[] queue = new int[16];
+		int head = 0;
+		int tail = 0;
+		closure.set(roleId);
+		queue[tail++] = roleId;
+		while (head < tail) {
+			int id = queue[head++];
+			for (Edge edge : edges) {
+				for (int target : getEdges(edge, id)) {
+					if (!closure.get(target)) {
+						closure.set(target);
+						if (tail == queue.length) {
+							queue = Arrays.copyOf(queue, queue.length * 2);
+						}
+						queue[tail++] = target;
+					}
+				}
+			}
+		}
+		return closure;
+	}
+
+	private boolean isCyclic(int roleId, Edge edge, Closure closure) {
+		BitSet[] closures = closuresByType[closure.ordinal()];
+		for (int target : getEdges(edge, roleId)) {
+			if (target == roleId || (target <= maxId && closures[target] != null && closures[target].get(roleId))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isCurrent(BitSet roleIds, Edge... edges) {
+		for (int id = roleIds.nextSetBit(0); id >= 0; id = roleIds.nextSetBit(id + 1)) {
+			Role role = Role.getById(id);
+			if (!role.isStored()) {
+				return false;
+			}
+			for (Edge edge : edges) {
+				if (!Arrays.equals(getEdges(edge, id), toSortedIds(edge.edgeFunction.apply(role)))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	public boolean contains(int roleId) {
+		return roleId > 0 && roleId <= maxId && closuresByType[Closure.ROLE_INSTANCES.ordinal()][roleId] != null;
+	}
+
+	private BitSet get(Closure closure, Role role) {
+		int id = role.getId();
+		BitSet roleIds = id <= maxId ? closuresByType[closure.ordinal()][id] : null;
+		if (roleIds == null) {
+			roleIds = new BitSet();
+			roleIds.set(id);
+		}
+		return roleIds;
+	}
+
+	private BitSet getClosure(Closure closure, Role role) {
+		if (role == null) {
+			return new BitSet();
+		}
+		if (!role.isStored()) {
+			BitSet roleIds = new BitSet();
+			calculateLiveClosure(role, closure.edges).forEach(liveRole -> roleIds.set(liveRole.getId()));
+			return roleIds;
+		}
+		BitSet roleIds = get(closure, role);
+		if (isCurrent(roleIds, closure.edges)) {
+			return roleIds;
+		}
+		LOGGER.info("Role graph of role {} has changed, rebuilding role graph index", role.getId());
+		return rebuild(this).get(closure, role);
+	}
+
+	private Set<Role> getRoles(Closure closure, Role role) {
+		if (role != null && !role.isStored()) {
+			return calculateLiveClosure(role, closure.edges);
+		}
+		return toRoles(getClosure(closure, role));
+	}
+
+	private static Set<Role> calculateLiveClosure(Role role, Edge... edges) {
+		Set<Role> closure = new HashSet<>();
+		Deque<Role> queue = new ArrayDeque<>();
+		closure.add(role);
+		queue.add(role);
+		while (!queue.isEmpty()) {
+			Role current = queue.poll();
+			for (Edge edge : edges) {
+				for (Role target : edge.edgeFunction.apply(current)) {
+					if (closure.add(target)) {
+						queue.add(target);
+					}
+				}
+			}
+		}
+		return closure;
+	}
+
+	public BitSet getRoleInstanceIds(Role role) {
+		return (BitSet) getClosure(Closure.ROLE_INSTANCES, role).clone();
+	}
+
+	public BitSet getGeneralizationIds(Role role) {
+		return (BitSet) getClosure(Closure.GENERALIZATIONS, role).clone();
+	}
+
+	public BitSet getPrivilegeRoleIds(Role role) {
+		return (BitSet) getClosure(Closure.PRIVILEGE_ROLES, role).clone();
+	}
+
+	public BitSet getRightsReceivingRoleIds(Role role) {
+		return (BitSet) getClosure(Closure.RIGHTS_RECEIVING_ROLES, role).clone();
+	}
+
+	public Set<Role> getRoleInstances(Role role) {
+		return getRoles(Closure.ROLE_INSTANCES, role);
+	}
+
+	public Set<Role> getGeneralizations(Role role) {
+		return getRoles(Closure.GENERALIZATIONS, role);
+	}
+
+	public Set<Role> getPrivilegeRoles(Role role) {
+		return getRoles(Closure.PRIVILEGE_ROLES, role);
+	}
+
+	public Set<Role> getRightsReceivingRoles(Role role) {
+		return getRoles(Closure.RIGHTS_RECEIVING_ROLES, role);
+	}
+
+	public static Set<Role> toRoles(BitSet roleIds) {
+		Set<Role> roles = new HashSet<>();
+		for (int id = roleIds.nextSetBit(0); id >= 0; id = roleIds.nextSetBit(id + 1)) {
+			roles.add(Role.getById(id));
+		}
+		return roles;
+	}
+}
@@ -24,6 +24,7 @@ import org.teamapps.application.api.privilege.ApplicationRole;
 import org.teamapps.application.api.privilege.PrivilegeGroup;
 import org.teamapps.application.server.system.bootstrap.SystemRegistry;
 import org.teamapps.application.server.system.organization.OrganizationUtils;
+import org.teamapps.application.server.system.privilege.ApplicationScopePrivilegeProvider;
 import org.teamapps.application.server.system.privilege.MergedApplicationPrivileges;
 import org.teamapps.application.server.system.session.UserSessionData;
 import org.teamapps.application.ux.IconUtils;
@@ -35,102 +36,58 @@ import java.util.stream.Collectors;
 public class RoleUtils {
 
 	public static Set<Role> getAllRoleInstances(Role role) {
-		Set<Role> roleSet = new HashSet<>();
 		if (role == null) {
-			return roleSet;
-		}
-		calculateRoleInstances(role, roleSet);
-		return roleSet;
-	}
-
-	private static void calculateRoleInstances(Role role, Set<Role> roleSet) {
-		if (!roleSet.contains(role)) {
-			roleSet.add(role);
-			for (Role specializationRole : role.getSpecializationRoles()) {
-				calculateRoleInstances(specializationRole, roleSet);
-			}
+			return new HashSet<>();
 		}
+		return RoleGraphIndex.getIndex().getRoleInstances(role);
 	}
 
 	public static Set<Role> getRoleWithGeneralizations(Role role) {
-		Set<Role> roleSet = new HashSet<>();
-		calculateRoleGeneralizations(role, roleSet);
-		return roleSet;
-	}
-
-	private static void calculateRoleGeneralizations(Role role, Set<Role> roleSet) {
-		if (!roleSet.contains(role)) {
-			roleSet.add(role);
-			for (Role generalizationRole : role.getGeneralizationRoles()) {
-				calculateRoleGeneralizations(generalizationRole, roleSet);
-			}
-		}
+		return RoleGraphIndex.getIndex().getGeneralizations(role);
 	}
 
 	public static Set<Role> getAllPrivilegeRoles(Role role) {
-		Set<Role> roleSet = new HashSet<>();
-		calculatePrivilegeRoles(role, roleSet);
-		return roleSet;
-	}
-
-	private static void calculatePrivilegeRoles(Role role, Set<Role> roleSet) {
-		if (!roleSet.contains(role)) {
-			roleSet.add(role);
-			for (Role generalizationRole : role.getGeneralizationRoles()) {
-				calculatePrivilegeRoles(generalizationRole, roleSet);
-			}
-			for (Role privilegesSendingRole : role.getPrivilegesSendingRoles()) {
-				calculatePrivilegeRoles(privilegesSendingRole, roleSet);
-			}
-		}
+		return RoleGraphIndex.getIndex().getPrivilegeRoles(role);
 	}
 
 	public static Set<Role> getAllRightsReceivingRoles(Role role) {
-		Set<Role> roleSet = new HashSet<>();
-		calculateRightsReceivingRoles(role, roleSet);
-		return roleSet;
-	}
-
-	private static void calculateRightsReceivingRoles(Role role, Set<Role> roleSet) {
-		if (!roleSet.contains(role)) {
-			roleSet.add(role);
-			for (Role specializationRole : role.getSpecializationRoles()) {
-				calculateRightsReceivingRoles(specializationRole, roleSet);
-			}
-			for (Role privilegesReceivingRole : role.getPrivilegesReceivingRoles()) {
-				calculateRightsReceivingRoles(privilegesReceivingRole, roleSet);
-			}
-		}
+		return RoleGraphIndex.getIndex().getRightsReceivingRoles(role);
 	}
 
 	public static List<UserRoleAssignment> getUserRoleAssignments(Role role, boolean withSpecializationRoles, OrganizationUnit organizationUnit, List<OrganizationUnitType> organizationUnitTypesFilter) {
 		if (role == null || organizationUnit == null) {
 			return Collections.emptyList();
 		}
-		Set<Role> roleSet = withSpecializationRoles ? getAllRoleInstances(role) : new HashSet<>(Collections.singletonList(role));
-		Set<OrganizationUnit> allUnits = OrganizationUtils.getAllUnits(organizationUnit, organizationUnitTypesFilter);
-		return getUserRoleAssignments(roleSet, allUnits);
+		BitSet roleIds = getRoleIds(role, withSpecializationRoles);
+		BitSet unitIds = OrganizationUtils.getAllUnitIds(organizationUnit, organizationUnitTypesFilter, false);
+		return UserRoleAssignmentIndex.toAssignments(UserRoleAssignmentIndex.getIndex().getAssignmentIds(roleIds, unitIds));
 	}
 
 	public static List<UserRoleAssignment> getUserRoleAssignments(Set<Role> roleSet, Set<OrganizationUnit> organizationUnits) {
-		return UserRoleAssignment.getAll().stream()
-				.filter(assignment -> roleSet.contains(assignment.getRole()))
-				.filter(assignment -> organizationUnits.contains(assignment.getOrganizationUnit()))
-				.collect(Collectors.toList());
+		BitSet roleIds = new BitSet();
+		roleSet.forEach(role -> roleIds.set(role.getId()));
+		BitSet unitIds = new BitSet();
+		organizationUnits.forEach(unit -> unitIds.set(unit.getId()));
+		return UserRoleAssignmentIndex.toAssignments(UserRoleAssignmentIndex.getIndex().getAssignmentIds(roleIds, unitIds));
 	}
 
 	public static int getMemberCount(Role role, boolean withSpecializationRoles) {
-		Set<Role> roleSet = withSpecializationRoles ? getAllRoleInstances(role) : new HashSet<>(Collections.singletonList(role));
-		return (int) UserRoleAssignment.getAll().stream()
-				.filter(assignment -> roleSet.contains(assignment.getRole()))
-				.count();
+		return UserRoleAssignmentIndex.getIndex().getCount(getRoleIds(role, withSpecializationRoles));
 	}
 
 	public static List<UserRoleAssignment> getMembers(Role role, boolean withSpecializationRoles) {
-		Set<Role> roleSet = withSpecializationRoles ? getAllRoleInstances(role) : new HashSet<>(Collections.singletonList(role));
-		return UserRoleAssignment.getAll().stream()
-				.filter(assignment -> roleSet.contains(assignment.getRole()))
-				.collect(Collectors.toList());
+		return UserRoleAssignmentIndex.toAssignments(UserRoleAssignmentIndex.getIndex().getAssignmentIdsByRoles(getRoleIds(role, withSpecializationRoles)));
+	}
+
+	private static BitSet getRoleIds(Role role, boolean withSpecializationRoles) {
+		if (withSpecializationRoles) {
+			return RoleGraphIndex.getIndex().getRoleInstanceIds(role);
+		}
+		BitSet roleIds = new BitSet();
+		if (role != null) {
+			roleIds.set(role.getId());
+		}
+		return roleIds;
 	}
 
 	public static Comparator<UserRoleAssignment> createRoleTypeAndMainResponsibleComparator() {
@@ -165,7 +122,7 @@ public class RoleUtils {
 				Application application = applicationRoleAssignment.getApplication();
 				ApplicationLocalizationProvider localizationProvider = userSessionData.getApplicationLocalizationProvider(application);
 				MergedApplicationPrivileges mergedApplicationPrivileges = applicationPrivilegesMap.computeIfAbsent(application.getName(), s -> new MergedApplicationPrivileges(s, IconUtils.decodeIcon(application.getIcon()), localizationProvider.getLocalized(application.getTitleKey()), localizationProvider.getLocalized(application.getDescriptionKey())));
-				ApplicationRole applicationRole = getApplicationRole(application.getName(), applicationRoleAssignment.getApplicationRoleName(), systemRegistry);
+				ApplicationRole applicationRole = getApplicationRole(application, applicationRoleAssignment.getApplicationRoleName(), systemRegistry);
 				if (applicationRole != null) {
 					for (PrivilegeGroup privilegeGroup : applicationRole.getPrivilegeGroups()) {
 						mergedApplicationPrivileges.addPrivilegeGroup(privilegeGroup, localizationProvider);
@@ -186,13 +143,9 @@ public class RoleUtils {
 				.collect(Collectors.toList());
 	}
 
-	public static ApplicationRole getApplicationRole(String applicationName, String applicationRoleName, SystemRegistry systemRegistry) {
-		return systemRegistry.getLoadedApplications().stream()
-				.filter(app -> app.getApplication().getName().equals(applicationName))
-				.filter(app -> app.getBaseApplicationBuilder() != null && app.getBaseApplicationBuilder().getApplicationRoles() != null)
-				.flatMap(app -> app.getBaseApplicationBuilder().getApplicationRoles().stream())
-				.filter(role -> role.getName().equals(applicationRoleName))
-				.findFirst().orElse(null);
+	public static ApplicationRole getApplicationRole(Application application, String applicationRoleName, SystemRegistry systemRegistry) {
+		ApplicationScopePrivilegeProvider privilegeProvider = systemRegistry.getApplicationPrivilegeProvider(application);
+		return privilegeProvider != null ? privilegeProvider.getApplicationRole(applicationRoleName) : null;
 	}
 
 }
@@ -0,0 +1,231 @@
+/*-
+ * ========================LICENSE_START=================================
+ * TeamApps Core System
+ * ---
+ * Copyright (C) 2020 - 2024 TeamApps.org
+ * ---
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.teamapps.application.server.system.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.teamapps.model.controlcenter.OrganizationUnit;
+import org.teamapps.model.controlcenter.Role;
+import org.teamapps.model.controlcenter.UserRoleAssignment;
+
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+public class UserRoleAssignmentIndex {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private static final int[] EMPTY = new int[0];
+
+	private static volatile UserRoleAssignmentIndex currentIndex;
+	private static volatile boolean dirty = true;
+
+	private final int[][] assignmentsByRole;
+	private final int[][] assignmentsByUnit;
+	private final Map<Integer, int[]> assignmentsByDelegatedObjectId;
+	private final int assignmentCount;
+
+	private UserRoleAssignmentIndex(List<UserRoleAssignment> assignments) {
+		assignmentCount = assignments.size();
+		assignmentsByRole = createPostingLists(assignments, assignment -> assignment.getRole() != null ? assignment.getRole().getId() : 0);
+		assignmentsByUnit = createPostingLists(assignments, assignment -> assignment.getOrganizationUnit() != null ? assignment.getOrganizationUnit().getId() : 0);
+		Map<Integer, List<Integer>> delegatedMap = new HashMap<>();
+		for (UserRoleAssignment assignment : assignments) {
+			if (assignment.getDelegatedCustomPrivilegeObjectId() > 0) {
+				delegatedMap.computeIfAbsent(assignment.getDelegatedCustomPrivilegeObjectId(), id -> new ArrayList<>()).add(assignment.getId());
+			}
+		}
+		assignmentsByDelegatedObjectId = new HashMap<>();
+		delegatedMap.forEach((objectId, ids) -> assignmentsByDelegatedObjectId.put(objectId, ids.stream().mapToInt(Integer::intValue).sorted().toArray()));
+	}
+
+	public static UserRoleAssignmentIndex getIndex() {
+		UserRoleAssignmentIndex index = currentIndex;
+		if (index == null || dirty || index.assignmentCount != UserRoleAssignment.getCount()) {
+			synchronized (UserRoleAssignmentIndex.class) {
+				if (currentIndex == null || dirty || currentIndex.assignmentCount != UserRoleAssignment.getCount()) {
+					dirty = false;
+					currentIndex = new UserRoleAssignmentIndex(UserRoleAssignment.getAll());
+				}
+				index = currentIndex;
+			}
+		}
+		return index;
+	}
+
+	private static UserRoleAssignmentIndex rebuild(UserRoleAssignmentIndex outdatedIndex) {
+		synchronized (UserRoleAssignmentIndex.class) {
+			if (currentIndex == outdatedIndex) {
+				dirty = false;
+				currentIndex = new UserRoleAssignmentIndex(UserRoleAssignment.getAll());
+			}
+			return currentIndex;
+		}
+	}
+
+	public static void invalidate() {
+		dirty = true;
+	}
+
+	private static int[][] createPostingLists(List<UserRoleAssignment> assignments, ToIntFunction<UserRoleAssignment> keyFunction) {
+		int[] keys = new int[assignments.size()];
+		int maxKey = 0;
+		for (int i = 0; i < assignments.size(); i++) {
+			keys[i] = keyFunction.applyAsInt(assignments.get(i));
+			maxKey = Math.max(maxKey, keys[i]);
+		}
+		int[] counts = new int[maxKey + 1];
+		for (int key : keys) {
+			counts[key]++;
+		}
+		int[][] postingLists = new int[maxKey + 1][];
+		for (int key = 0; key <= maxKey; key++) {
+			postingLists[key] = counts[key] > 0 ? new int[counts[key]] : EMPTY;
+			counts[key] = 0;
+		}
+		for (int i = 0; i < assignments.size(); i++) {
+			int key = keys[i];
+			postingLists[key][counts[key]++] = assignments.get(i).getId();
+		}
+		for (int[] postingList : postingLists) {
+			Arrays.sort(postingList);
+		}
+		return postingLists;
+	}
+
+	private static int[] get(int[][] postingLists, int key) {
+		return key > 0 && key < postingLists.length ? postingLists[key] : EMPTY;
+	}
+
+	private static BitSet union(int[][] postingLists, BitSet keys) {
+		BitSet result = new BitSet();
+		for (int key = keys.nextSetBit(1); key >= 0 && key < postingLists.length; key = keys.nextSetBit(key + 1)) {
+			for (int assignmentId : postingLists[key]) {
+				result.set(assignmentId);
+			}
+		}
+		return result;
+	}
+
+	private UserRoleAssignmentIndex validateRoles(BitSet roleIds) {
+		for (int roleId = roleIds.nextSetBit(1); roleId >= 0; roleId = roleIds.nextSetBit(roleId + 1)) {
+			if (get(assignmentsByRole, roleId).length != Role.getById(roleId).getUserRoleAssignmentsCount()) {
+				LOGGER.info("Role assignments of role {} have changed, rebuilding role assignment index", roleId);
+				return rebuild(this);
+			}
+		}
+		return this;
+	}
+
+	private UserRoleAssignmentIndex validateUnits(BitSet organizationUnitIds) {
+		for (int unitId = organizationUnitIds.nextSetBit(1); unitId >= 0; unitId = organizationUnitIds.nextSetBit(unitId + 1)) {
+			if (get(assignmentsByUnit, unitId).length != OrganizationUnit.getById(unitId).getUserRoleAssignmentsCount()) {
+				LOGGER.info("Role assignments of organization unit {} have changed, rebuilding role assignment index", unitId);
+				return rebuild(this);
+			}
+		}
+		return this;
+	}
+
+	private static BitSet filter(BitSet assignmentIds, Predicate<UserRoleAssignment> predicate) {
+		for (int id = assignmentIds.nextSetBit(0); id >= 0; id = assignmentIds.nextSetBit(id + 1)) {
+			if (!predicate.test(UserRoleAssignment.getById(id))) {
+				assignmentIds.clear(id);
+			}
+		}
+		return assignmentIds;
+	}
+
+	private static int[] filter(int[] assignmentIds, Predicate<UserRoleAssignment> predicate) {
+		return Arrays.stream(assignmentIds).filter(id -> predicate.test(UserRoleAssignment.getById(id))).toArray();
+	}
+
+	private static boolean hasRole(UserRoleAssignment assignment, BitSet roleIds) {
+		return assignment.getRole() != null && roleIds.get(assignment.getRole().getId());
+	}
+
+	private static boolean hasUnit(UserRoleAssignment assignment, BitSet organizationUnitIds) {
+		return assignment.getOrganizationUnit() != null && organizationUnitIds.get(assignment.getOrganizationUnit().getId());
+	}
+
+	public int[] getAssignmentIdsByRole(int roleId) {
+		BitSet roleIds = new BitSet();
+		roleIds.set(roleId);
+		return filter(get(validateRoles(roleIds).assignmentsByRole, roleId), assignment -> hasRole(assignment, roleIds));
+	}
+
+	public int[] getAssignmentIdsByUnit(int organizationUnitId) {
+		BitSet unitIds = new BitSet();
+		unitIds.set(organizationUnitId);
+		return filter(get(validateUnits(unitIds).assignmentsByUnit, organizationUnitId), assignment -> hasUnit(assignment, unitIds));
+	}
+
+	public int[] getAssignmentIdsByDelegatedObjectId(int delegatedObjectId) {
+		return filter(assignmentsByDelegatedObjectId.getOrDefault(delegatedObjectId, EMPTY), assignment -> assignment.getDelegatedCustomPrivilegeObjectId() == delegatedObjectId);
+	}
+
+	public BitSet getAssignmentIdsByRoles(BitSet roleIds) {
+		return filter(union(validateRoles(roleIds).assignmentsByRole, roleIds), assignment -> hasRole(assignment, roleIds));
+	}
+
+	public BitSet getAssignmentIds(BitSet roleIds, BitSet organizationUnitIds) {
+		if (organizationUnitIds == null) {
+			return getAssignmentIdsByRoles(roleIds);
+		}
+		UserRoleAssignmentIndex index = validateRoles(roleIds).validateUnits(organizationUnitIds);
+		BitSet assignmentIds = union(index.assignmentsByRole, roleIds);
+		assignmentIds.and(union(index.assignmentsByUnit, organizationUnitIds));
+		return filter(assignmentIds, assignment -> hasRole(assignment, roleIds) && hasUnit(assignment, organizationUnitIds));
+	}
+
+	public int getCount(BitSet roleIds) {
+		int count = 0;
+		for (int roleId = roleIds.nextSetBit(1); roleId >= 0; roleId = roleIds.nextSetBit(roleId + 1)) {
+			count += Role.getById(roleId).getUserRoleAssignmentsCount();
+		}
+		return count;
+	}
+
+	public static List<UserRoleAssignment> toAssignments(BitSet assignmentIds) {
+		List<UserRoleAssignment> assignments = new ArrayList<>(assignmentIds.cardinality());
+		for (int id = assignmentIds.nextSetBit(0); id >= 0; id = assignmentIds.nextSetBit(id + 1)) {
+			addStoredAssignment(assignments, id);
+		}
+		return assignments;
+	}
+
+	public static List<UserRoleAssignment> toAssignments(int[] assignmentIds) {
+		List<UserRoleAssignment> assignments = new ArrayList<>(assignmentIds.length);
+		for (int id : assignmentIds) {
+			addStoredAssignment(assignments, id);
+		}
+		return assignments;
+	}
+
+	private static void addStoredAssignment(List<UserRoleAssignment> assignments, int id) {
+		UserRoleAssignment assignment = UserRoleAssignment.getById(id);
+		if (assignment.isStored()) {
+			assignments.add(assignment);
+		} else {
+			invalidate();
+		}
+	}
+}
@@ -152,7 +152,7 @@ public class LocalizationKeyWindow {
 					newLocalizationKey = localizationKey.getKey();
 					formWindow.close();
 					applicationInstanceData.writeActivityLog(Level.INFO, "Created new translation key", userData.toString());
-					systemRegistry.updateGlobalLocalizationProvider();
+					values.forEach(systemRegistry.getGlobalLocalizationProvider()::updateLocalizationValue);
 					systemRegistry.machineTranslateMissingEntries();
 					onNewKey.fire(newLocalizationKey);
 				}